@@ -0,0 +1,143 @@
+package com.dearbella.server.benchmark;
+
+import com.dearbella.server.domain.*;
+import com.dearbella.server.dto.response.banner.BannerDetailResponseDto;
+import com.dearbella.server.dto.response.banner.BannerResponseDto;
+import com.dearbella.server.dto.response.login.LoginResponseDto;
+import com.dearbella.server.dto.response.review.ReviewDetailResponseDto;
+import com.dearbella.server.dto.response.review.ReviewResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.dearbella.server.config.MapperConfig.modelMapper;
+
+/**
+ * ModelMapper(STRICT) 와 DTO 의 of() 비교
+ * ./gradlew jmh
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DtoMapperBenchmark {
+    private Review review;
+    private Banner banner;
+    private Member member;
+    private Token token;
+
+    @Setup
+    public void setUp() {
+        List<Image> images = new ArrayList<>();
+
+        for(long i = 0; i < 5; i++)
+            images.add(Image.builder().imageId(i).imageUrl("https://dearbella/image-" + i).memberId(1L).build());
+
+        review = Review.builder()
+                .reviewId(1L)
+                .title("Nose 리뷰")
+                .content("content")
+                .deleted(false)
+                .updatedAt(LocalDateTime.now())
+                .memberId(1L)
+                .hospitalId(2L)
+                .hospitalName("hospital")
+                .doctorId(3L)
+                .doctorName("doctor")
+                .rate(4.5F)
+                .viewNum(10L)
+                .likeNum(3L)
+                .befores(images)
+                .afters(images)
+                .build();
+
+        banner = Banner.builder()
+                .bannerId(1L)
+                .bannerLocation(true)
+                .bannerLink("https://dearbella/banner")
+                .sequence(1L)
+                .hospitalName("hospital")
+                .mainImage("https://dearbella/main")
+                .hospitalLocation("Seoul")
+                .description("description")
+                .bannerImages(images)
+                .bannerDetailImages(images)
+                .bannerInfra(new ArrayList<>())
+                .adminId(1L)
+                .build();
+
+        member = Member.builder()
+                .memberId(1L)
+                .nickname("member")
+                .loginEmail("member@dearbella.com")
+                .profileImg("https://dearbella/profile")
+                .ban(false)
+                .build();
+
+        token = Token.builder()
+                .memberId(1L)
+                .accessToken("access")
+                .refreshToken("refresh")
+                .accessTokenExpiredAt(LocalDate.now())
+                .refreshTokenExpiredAt(LocalDate.now())
+                .build();
+    }
+
+    @Benchmark
+    public ReviewResponseDto reviewModelMapper() {
+        return modelMapper.map(review, ReviewResponseDto.class);
+    }
+
+    @Benchmark
+    public ReviewResponseDto reviewOf() {
+        return ReviewResponseDto.of(review);
+    }
+
+    @Benchmark
+    public ReviewDetailResponseDto reviewDetailModelMapper() {
+        return modelMapper.map(review, ReviewDetailResponseDto.class);
+    }
+
+    @Benchmark
+    public ReviewDetailResponseDto reviewDetailOf() {
+        return ReviewDetailResponseDto.of(review);
+    }
+
+    @Benchmark
+    public BannerResponseDto bannerModelMapper() {
+        return modelMapper.map(banner, BannerResponseDto.class);
+    }
+
+    @Benchmark
+    public BannerResponseDto bannerOf() {
+        return BannerResponseDto.of(banner);
+    }
+
+    @Benchmark
+    public BannerDetailResponseDto bannerDetailModelMapper() {
+        return modelMapper.map(banner, BannerDetailResponseDto.class);
+    }
+
+    @Benchmark
+    public BannerDetailResponseDto bannerDetailOf() {
+        return BannerDetailResponseDto.of(banner);
+    }
+
+    @Benchmark
+    public LoginResponseDto loginModelMapper() {
+        LoginResponseDto map = modelMapper.map(member, LoginResponseDto.class);
+
+        map.setAccessToken(token.getAccessToken());
+        map.setRefreshToken(token.getRefreshToken());
+
+        return map;
+    }
+
+    @Benchmark
+    public LoginResponseDto loginOf() {
+        return LoginResponseDto.of(member, token);
+    }
+}
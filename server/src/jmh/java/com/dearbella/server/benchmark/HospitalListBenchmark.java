@@ -0,0 +1,82 @@
+package com.dearbella.server.benchmark;
+
+import com.dearbella.server.dto.projection.HospitalListProjection;
+import com.dearbella.server.dto.response.hospital.HospitalResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HospitalServiceImpl.getAll 이 한 페이지를 응답 DTO 로 바꾸는 비용
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class HospitalListBenchmark {
+    private List<HospitalListProjection> hospitals;
+
+    @Param({"20", "200"})
+    public int size;
+
+    @Setup
+    public void setUp() {
+        hospitals = new ArrayList<>();
+
+        for(long i = 0; i < size; i++)
+            hospitals.add(new Row(i));
+    }
+
+    @Benchmark
+    public List<HospitalResponseDto> build() {
+        return HospitalResponseDto.of(hospitals);
+    }
+
+    private static class Row implements HospitalListProjection {
+        private final Long id;
+        private final String name;
+        private final String image;
+
+        private Row(final long id) {
+            this.id = id;
+            this.name = "hospital-" + id;
+            this.image = "https://dearbella/banner-" + id;
+        }
+
+        @Override
+        public Long getHospitalId() {
+            return id;
+        }
+
+        @Override
+        public String getHospitalName() {
+            return name;
+        }
+
+        @Override
+        public String getHospitalImage() {
+            return image;
+        }
+
+        @Override
+        public String getLocation() {
+            return "Seoul";
+        }
+
+        @Override
+        public Float getRate() {
+            return 4.5F;
+        }
+
+        @Override
+        public Long getReviewNum() {
+            return id;
+        }
+
+        @Override
+        public Long getWished() {
+            return id % 2;
+        }
+    }
+}
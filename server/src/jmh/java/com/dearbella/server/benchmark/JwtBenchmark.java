@@ -0,0 +1,107 @@
+package com.dearbella.server.benchmark;
+
+import com.dearbella.server.domain.Authority;
+import com.dearbella.server.domain.Member;
+import com.dearbella.server.repository.MemberRepository;
+import com.dearbella.server.service.auth.AuthCacheService;
+import com.dearbella.server.service.auth.AuthCacheServiceImpl;
+import com.dearbella.server.util.JwtCustomFilter;
+import com.dearbella.server.util.JwtUtil;
+import com.dearbella.server.util.MemberContextFilter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 생성/파싱/검증과 인증 필터 한 번의 비용
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+    private String token;
+    private AuthCacheService authCacheService;
+    private MemberContextFilter memberContextFilter;
+    private JwtCustomFilter jwtCustomFilter;
+
+    @Setup
+    public void setUp() {
+        JwtUtil.JWT_SECRET_KEY = "ZGVhcmJlbGxhLWJlbmNobWFyay1zZWNyZXQta2V5LTAxMjM0NTY3ODktYWJjZGVm";
+        token = JwtUtil.createJwt(1L);
+
+        final Member member = Member.builder()
+                .memberId(1L)
+                .authorities(List.of(Authority.builder().authorityName("ROLE_USER").build()))
+                .build();
+
+        // findById 만 쓰므로 나머지 메소드는 호출되지 않는다
+        final MemberRepository memberRepository = (MemberRepository) Proxy.newProxyInstance(
+                MemberRepository.class.getClassLoader(),
+                new Class[]{MemberRepository.class},
+                (proxy, method, args) -> {
+                    if(method.getName().equals("findById"))
+                        return Optional.of(member);
+
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+
+        authCacheService = new AuthCacheServiceImpl(memberRepository, Duration.ofHours(1), 1000);
+        memberContextFilter = new MemberContextFilter(authCacheService);
+        jwtCustomFilter = new JwtCustomFilter(authCacheService);
+    }
+
+    @Benchmark
+    public String create() {
+        return JwtUtil.createJwt(1L);
+    }
+
+    @Benchmark
+    public Long parse() {
+        return JwtUtil.getMemberId(token);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return JwtUtil.validateToken(token);
+    }
+
+    /**
+     * 캐시 전 필터가 하던 일, 검증 한 번 + 파싱 한 번
+     * */
+    @Benchmark
+    public Long validateAndParse() {
+        return JwtUtil.validateToken(token) ? JwtUtil.getMemberId(token) : null;
+    }
+
+    @Benchmark
+    public Long cachedMemberId() {
+        return authCacheService.getMemberId(token);
+    }
+
+    /**
+     * MemberContextFilter -> JwtCustomFilter 를 지나는 요청 하나
+     * */
+    @Benchmark
+    public int filterChain() throws ServletException, IOException {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user/member");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        request.addHeader("Authorization", "Bearer " + token);
+
+        new MockFilterChain(new javax.servlet.http.HttpServlet() {}, memberContextFilter, jwtCustomFilter).doFilter(request, response);
+        SecurityContextHolder.clearContext();
+
+        return response.getStatus();
+    }
+}
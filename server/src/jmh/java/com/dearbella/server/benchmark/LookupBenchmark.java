@@ -0,0 +1,58 @@
+package com.dearbella.server.benchmark;
+
+import com.dearbella.server.domain.Authority;
+import com.dearbella.server.domain.Category;
+import com.dearbella.server.domain.Doctor;
+import com.dearbella.server.domain.Member;
+import com.dearbella.server.enums.doctor.CategoryEnum;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 필터에서 행마다 부르는 작은 조회들
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class LookupBenchmark {
+    private Doctor doctor;
+    private Member member;
+
+    @Param({"1", "10"})
+    public long category;
+
+    @Setup
+    public void setUp() {
+        List<Category> categories = new ArrayList<>();
+
+        for(CategoryEnum value: CategoryEnum.values())
+            categories.add(Category.builder().categoryNum(value.getValue()).categoryName(value.name()).build());
+
+        doctor = Doctor.builder().doctorId(1L).categories(categories).build();
+        member = Member.builder()
+                .memberId(1L)
+                .authorities(List.of(
+                        Authority.builder().authorityName("ROLE_USER").build(),
+                        Authority.builder().authorityName("ROLE_ADMIN").build()
+                ))
+                .build();
+    }
+
+    @Benchmark
+    public Boolean doctorContains() {
+        return doctor.contains(category);
+    }
+
+    @Benchmark
+    public Boolean memberContain() {
+        return member.contain("ROLE_ADMIN");
+    }
+
+    @Benchmark
+    public CategoryEnum categoryFindByValue() {
+        return CategoryEnum.findByValue(category);
+    }
+}
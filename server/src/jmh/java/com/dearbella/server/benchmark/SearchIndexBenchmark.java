@@ -0,0 +1,39 @@
+package com.dearbella.server.benchmark;
+
+import com.dearbella.server.service.search.SearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /free/{hospital,doctor,review}/search 한 번의 검색 비용, 목표는 문서 5만 개에서 10ms 이하
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SearchIndexBenchmark {
+    private SearchIndex index;
+    private int round;
+
+    @Param({"5000", "50000"})
+    public int documents;
+
+    @Setup
+    public void setUp() {
+        index = new SearchIndex();
+
+        for(long id = 1; id <= documents; id++)
+            index.put(id, "후기 " + id + " 강남 성형외과", "코 수술 후기 내용 " + (id % 97) + " 원장님 상담");
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return index.search("성형 " + (round++ % 9 + 1), 0, 20);
+    }
+
+    @Benchmark
+    public List<Long> searchLastPage() {
+        return index.search("강남", documents - 20, 20);
+    }
+}
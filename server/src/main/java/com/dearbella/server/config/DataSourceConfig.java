@@ -0,0 +1,75 @@
+package com.dearbella.server.config;
+
+import com.dearbella.server.util.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * datasource.replica.enabled=true 일 때 spring.datasource 를 primary 로, datasource.replica.urls 를 replica 로 묶는다
+ * 꺼져 있으면 기본 DataSource 자동 설정을 그대로 쓴다
+ * */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+    @Bean(destroyMethod = "close")
+    public ReplicationRoutingDataSource routingDataSource(final DataSourceProperties properties, final Environment environment,
+                                                          @Value("${datasource.replica.urls}") final List<String> urls,
+                                                          @Value("${datasource.replica.username:${spring.datasource.username}}") final String username,
+                                                          @Value("${datasource.replica.password:${spring.datasource.password}}") final String password,
+                                                          @Value("${datasource.replica.max-lag:5s}") final Duration maxLag,
+                                                          @Value("${datasource.replica.lag-query:SHOW REPLICA STATUS}") final String lagQuery) {
+        final HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        final Map<String, DataSource> replicas = new LinkedHashMap<>();
+
+        configure(primary, ReplicationRoutingDataSource.PRIMARY, environment);
+
+        for(int i = 0; i < urls.size(); i++) {
+            final HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(urls.get(i).trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+
+            configure(replica, "replica-" + (i + 1), environment);
+            replica.setReadOnly(true);
+            replicas.put(replica.getPoolName(), replica);
+        }
+
+        return new ReplicationRoutingDataSource(primary, replicas, maxLag, lagQuery);
+    }
+
+    /**
+     * JPA 가 쓰는 DataSource, 첫 statement 를 실행할 때 커넥션을 얻으므로 그때는 트랜잭션의 readOnly 가 정해져 있다
+     * */
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReplicationRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * spring.datasource.hikari.* 설정을 모든 pool 에 같이 적용한다, hikaricp.* 메트릭은 pool 이름으로 나뉜다
+     * */
+    private void configure(final HikariDataSource dataSource, final String name, final Environment environment) {
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(name);
+    }
+}
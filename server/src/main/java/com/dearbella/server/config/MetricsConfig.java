@@ -0,0 +1,68 @@
+package com.dearbella.server.config;
+
+import com.dearbella.server.util.SqlCountFilter;
+import com.dearbella.server.util.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTagsContributor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.HandlerMethod;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * /actuator/prometheus 로 나가는 요청 timer, SQL 수, Hikari / Hibernate 통계 설정
+ * */
+@Configuration
+public class MetricsConfig {
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounter() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    /**
+     * MemberContextFilter 보다 먼저, 토큰 조회까지 포함해 센다
+     * */
+    @Bean
+    public FilterRegistrationBean<SqlCountFilter> sqlCountFilter(MeterRegistry meterRegistry,
+                                                                 @Value("${metrics.sql.warn-threshold:30}") long warnThreshold) {
+        FilterRegistrationBean<SqlCountFilter> registration = new FilterRegistrationBean<>(new SqlCountFilter(meterRegistry, warnThreshold));
+
+        registration.addUrlPatterns("/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 2);
+
+        return registration;
+    }
+
+    /**
+     * http.server.requests 에 처리한 controller 메서드를 handler 태그로 붙인다
+     * */
+    @Bean
+    public WebMvcTagsContributor handlerTagContributor() {
+        return new WebMvcTagsContributor() {
+            @Override
+            public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response, Object handler, Throwable exception) {
+                if(handler instanceof HandlerMethod) {
+                    final HandlerMethod handlerMethod = (HandlerMethod) handler;
+
+                    return Tags.of("handler", handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+                }
+
+                return Tags.of("handler", "none");
+            }
+
+            @Override
+            public Iterable<Tag> getLongRequestTags(HttpServletRequest request, Object handler) {
+                return Tags.empty();
+            }
+        };
+    }
+}
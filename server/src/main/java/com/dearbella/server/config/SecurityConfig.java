@@ -1,8 +1,10 @@
 package com.dearbella.server.config;
 
-import com.dearbella.server.repository.MemberRepository;
+import com.dearbella.server.service.auth.AuthCacheService;
 import com.dearbella.server.util.JwtCustomFilter;
-import lombok.RequiredArgsConstructor;
+import com.dearbella.server.util.MemberContextFilter;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -22,10 +24,7 @@ import java.util.List;
 
 @EnableWebSecurity
 @EnableGlobalMethodSecurity(prePostEnabled = true)//@PreAuthorize 어노테이션을 메소드 단위로 추가하기 위해
-@RequiredArgsConstructor
 public class SecurityConfig {
-    private final MemberRepository memberRepository;
-
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -60,14 +59,28 @@ public class SecurityConfig {
                         "/swagger-resources/**",
                         "/token/**",
                         "/health/**",
+                        "/actuator/**", // management 포트에서만 열린다
                         "/free/**"
                 );
             }
         };
     }
 
+    /**
+     * security filter 보다 먼저, 무시되는 경로까지 모든 요청에서 MemberContext 를 채운다
+     * */
+    @Bean
+    public FilterRegistrationBean<MemberContextFilter> memberContextFilter(AuthCacheService authCacheService) {
+        FilterRegistrationBean<MemberContextFilter> registration = new FilterRegistrationBean<>(new MemberContextFilter(authCacheService));
+
+        registration.addUrlPatterns("/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+
+        return registration;
+    }
+
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity, AuthCacheService authCacheService) throws Exception {
         return httpSecurity
                 .httpBasic().disable()
                 .csrf().disable()
@@ -75,7 +88,7 @@ public class SecurityConfig {
                 .configurationSource(corsConfigurationSource())
                 .and()
                 .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS).and()
-                .addFilterAfter(new JwtCustomFilter(memberRepository), UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(new JwtCustomFilter(authCacheService), UsernamePasswordAuthenticationFilter.class)
                 .authorizeRequests()
                 .antMatchers("/admin/**").hasAnyAuthority("ROLE_ADMIN")
                 .antMatchers("/review/**").hasAnyAuthority("ROLE_USER", "ROLE_ADMIN")
@@ -1,35 +1,58 @@
 package com.dearbella.server.config;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.dearbella.server.enums.notification.NotificationChannelEnum;
 import com.dearbella.server.repository.*;
+import com.dearbella.server.service.auth.AuthCacheService;
+import com.dearbella.server.service.auth.AuthCacheServiceImpl;
 import com.dearbella.server.service.banner.BannerService;
 import com.dearbella.server.service.banner.BannerServiceImpl;
 import com.dearbella.server.service.comment.CommentService;
 import com.dearbella.server.service.comment.CommentServiceImpl;
+import com.dearbella.server.service.counter.CounterService;
+import com.dearbella.server.service.counter.CounterServiceImpl;
+import com.dearbella.server.service.doctor.DoctorCatalog;
 import com.dearbella.server.service.doctor.DoctorService;
 import com.dearbella.server.service.doctor.DoctorServiceImpl;
-import com.dearbella.server.service.fcm.FCMService;
-import com.dearbella.server.service.fcm.FCMServiceImpl;
 import com.dearbella.server.service.gmail.GmailService;
 import com.dearbella.server.service.gmail.GmailServiceImpl;
 import com.dearbella.server.service.hospital.HospitalService;
+import com.dearbella.server.service.hospital.HospitalDetailAssembler;
 import com.dearbella.server.service.hospital.HospitalServiceImpl;
 import com.dearbella.server.service.inquiry.InquiryService;
 import com.dearbella.server.service.inquiry.InquiryServiceImpl;
 import com.dearbella.server.service.member.MemberService;
 import com.dearbella.server.service.member.MemberServiceImpl;
+import com.dearbella.server.service.member.MemberSummaryService;
+import com.dearbella.server.service.member.MemberSummaryServiceImpl;
+import com.dearbella.server.service.member.WithdrawalService;
+import com.dearbella.server.service.member.WithdrawalServiceImpl;
+import com.dearbella.server.service.notification.*;
 import com.dearbella.server.service.post.PostService;
 import com.dearbella.server.service.post.PostServiceImpl;
 import com.dearbella.server.service.review.ReviewService;
 import com.dearbella.server.service.review.ReviewServiceImpl;
 import com.dearbella.server.service.s3.S3UploadService;
 import com.dearbella.server.service.s3.S3UploadServiceImpl;
+import com.dearbella.server.service.search.SearchService;
+import com.dearbella.server.service.search.SearchServiceImpl;
+import com.dearbella.server.service.view.ViewCountService;
+import com.dearbella.server.service.view.ViewCountServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
 
 @Configuration
 @RequiredArgsConstructor
@@ -44,14 +67,53 @@ public class SpringConfig {
                                         ,MemberIpRepository memberIpRepository
                                         ,CommentRepository commentRepository
                                         ,ReviewRepository reviewRepository
-                                        ,PostRepository postRepository) {
+                                        ,PostRepository postRepository
+                                        ,SearchService searchService
+                                        ,DoctorRepository doctorRepository
+                                        ,HospitalRepository hospitalRepository
+                                        ,AuthCacheService authCacheService
+                                        ,MemberSummaryService memberSummaryService
+                                        ,WithdrawalService withdrawalService) {
         return new MemberServiceImpl(memberRepository, tokenRepository, adminRepository, memberDeleteRepository, passwordEncoder, memberIpRepository
-                                    , commentRepository, reviewRepository, postRepository);
+                                    , commentRepository, reviewRepository, postRepository, searchService, doctorRepository, hospitalRepository
+                                    , authCacheService, memberSummaryService, withdrawalService);
+    }
+
+    @Bean
+    public WithdrawalService withdrawalService(MemberWithdrawalRepository memberWithdrawalRepository,
+                                               PostLikeRepository postLikeRepository, PostRepository postRepository,
+                                               ReviewLikeRepository reviewLikeRepository, ReviewRepository reviewRepository,
+                                               CommentLikeRepository commentLikeRepository, CommentRepository commentRepository,
+                                               DoctorMemberRepository doctorMemberRepository, HospitalMemberRepository hospitalMemberRepository,
+                                               MemberIpRepository memberIpRepository,
+                                               @Value("${withdrawal.job-batch-size:10}") int jobBatchSize,
+                                               @Value("${withdrawal.chunk-size:500}") int chunkSize) {
+        return new WithdrawalServiceImpl(memberWithdrawalRepository, postLikeRepository, postRepository, reviewLikeRepository, reviewRepository
+                , commentLikeRepository, commentRepository, doctorMemberRepository, hospitalMemberRepository, memberIpRepository
+                , jobBatchSize, chunkSize);
+    }
+
+    @Bean
+    public MemberSummaryService memberSummaryService(MemberRepository memberRepository,
+                                                     @Value("${member.summary-cache.ttl:5m}") Duration ttl,
+                                                     @Value("${member.summary-cache.maximum-size:10000}") long maximumSize) {
+        return new MemberSummaryServiceImpl(memberRepository, ttl, maximumSize);
+    }
+
+    @Bean
+    public AuthCacheService authCacheService(MemberRepository memberRepository,
+                                             @Value("${auth.cache.ttl:10m}") Duration ttl,
+                                             @Value("${auth.cache.maximum-size:10000}") long maximumSize) {
+        return new AuthCacheServiceImpl(memberRepository, ttl, maximumSize);
     }
 
     @Bean
-    public S3UploadService s3UploadService(AmazonS3 amazonS3Client) {
-        return new S3UploadServiceImpl(amazonS3Client);
+    public S3UploadService s3UploadService(AmazonS3 amazonS3Client,
+                                           @Value("${cloud.aws.s3.bucket}") String bucket,
+                                           @Value("${cloud.aws.s3.upload-threads:8}") int threads,
+                                           @Value("${cloud.aws.s3.multipart-threshold:16777216}") long multipartThreshold,
+                                           MeterRegistry meterRegistry) {
+        return new S3UploadServiceImpl(amazonS3Client, bucket, threads, multipartThreshold, meterRegistry);
     }
 
     @Bean
@@ -59,35 +121,54 @@ public class SpringConfig {
                                        CategoryRepository categoryRepository,
                                        DoctorMemberRepository doctorMemberRepository,
                                        ReviewRepository reviewRepository,
-                                       MemberRepository memberRepository) {
+                                       MemberRepository memberRepository,
+                                       SearchService searchService,
+                                       MemberSummaryService memberSummaryService,
+                                       DoctorCatalog doctorCatalog) {
         return new DoctorServiceImpl(doctorRepository, careerRepository, introLinkRepository, categoryRepository, doctorMemberRepository, reviewRepository
-        ,memberRepository);
+        ,memberRepository, searchService, memberSummaryService, doctorCatalog);
+    }
+
+    @Bean
+    public DoctorCatalog doctorCatalog(DoctorRepository doctorRepository, ViewCountService viewCountService,
+                                       @Value("${doctor.catalog.ttl:1m}") Duration ttl) {
+        return new DoctorCatalog(doctorRepository, viewCountService, ttl);
     }
 
     @Bean
     public BannerService bannerService(BannerRepository bannerRepository, InfraRepository infraRepository, ImageRepository imageRepository,
-                                       ReviewRepository reviewRepository, HospitalRepository hospitalRepository) {
-        return new BannerServiceImpl(bannerRepository, infraRepository, imageRepository, reviewRepository, hospitalRepository);
+                                       ReviewRepository reviewRepository, HospitalRepository hospitalRepository,
+                                       ObjectMapper objectMapper,
+                                       @Value("${banner.snapshot.ttl:5m}") Duration snapshotTtl) {
+        return new BannerServiceImpl(bannerRepository, infraRepository, imageRepository, reviewRepository, hospitalRepository
+                , objectMapper, snapshotTtl);
     }
 
     @Bean
     public ReviewService reviewService(ReviewRepository reviewRepository, ImageRepository imageRepository, MemberRepository memberRepository, DoctorRepository doctorRepository,
                                        HospitalRepository hospitalRepository,
-                                       ReviewLikeRepository reviewLikeRepository) {
+                                       ReviewLikeRepository reviewLikeRepository,
+                                       SearchService searchService,
+                                       ViewCountService viewCountService,
+                                       NotificationService notificationService) {
         return new ReviewServiceImpl(reviewRepository, imageRepository, memberRepository, doctorRepository, hospitalRepository
-                , reviewLikeRepository);
+                , reviewLikeRepository, searchService, viewCountService, notificationService);
     }
 
     @Bean
     public PostService postService(PostRepository postRepository, ImageRepository imageRepository,
-                                   TagRepository tagRepository, MemberRepository memberRepository, PostLikeRepository postLikeRepository) {
-        return new PostServiceImpl(postRepository, tagRepository, imageRepository, memberRepository, postLikeRepository);
+                                   TagRepository tagRepository, MemberRepository memberRepository, PostLikeRepository postLikeRepository,
+                                   ViewCountService viewCountService, MemberSummaryService memberSummaryService,
+                                   NotificationService notificationService) {
+        return new PostServiceImpl(postRepository, tagRepository, imageRepository, memberRepository, postLikeRepository, viewCountService, memberSummaryService
+                , notificationService);
     }
 
     @Bean
     public InquiryService inquiryService(InquiryRepository inquiryRepository, HospitalRepository hospitalRepository,
-                                         MemberRepository memberRepository) {
-        return new InquiryServiceImpl(inquiryRepository, hospitalRepository, memberRepository);
+                                         MemberRepository memberRepository, MemberSummaryService memberSummaryService,
+                                         NotificationService notificationService) {
+        return new InquiryServiceImpl(inquiryRepository, hospitalRepository, memberRepository, memberSummaryService, notificationService);
     }
 
     @Bean
@@ -98,7 +179,9 @@ public class SpringConfig {
             final ImageRepository imageRepository,
             final HospitalRepository hospitalRepository,
             final ReviewRepository reviewRepository,
-            final DoctorMemberRepository doctorMemberRepository
+            final DoctorMemberRepository doctorMemberRepository,
+            final HospitalDetailAssembler hospitalDetailAssembler,
+            final SearchService searchService
     ) {
         return new HospitalServiceImpl(
                 hospitalRepository,
@@ -107,24 +190,89 @@ public class SpringConfig {
                 hospitalMemberRepository,
                 doctorRepository,
                 reviewRepository,
+                doctorMemberRepository,
+                hospitalDetailAssembler,
+                searchService
+        );
+    }
+
+    @Bean
+    public HospitalDetailAssembler hospitalDetailAssembler(
+            final HospitalRepository hospitalRepository,
+            final HospitalMemberRepository hospitalMemberRepository,
+            final DoctorRepository doctorRepository,
+            final ReviewRepository reviewRepository,
+            final DoctorMemberRepository doctorMemberRepository
+    ) {
+        return new HospitalDetailAssembler(
+                hospitalRepository,
+                hospitalMemberRepository,
+                doctorRepository,
+                reviewRepository,
                 doctorMemberRepository
         );
     }
 
+    @Bean
+    public SearchService searchService(HospitalRepository hospitalRepository, DoctorRepository doctorRepository,
+                                       ReviewRepository reviewRepository) {
+        return new SearchServiceImpl(hospitalRepository, doctorRepository, reviewRepository);
+    }
+
+    @Bean
+    public ViewCountService viewCountService(JdbcTemplate jdbcTemplate) {
+        return new ViewCountServiceImpl(jdbcTemplate);
+    }
+
+    @Bean
+    public CounterService counterService(JdbcTemplate jdbcTemplate) {
+        return new CounterServiceImpl(jdbcTemplate);
+    }
+
     @Bean
     public CommentService commentService(CommentRepository commentRepository,  MemberRepository memberRepository,
                                          CommentLikeRepository commentLikeRepository,
-                                         DoctorResponseRepository doctorResponseRepository) {
-        return new CommentServiceImpl(commentRepository, memberRepository, commentLikeRepository, doctorResponseRepository);
+                                         DoctorResponseRepository doctorResponseRepository,
+                                         PostRepository postRepository,
+                                         MemberSummaryService memberSummaryService,
+                                         NotificationService notificationService,
+                                         @Value("${comment.reply-fan-out:3}") int replyFanOut) {
+        return new CommentServiceImpl(commentRepository, memberRepository, commentLikeRepository, doctorResponseRepository, postRepository, memberSummaryService
+                , notificationService, replyFanOut);
     }
 
     @Bean
-    public FCMService fcmService() {
-        return new FCMServiceImpl();
+    public GmailService gmailService(MeterRegistry meterRegistry) {
+        return new GmailServiceImpl(javaMailSender, meterRegistry);
     }
 
+    /**
+     * notification.transport=fake 면 실제로 보내지 않고 기록만 한다
+     * */
     @Bean
-    public GmailService gmailService() {
-        return new GmailServiceImpl(javaMailSender);
+    public NotificationService notificationService(NotificationOutboxRepository notificationOutboxRepository,
+                                                   GmailService gmailService,
+                                                   @Value("${notification.transport:real}") String transport,
+                                                   @Value("${notification.batch-size:100}") int batchSize,
+                                                   @Value("${notification.max-attempts:6}") int maxAttempts,
+                                                   @Value("${notification.backoff:10s}") Duration backoff,
+                                                   @Value("${notification.max-backoff:30m}") Duration maxBackoff,
+                                                   @Value("${notification.lease:5m}") Duration lease,
+                                                   PlatformTransactionManager transactionManager,
+                                                   MeterRegistry meterRegistry) {
+        Map<NotificationChannelEnum, NotificationTransport> transports = new EnumMap<>(NotificationChannelEnum.class);
+
+        if("fake".equals(transport)) {
+            final FakeNotificationTransport fake = new FakeNotificationTransport();
+
+            transports.put(NotificationChannelEnum.FCM, fake);
+            transports.put(NotificationChannelEnum.MAIL, fake);
+        }
+        else {
+            transports.put(NotificationChannelEnum.FCM, new FirebaseNotificationTransport(meterRegistry));
+            transports.put(NotificationChannelEnum.MAIL, new MailNotificationTransport(gmailService));
+        }
+
+        return new NotificationServiceImpl(notificationOutboxRepository, transports, transactionManager, batchSize, maxAttempts, backoff, maxBackoff, lease);
     }
 }
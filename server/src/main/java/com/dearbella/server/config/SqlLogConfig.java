@@ -0,0 +1,50 @@
+package com.dearbella.server.config;
+
+import com.dearbella.server.util.SqlLogListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * sql-log.enabled=true 일 때만 DataSource 를 datasource-proxy 로 감싼다, 꺼져 있으면 감싸지 않으므로 비용이 없다
+ * */
+@Configuration
+@ConditionalOnProperty(name = "sql-log.enabled", havingValue = "true")
+public class SqlLogConfig {
+    /**
+     * BeanPostProcessor 는 placeholder 처리 전에 만들어지므로 @Value 대신 Binder 로 읽는다
+     * */
+    @Bean
+    public static BeanPostProcessor sqlLogDataSourcePostProcessor(Environment environment) {
+        final Binder binder = Binder.get(environment);
+        final SqlLogListener listener = new SqlLogListener(
+                binder.bind("sql-log.slow-threshold", Duration.class).orElse(Duration.ofMillis(200)).toMillis(),
+                binder.bind("sql-log.sample-rate", Double.class).orElse(0.0)
+        );
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                // routing DataSource 는 바깥의 dataSource bean 에서 이미 기록하므로 한 번 더 감싸지 않는다
+                if(bean instanceof DataSource && !(bean instanceof ProxyDataSource) && !(bean instanceof AbstractRoutingDataSource)) {
+                    return ProxyDataSourceBuilder.create((DataSource) bean)
+                            .name(beanName)
+                            .listener(listener)
+                            .build();
+                }
+
+                return bean;
+            }
+        };
+    }
+}
@@ -1,7 +1,11 @@
 package com.dearbella.server.config;
 
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
 import springfox.documentation.builders.ApiInfoBuilder;
 import springfox.documentation.builders.PathSelectors;
 import springfox.documentation.builders.RequestHandlerSelectors;
@@ -12,9 +16,12 @@ import springfox.documentation.service.SecurityReference;
 import springfox.documentation.spi.DocumentationType;
 import springfox.documentation.spi.service.contexts.SecurityContext;
 import springfox.documentation.spring.web.plugins.Docket;
+import springfox.documentation.spring.web.plugins.WebMvcRequestHandlerProvider;
 
+import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Configuration
 public class SwaggerConfig {
@@ -33,6 +40,35 @@ public class SwaggerConfig {
                 .securitySchemes(List.of(bearerAuthSecurityScheme()));
     }
 
+    /**
+     * actuator 의 endpoint mapping 은 PathPatternParser 를 써서 springfox 3 이 읽지 못한다
+     * ANT_PATH_MATCHER 를 쓰는 mapping 만 springfox 에 넘긴다
+     * */
+    @Bean
+    public static BeanPostProcessor springfoxHandlerProviderBeanPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if(bean instanceof WebMvcRequestHandlerProvider) {
+                    final Field field = ReflectionUtils.findField(bean.getClass(), "handlerMappings");
+
+                    ReflectionUtils.makeAccessible(field);
+
+                    final List<RequestMappingInfoHandlerMapping> mappings = (List<RequestMappingInfoHandlerMapping>) ReflectionUtils.getField(field, bean);
+                    final List<RequestMappingInfoHandlerMapping> antMappings = mappings.stream()
+                            .filter(mapping -> mapping.getPatternParser() == null)
+                            .collect(Collectors.toList());
+
+                    mappings.clear();
+                    mappings.addAll(antMappings);
+                }
+
+                return bean;
+            }
+        };
+    }
+
     private ApiInfo SwaggerInfo() {
         return new ApiInfoBuilder()
                 .title("DearBella Swagger")
@@ -22,18 +22,23 @@ import com.dearbella.server.dto.response.member.MemberBanResponseDto;
 import com.dearbella.server.dto.response.post.PostAdminDetailResponseDto;
 import com.dearbella.server.dto.response.post.PostAdminResponseDto;
 import com.dearbella.server.dto.response.review.ReviewAdminResponseDto;
+import com.dearbella.server.enums.search.SearchTargetEnum;
+import com.dearbella.server.service.auth.AuthCacheService;
 import com.dearbella.server.service.banner.BannerService;
 import com.dearbella.server.service.comment.CommentService;
+import com.dearbella.server.service.counter.CounterService;
 import com.dearbella.server.service.doctor.DoctorService;
-import com.dearbella.server.service.fcm.FCMService;
-import com.dearbella.server.service.gmail.GmailService;
 import com.dearbella.server.service.hospital.HospitalService;
 import com.dearbella.server.service.inquiry.InquiryService;
 import com.dearbella.server.service.member.MemberService;
+import com.dearbella.server.service.member.MemberSummaryService;
+import com.dearbella.server.service.member.WithdrawalService;
+import com.dearbella.server.service.notification.NotificationService;
 import com.dearbella.server.service.post.PostService;
 import com.dearbella.server.service.review.ReviewService;
 import com.dearbella.server.service.s3.S3UploadService;
-import com.google.firebase.messaging.FirebaseMessagingException;
+import com.dearbella.server.service.search.SearchService;
+import com.dearbella.server.vo.UploadGroupVo;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -42,11 +47,10 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/admin")
@@ -63,8 +67,12 @@ public class AdminController {
     private final InquiryService inquiryService;
     private final PostService postService;
     private final ReviewService reviewService;
-    private final FCMService fcmService;
-    private final GmailService gmailService;
+    private final NotificationService notificationService;
+    private final SearchService searchService;
+    private final CounterService counterService;
+    private final AuthCacheService authCacheService;
+    private final MemberSummaryService memberSummaryService;
+    private final WithdrawalService withdrawalService;
 
     /**
      * hospital API
@@ -73,63 +81,31 @@ public class AdminController {
     @PostMapping(value = "/hospital/save", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
     @Transactional
     public ResponseEntity<Hospital> saveHospital(@ModelAttribute HospitalAddRequestDto dto) throws IOException {
-        List<String> befores = new ArrayList<>();
-        List<String> afters = new ArrayList<>();
-        List<String> banners = new ArrayList<>();
+        final List<List<String>> urls = s3UploadService.uploadAll(List.of(
+                UploadGroupVo.of(dto.getBefores(), "dearbella/hospital/before"),
+                UploadGroupVo.of(dto.getAfters(), "dearbella/hospital/after"),
+                UploadGroupVo.of(dto.getBanners(), "dearbella/hospital/banner")
+        ));
 
-        for(MultipartFile before: dto.getBefores()) {
-            befores.add(
-                    s3UploadService.upload(before, "dearbella/hospital/before", false)
-            );
-        }
-
-        for(MultipartFile after: dto.getAfters()) {
-            afters.add(
-                    s3UploadService.upload(after, "dearbella/hospital/after", false)
-            );
-        }
-
-        for(MultipartFile banner: dto.getBanners()) {
-            banners.add(
-                    s3UploadService.upload(banner, "dearbella/hospital/banner", false)
-            );
-        }
-
-        return ResponseEntity.ok(hospitalService.addHospital(dto, befores, afters, banners));
+        return ResponseEntity.ok(hospitalService.addHospital(dto, urls.get(0), urls.get(1), urls.get(2)));
     }
 
     @ApiOperation("병원 편집")
     @PostMapping(value = "/hospital/edit", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
     public ResponseEntity<Hospital> editHospital(@ModelAttribute HospitalEditRequestDto dto) throws IOException {
-        List<String> befores = new ArrayList<>();
-        List<String> afters = new ArrayList<>();
-        List<String> banners = new ArrayList<>();
-
-        for(MultipartFile before: dto.getBefores()) {
-            befores.add(
-                    s3UploadService.upload(before, "dearbella/hospital/before", false)
-            );
-        }
-
-        for(MultipartFile after: dto.getAfters()) {
-            afters.add(
-                    s3UploadService.upload(after, "dearbella/hospital/after", false)
-            );
-        }
-
-        for(MultipartFile banner: dto.getBanners()) {
-            banners.add(
-                    s3UploadService.upload(banner, "dearbella/hospital/banner", false)
-            );
-        }
+        final List<List<String>> urls = s3UploadService.uploadAll(List.of(
+                UploadGroupVo.of(dto.getBefores(), "dearbella/hospital/before"),
+                UploadGroupVo.of(dto.getAfters(), "dearbella/hospital/after"),
+                UploadGroupVo.of(dto.getBanners(), "dearbella/hospital/banner")
+        ));
 
-        return ResponseEntity.ok(hospitalService.editHospital(dto, befores, afters, banners));
+        return ResponseEntity.ok(hospitalService.editHospital(dto, urls.get(0), urls.get(1), urls.get(2)));
     }
 
     @ApiOperation("병원 리스트 조회")
     @GetMapping("/hospital/all")
-    public ResponseEntity<List<HospitalAdminResponseDto>> getHospitals(@RequestParam Long page) {
-        return ResponseEntity.ok(hospitalService.findALl(page));
+    public ResponseEntity<List<HospitalAdminResponseDto>> getHospitals(@RequestParam Long page, @RequestParam(required = false, defaultValue = "true") Boolean count) {
+        return ResponseEntity.ok(hospitalService.findALl(page, count));
     }
 
     /**
@@ -177,36 +153,24 @@ public class AdminController {
     @PostMapping(value = "/banner/save", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
     @Transactional
     public ResponseEntity<Banner> saveBanner(@ModelAttribute BannerAddRequestDto dto) throws IOException {
-        List<String> mainImages = new ArrayList<>();
-        List<String> detailImages = new ArrayList<>();
+        final List<List<String>> urls = s3UploadService.uploadAll(List.of(
+                UploadGroupVo.of(dto.getBannerImages(), "dearbella/banner/main"),
+                UploadGroupVo.of(dto.getDetailImages(), "dearbella/banner/detail")
+        ));
 
-        for(MultipartFile file: dto.getBannerImages()) {
-            mainImages.add(s3UploadService.upload(file, "dearbella/banner/main", false));
-        }
-
-        for(MultipartFile file: dto.getDetailImages()) {
-            detailImages.add(s3UploadService.upload(file, "dearbella/banner/detail", false));
-        }
-
-        return ResponseEntity.ok(bannerService.addBanner(dto, mainImages, detailImages));
+        return ResponseEntity.ok(bannerService.addBanner(dto, urls.get(0), urls.get(1)));
     }
 
     @ApiOperation("배너 수정")
     @PostMapping(value = "/banner/edit", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
     @Transactional
     public ResponseEntity<Banner> editBanner(@ModelAttribute BannerEditRequestDto dto) throws IOException {
-        List<String> mainImages = new ArrayList<>();
-        List<String> detailImages = new ArrayList<>();
-
-        for(MultipartFile file: dto.getBannerImages()) {
-            mainImages.add(s3UploadService.upload(file, "dearbella/banner/main", false));
-        }
+        final List<List<String>> urls = s3UploadService.uploadAll(List.of(
+                UploadGroupVo.of(dto.getBannerImages(), "dearbella/banner/main"),
+                UploadGroupVo.of(dto.getDetailImages(), "dearbella/banner/detail")
+        ));
 
-        for(MultipartFile file: dto.getDetailImages()) {
-            detailImages.add(s3UploadService.upload(file, "dearbella/banner/detail", false));
-        }
-
-        return ResponseEntity.ok(bannerService.editBanner(dto, mainImages, detailImages));
+        return ResponseEntity.ok(bannerService.editBanner(dto, urls.get(0), urls.get(1)));
     }
 
     @ApiOperation("배너 조회")
@@ -226,12 +190,8 @@ public class AdminController {
      * */
     @ApiOperation("원장이 댓글 남기기")
     @PostMapping("/comment/add")
-    public ResponseEntity<DoctorResponse> addComment(@RequestBody CommentDoctorRequestDto dto) throws IOException, FirebaseMessagingException {
-        final ResponseEntity<DoctorResponse> ok = ResponseEntity.ok(commentService.addDoctorResponse(dto));
-
-        fcmService.sendMessageByTopic("comment", "answer", "post-" + ok.getBody().getPostId());
-
-        return ok;
+    public ResponseEntity<DoctorResponse> addComment(@RequestBody CommentDoctorRequestDto dto) {
+        return ResponseEntity.ok(commentService.addDoctorResponse(dto));
     }
 
     /**
@@ -278,14 +238,8 @@ public class AdminController {
 
     @ApiOperation("문의 답변하기")
     @PostMapping("/inquiry/answer")
-    public ResponseEntity<Inquiry> answerInquiry(@RequestBody InquiryEditRequestDto dto) throws IOException, FirebaseMessagingException {
-        final ResponseEntity<Inquiry> ok = ResponseEntity.ok(inquiryService.answerInquiry(dto));
-
-        fcmService.sendMessageByTopic("inquiry", "answer", "inquiry-" + ok.getBody().getInquiryId());
-
-        gmailService.sendMail(memberService.getMemberName(dto.getMemberId()));
-
-        return ok;
+    public ResponseEntity<Inquiry> answerInquiry(@RequestBody InquiryEditRequestDto dto) {
+        return ResponseEntity.ok(inquiryService.answerInquiry(dto));
     }
 
     /**
@@ -293,8 +247,8 @@ public class AdminController {
      * */
     @ApiOperation("커뮤니티 글 전체 조회")
     @GetMapping("/community/all")
-    public ResponseEntity<List<PostAdminResponseDto>> getPosts(@RequestParam Long category, @RequestParam Long page) {
-        return ResponseEntity.ok(postService.findAllByCategory(category, page));
+    public ResponseEntity<List<PostAdminResponseDto>> getPosts(@RequestParam Long category, @RequestParam Long page, @RequestParam(required = false, defaultValue = "true") Boolean count) {
+        return ResponseEntity.ok(postService.findAllByCategory(category, page, count));
     }
 
     @ApiOperation("커뮤니티 글 삭제")
@@ -314,8 +268,8 @@ public class AdminController {
      * */
     @ApiOperation("리뷰전체 조회")
     @GetMapping("/review/all")
-    public ResponseEntity<List<ReviewAdminResponseDto>> getReviews(Long page) {
-        return ResponseEntity.ok(reviewService.getReviews(page));
+    public ResponseEntity<List<ReviewAdminResponseDto>> getReviews(Long page, @RequestParam(required = false, defaultValue = "true") Boolean count) {
+        return ResponseEntity.ok(reviewService.getReviews(page, count));
     }
 
     @ApiOperation("리뷰 삭제")
@@ -344,4 +298,67 @@ public class AdminController {
     public ResponseEntity<String> banUser(@RequestParam Long memberId) {
         return ResponseEntity.ok(memberService.banMember(memberId));
     }
-}
\ No newline at end of file
+
+    /**
+     * search API
+     * */
+    @ApiOperation("검색 색인 재생성")
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<Map<SearchTargetEnum, Integer>> rebuildSearchIndex() {
+        return ResponseEntity.ok(searchService.rebuild());
+    }
+
+    /**
+     * counter API
+     * */
+    @ApiOperation("좋아요/댓글/리뷰 수 재계산")
+    @PostMapping("/counter/reconcile")
+    public ResponseEntity<Map<String, Integer>> reconcileCounters() {
+        return ResponseEntity.ok(counterService.reconcile());
+    }
+
+    /**
+     * cache API
+     * */
+    @ApiOperation("인증 캐시 hit/miss 통계")
+    @GetMapping("/cache/auth")
+    public ResponseEntity<Map<String, Map<String, Object>>> getAuthCacheStats() {
+        return ResponseEntity.ok(authCacheService.stats());
+    }
+
+    @ApiOperation("작성자 요약 캐시 hit/miss 통계")
+    @GetMapping("/cache/member")
+    public ResponseEntity<Map<String, Object>> getMemberSummaryCacheStats() {
+        return ResponseEntity.ok(memberSummaryService.stats());
+    }
+
+    /**
+     * notification API
+     * */
+    @ApiOperation("전송 실패한 알림 조회")
+    @GetMapping("/notification/dead")
+    public ResponseEntity<List<NotificationOutbox>> getDeadNotifications(@RequestParam Long page) {
+        return ResponseEntity.ok(notificationService.findDead(page));
+    }
+
+    @ApiOperation("전송 실패한 알림 다시 보내기")
+    @PostMapping("/notification/retry")
+    public ResponseEntity<Integer> retryDeadNotifications() {
+        return ResponseEntity.ok(notificationService.retryDead());
+    }
+
+    /**
+     * withdrawal API
+     * */
+    @ApiOperation("진행 중인 탈퇴 정리 작업 조회")
+    @GetMapping("/withdrawal")
+    public ResponseEntity<List<MemberWithdrawal>> getPendingWithdrawals(@RequestParam Long page) {
+        return ResponseEntity.ok(withdrawalService.findPending(page));
+    }
+
+    @ApiOperation("member 의 탈퇴 정리 진행 상황")
+    @GetMapping("/withdrawal/{memberId}")
+    public ResponseEntity<MemberWithdrawal> getWithdrawal(@PathVariable Long memberId) {
+        return ResponseEntity.ok(withdrawalService.findByMemberId(memberId));
+    }
+}
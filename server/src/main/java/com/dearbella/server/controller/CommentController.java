@@ -7,8 +7,6 @@ import com.dearbella.server.dto.request.comment.CommentEditRequestDto;
 import com.dearbella.server.dto.response.comment.CommentMemberResponseDto;
 import com.dearbella.server.dto.response.comment.CommentResponseDto;
 import com.dearbella.server.service.comment.CommentService;
-import com.dearbella.server.service.fcm.FCMService;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +14,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -26,16 +23,11 @@ import java.util.List;
 @Api(tags = {"댓글 API"})
 public class CommentController {
     private final CommentService commentService;
-    private final FCMService fcmService;
 
     @ApiOperation("커뮤니티 댓글 생성")
     @PostMapping("/add")
-    public ResponseEntity<CommentMemberResponseDto> addComment(@RequestBody CommentAddRequestDto dto) throws IOException, FirebaseMessagingException {
-        final ResponseEntity<CommentMemberResponseDto> ok = ResponseEntity.ok(commentService.addComment(dto));
-
-        fcmService.sendMessageByTopic("post comment", ok.getBody().getMemberName(), "post-" + ok.getBody().getId());
-
-        return ok;
+    public ResponseEntity<CommentMemberResponseDto> addComment(@RequestBody CommentAddRequestDto dto) {
+        return ResponseEntity.ok(commentService.addComment(dto));
     }
 
     @ApiOperation("댓글 삭제")
@@ -57,4 +49,10 @@ public class CommentController {
     public ResponseEntity<String> likeComment(@RequestParam Long commentId) {
         return ResponseEntity.ok(commentService.likeComment(commentId));
     }
+
+    @ApiOperation("댓글 좋아요 상태 지정, 같은 요청을 여러 번 보내도 결과가 같다")
+    @PutMapping("/like")
+    public ResponseEntity<String> likeComment(@RequestParam Long commentId, @RequestParam Boolean liked) {
+        return ResponseEntity.ok(commentService.likeComment(commentId, liked));
+    }
 }
@@ -1,6 +1,7 @@
 package com.dearbella.server.controller;
 
 import com.dearbella.server.domain.DoctorMember;
+import com.dearbella.server.dto.response.cursor.CursorResponseDto;
 import com.dearbella.server.dto.response.doctor.MyDoctorResponseDto;
 import com.dearbella.server.service.doctor.DoctorService;
 import io.swagger.annotations.Api;
@@ -26,6 +27,13 @@ public class DoctorController {
         return ResponseEntity.ok(doctorService.findMyDoctors());
     }
 
+    @ApiOperation("내가 찜한 의사 리스트(커서 페이징)")
+    @GetMapping("/my/feed")
+    public ResponseEntity<CursorResponseDto<MyDoctorResponseDto>> getMyFeed(@RequestParam(required = false) String cursor,
+                                                                            @RequestParam(required = false) Long size) {
+        return ResponseEntity.ok(doctorService.findMyFeed(cursor, size));
+    }
+
     @ApiOperation("의사 찜하기")
     @GetMapping("/wish")
     public ResponseEntity<DoctorMember> addWish(@RequestParam Long doctorId) {
@@ -39,4 +47,12 @@ public class DoctorController {
 
         return ResponseEntity.ok().build();
     }
+
+    @ApiOperation("의사 찜 상태 지정, 같은 요청을 여러 번 보내도 결과가 같다")
+    @PutMapping("/wish")
+    public ResponseEntity wish(@RequestParam Long doctorId, @RequestParam Boolean wished) {
+        doctorService.wish(doctorId, wished);
+
+        return ResponseEntity.ok().build();
+    }
 }
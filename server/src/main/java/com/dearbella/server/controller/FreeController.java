@@ -3,8 +3,9 @@ package com.dearbella.server.controller;
 import com.dearbella.server.domain.MemberIp;
 import com.dearbella.server.dto.request.doctor.DoctorDetailResponseDto;
 import com.dearbella.server.dto.response.banner.BannerDetailResponseDto;
-import com.dearbella.server.dto.response.banner.BannerResponseDto;
 import com.dearbella.server.dto.response.comment.CommentResponseDto;
+import com.dearbella.server.dto.response.comment.CommentThreadResponseDto;
+import com.dearbella.server.dto.response.cursor.CursorResponseDto;
 import com.dearbella.server.dto.response.doctor.DoctorResponseDto;
 import com.dearbella.server.dto.response.hospital.HospitalDetailResponseDto;
 import com.dearbella.server.dto.response.hospital.HospitalResponseDto;
@@ -15,15 +16,17 @@ import com.dearbella.server.dto.response.review.ReviewResponseDto;
 import com.dearbella.server.service.banner.BannerService;
 import com.dearbella.server.service.comment.CommentService;
 import com.dearbella.server.service.doctor.DoctorService;
-import com.dearbella.server.service.fcm.FCMService;
 import com.dearbella.server.service.hospital.HospitalService;
 import com.dearbella.server.service.ip.IpService;
 import com.dearbella.server.service.post.PostService;
 import com.dearbella.server.service.review.ReviewService;
+import com.dearbella.server.vo.BannerSnapshotVo;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
@@ -47,10 +50,17 @@ public class FreeController {
     /**
      * Banner API
      * */
-    @ApiOperation("배너 조회")
+    @ApiOperation(value = "배너 조회", notes = "List<BannerResponseDto>, If-None-Match 가 같으면 304")
     @GetMapping("/banner")
-    public ResponseEntity<List<BannerResponseDto>> getBanners(@RequestParam Long location) {
-        return ResponseEntity.ok(bannerService.getBanners(location == 1));
+    public ResponseEntity<byte[]> getBanners(@RequestParam Long location) {
+        final BannerSnapshotVo snapshot = bannerService.getSnapshot(location == 1);
+
+        // ETag 가 If-None-Match 와 같으면 스프링이 본문 없이 304 로 바꾼다
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getBody());
     }
 
     @ApiOperation("배너 상세 조회")
@@ -68,10 +78,20 @@ public class FreeController {
         return ResponseEntity.ok(reviewService.findByCategory(category));
     }
 
+    @ApiOperation("추천 리뷰 피드(카테고리, 커서 페이징)")
+    @GetMapping("/review/feed")
+    public ResponseEntity<CursorResponseDto<ReviewResponseDto>> getReviewFeed(@RequestParam Long category,
+                                                                            @RequestParam(required = false) String cursor,
+                                                                            @RequestParam(required = false) Long size) {
+        return ResponseEntity.ok(reviewService.findFeedByCategory(category, cursor, size));
+    }
+
     @ApiOperation("추천 리뷰 조회(검색어)")
     @GetMapping("/review/search/query")
-    public ResponseEntity<Set<ReviewResponseDto>> getReviews(@RequestParam String query) {
-        return ResponseEntity.ok(reviewService.findByQuery(query));
+    public ResponseEntity<List<ReviewResponseDto>> getReviews(@RequestParam String query,
+                                                              @RequestParam(required = false) Long page,
+                                                              @RequestParam(required = false) Long size) {
+        return ResponseEntity.ok(reviewService.findByQuery(query, page, size));
     }
 
     @ApiOperation("review 상세 조회")
@@ -85,14 +105,18 @@ public class FreeController {
      * */
     @ApiOperation("병원 전체 리스트")
     @GetMapping("/hospital/all")
-    public ResponseEntity<List<HospitalResponseDto>> getHospitals(@RequestParam Long category, @RequestParam Long sort) {
-        return ResponseEntity.ok(hospitalService.getAll(category, sort));
+    public ResponseEntity<List<HospitalResponseDto>> getHospitals(@RequestParam Long category, @RequestParam Long sort,
+                                                                  @RequestParam(required = false) Long page,
+                                                                  @RequestParam(required = false) Long size) {
+        return ResponseEntity.ok(hospitalService.getAll(category, sort, page, size));
     }
 
     @ApiOperation("병원 전체 리스트(검색)")
     @GetMapping("/hospital/search")
-    public ResponseEntity<Set<HospitalResponseDto>> findByQuery(@RequestParam String query) {
-        return ResponseEntity.ok(hospitalService.findByQuery(query));
+    public ResponseEntity<List<HospitalResponseDto>> findByQuery(@RequestParam String query,
+                                                                 @RequestParam(required = false) Long page,
+                                                                 @RequestParam(required = false) Long size) {
+        return ResponseEntity.ok(hospitalService.findByQuery(query, page, size));
     }
 
     @ApiOperation("병원 상세 정보")
@@ -112,8 +136,10 @@ public class FreeController {
 
     @ApiOperation("의사 전체 리스트(검색)")
     @GetMapping("/doctor/search")
-    public ResponseEntity<Set<DoctorResponseDto>> findDoctorsByQuery(@RequestParam String query) {
-        return ResponseEntity.ok(doctorService.findByQuery(query));
+    public ResponseEntity<List<DoctorResponseDto>> findDoctorsByQuery(@RequestParam String query,
+                                                                      @RequestParam(required = false) Long page,
+                                                                      @RequestParam(required = false) Long size) {
+        return ResponseEntity.ok(doctorService.findByQuery(query, page, size));
     }
 
     @ApiOperation("원장 디테일")
@@ -136,12 +162,22 @@ public class FreeController {
         return ResponseEntity.ok(postService.findAll(tagId));
     }
 
+    @ApiOperation("커뮤니티 게시글 피드(커서 페이징)")
+    @GetMapping("/post/feed")
+    public ResponseEntity<CursorResponseDto<PostFindResponseDto>> getPostFeed(@RequestParam Long tagId,
+                                                                            @RequestParam(required = false) String cursor,
+                                                                            @RequestParam(required = false) Long size) {
+        return ResponseEntity.ok(postService.findFeed(tagId, cursor, size));
+    }
+
     @ApiOperation("커뮤니티 게시글 상세 조회")
     @GetMapping("/post/detail")
     public ResponseEntity<PostDetailResponseDto> getPostDetail(@RequestParam Long postId) {
+        final PostDetailResponseDto response = postService.findById(postId);
+
         postService.addViewNum(postId);
 
-        return ResponseEntity.ok(postService.findById(postId));
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -152,4 +188,28 @@ public class FreeController {
     public ResponseEntity<List<CommentResponseDto>> getComments(@RequestParam Long id) {
         return ResponseEntity.ok(commentService.getAll(id));
     }
+
+    @ApiOperation("후기/커뮤니티 댓글 불러오기(커서 페이징)")
+    @GetMapping("/comment/feed")
+    public ResponseEntity<CursorResponseDto<CommentResponseDto>> getCommentFeed(@RequestParam Long id,
+                                                                              @RequestParam(required = false) String cursor,
+                                                                              @RequestParam(required = false) Long size) {
+        return ResponseEntity.ok(commentService.getFeed(id, cursor, size));
+    }
+
+    @ApiOperation("댓글 스레드 불러오기(최상위 댓글 커서 페이징, 답글은 앞부분만)")
+    @GetMapping("/comment/thread")
+    public ResponseEntity<CursorResponseDto<CommentThreadResponseDto>> getCommentThread(@RequestParam Long id,
+                                                                                      @RequestParam(required = false) String cursor,
+                                                                                      @RequestParam(required = false) Long size) {
+        return ResponseEntity.ok(commentService.getThread(id, cursor, size));
+    }
+
+    @ApiOperation("답글 더 불러오기(커서 페이징)")
+    @GetMapping("/comment/replies")
+    public ResponseEntity<CursorResponseDto<CommentThreadResponseDto>> getCommentReplies(@RequestParam Long parentId,
+                                                                                       @RequestParam(required = false) String cursor,
+                                                                                       @RequestParam(required = false) Long size) {
+        return ResponseEntity.ok(commentService.getReplies(parentId, cursor, size));
+    }
 }
@@ -1,6 +1,7 @@
 package com.dearbella.server.controller;
 
 import com.dearbella.server.domain.HospitalMember;
+import com.dearbella.server.dto.response.cursor.CursorResponseDto;
 import com.dearbella.server.dto.response.hospital.MyHospitalResponseDto;
 import com.dearbella.server.service.hospital.HospitalService;
 import io.swagger.annotations.Api;
@@ -26,6 +27,13 @@ public class HospitalController {
         return ResponseEntity.ok(hospitalService.findByMemberId());
     }
 
+    @ApiOperation("내가 찜한 병원 리스트(커서 페이징)")
+    @GetMapping("/my/feed")
+    public ResponseEntity<CursorResponseDto<MyHospitalResponseDto>> getMyFeed(@RequestParam(required = false) String cursor,
+                                                                            @RequestParam(required = false) Long size) {
+        return ResponseEntity.ok(hospitalService.findMyFeed(cursor, size));
+    }
+
     @ApiOperation("병원 찜하기")
     @GetMapping("/wish")
     public ResponseEntity<HospitalMember> addWish(@RequestParam Long hospitalId) {
@@ -38,4 +46,12 @@ public class HospitalController {
         hospitalService.deleteWish(hospitalId);
         return ResponseEntity.ok().build();
     }
+
+    @ApiOperation("병원 찜 상태 지정, 같은 요청을 여러 번 보내도 결과가 같다")
+    @PutMapping("/wish")
+    public ResponseEntity wish(@RequestParam Long hospitalId, @RequestParam Boolean wished) {
+        hospitalService.wish(hospitalId, wished);
+
+        return ResponseEntity.ok().build();
+    }
 }
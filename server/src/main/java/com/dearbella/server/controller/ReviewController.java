@@ -4,11 +4,9 @@ import com.dearbella.server.domain.Review;
 import com.dearbella.server.domain.ReviewLike;
 import com.dearbella.server.dto.request.review.ReviewAddRequestDto;
 import com.dearbella.server.dto.response.review.MyReviewResponseDto;
-import com.dearbella.server.service.fcm.FCMService;
-import com.dearbella.server.service.member.MemberService;
 import com.dearbella.server.service.review.ReviewService;
 import com.dearbella.server.service.s3.S3UploadService;
-import com.google.firebase.messaging.FirebaseMessagingException;
+import com.dearbella.server.vo.UploadGroupVo;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -17,10 +15,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -31,29 +27,17 @@ import java.util.List;
 public class ReviewController {
     private final ReviewService reviewService;
     private final S3UploadService s3UploadService;
-    private final FCMService fcmService;
-    private final MemberService memberService;
 
     @ApiOperation("후기 작성")
     @PostMapping(value = "/add", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
     @Transactional
     public ResponseEntity<Review> addReview(@ModelAttribute ReviewAddRequestDto dto) throws IOException {
-        List<String> befores = new ArrayList<>();
-        List<String> afters = new ArrayList<>();
+        final List<List<String>> urls = s3UploadService.uploadAll(List.of(
+                UploadGroupVo.of(dto.getBefores(), "dearbella/review/before"),
+                UploadGroupVo.of(dto.getAfters(), "dearbella/review/after")
+        ));
 
-        for(MultipartFile file: dto.getBefores()) {
-            befores.add(
-                    s3UploadService.upload(file, "dearbella/review/before", false)
-            );
-        }
-
-        for(MultipartFile file: dto.getBefores()) {
-            afters.add(
-                    s3UploadService.upload(file, "dearbella/review/after", false)
-            );
-        }
-
-        return ResponseEntity.ok(reviewService.addReview(dto, befores, afters));
+        return ResponseEntity.ok(reviewService.addReview(dto, urls.get(0), urls.get(1)));
     }
 
     @ApiOperation("내가 작성한 후기")
@@ -64,12 +48,13 @@ public class ReviewController {
 
     @ApiOperation("리뷰 좋아요/취소")
     @GetMapping("/like")
-    public ResponseEntity<String> likeReview(@RequestParam Long reviewId) throws IOException, FirebaseMessagingException {
-        final ResponseEntity<String> ok = ResponseEntity.ok(reviewService.likeReview(reviewId));
-
-        if(ok.getBody().equals("save"))
-            fcmService.sendMessageByTopic("review", memberService.getMemberName(), "review-" + reviewId);
+    public ResponseEntity<String> likeReview(@RequestParam Long reviewId) {
+        return ResponseEntity.ok(reviewService.likeReview(reviewId));
+    }
 
-        return ok;
+    @ApiOperation("리뷰 좋아요 상태 지정, 같은 요청을 여러 번 보내도 결과가 같다")
+    @PutMapping("/like")
+    public ResponseEntity<String> likeReview(@RequestParam Long reviewId, @RequestParam Boolean liked) {
+        return ResponseEntity.ok(reviewService.likeReview(reviewId, liked));
     }
 }
@@ -37,6 +37,9 @@ public class Comment {
     @Column(name = "deleted", columnDefinition = "tinyint")
     private Boolean deleted;
 
+    @Column(name = "like_num", columnDefinition = "int", updatable = false)
+    private Long likeNum;
+
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 }
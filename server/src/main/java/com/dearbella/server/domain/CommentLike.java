@@ -7,7 +7,7 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comment_like")
+@Table(name = "comment_like", uniqueConstraints = @UniqueConstraint(name = "uk_comment_like", columnNames = {"comment_id", "member_id"}))
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -37,10 +37,13 @@ public class Doctor {
     @Column(name = "sequence", columnDefinition = "int")
     private Long sequence;
 
-    @Column(name = "total_rate", columnDefinition = "float")
+    /**
+     * rate_sum / review_num, repository 의 update 쿼리로만 바꾼다
+     * */
+    @Column(name = "total_rate", columnDefinition = "float", updatable = false)
     private Float totalRate;
 
-    @OneToMany(fetch = FetchType.LAZY)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "doctor_category",
             joinColumns = {@JoinColumn(name = "doctor_id", referencedColumnName = "doctor_id")},
@@ -67,6 +70,12 @@ public class Doctor {
     @Column(name = "view_num", columnDefinition = "int")
     private Long viewNum;
 
+    @Column(name = "review_num", columnDefinition = "int", updatable = false)
+    private Long reviewNum;
+
+    @Column(name = "rate_sum", columnDefinition = "double", updatable = false)
+    private Double rateSum;
+
     @Column(name = "admin_id", columnDefinition = "bigint")
     private Long adminId;
 
@@ -7,7 +7,7 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "doctor_member")
+@Table(name = "doctor_member", uniqueConstraints = @UniqueConstraint(name = "uk_doctor_member", columnNames = {"doctor_id", "member_id"}))
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -54,7 +54,10 @@ public class Hospital {
     @Column(name = "dermatologist", columnDefinition = "int")
     private Long dermatologist;
 
-    @Column(name = "total_rate", columnDefinition = "float")
+    /**
+     * rate_sum / review_num, repository 의 update 쿼리로만 바꾼다
+     * */
+    @Column(name = "total_rate", columnDefinition = "float", updatable = false)
     private Float totalRate;
 
     @OneToMany(fetch = FetchType.LAZY)
@@ -84,6 +87,12 @@ public class Hospital {
     @Column(name = "view_num", columnDefinition = "int")
     private Long viewNum;
 
+    @Column(name = "review_num", columnDefinition = "int", updatable = false)
+    private Long reviewNum;
+
+    @Column(name = "rate_sum", columnDefinition = "double", updatable = false)
+    private Double rateSum;
+
     @Column(name = "admin_id", columnDefinition = "bigint")
     private Long adminId;
 
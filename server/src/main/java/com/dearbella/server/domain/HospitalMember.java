@@ -7,7 +7,7 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "hospital_member")
+@Table(name = "hospital_member", uniqueConstraints = @UniqueConstraint(name = "uk_hospital_member", columnNames = {"hospital_id", "memberId"}))
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -2,9 +2,13 @@ package com.dearbella.server.domain;
 
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(name = "image")
@@ -14,8 +18,21 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Builder
 public class Image {
+    /**
+     * IDENTITY 는 insert 마다 바로 실행돼 JDBC batch 가 꺼진다
+     * image_seq 에서 50 개씩 미리 받아(pooled-lo) 여러 장을 한 번의 batch insert 로 넣는다, MySQL 에서는 테이블로 흉내 낸다
+     * */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "image_seq")
+    @GenericGenerator(
+            name = "image_seq",
+            strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "image_seq"),
+                    @Parameter(name = "increment_size", value = "50"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            }
+    )
     @Column(name = "image_id", columnDefinition = "int")
     private Long imageId;
 
@@ -27,4 +44,22 @@ public class Image {
 
     @CreationTimestamp
     private LocalDateTime createdAt;
+
+    /**
+     * url 마다 Image 하나, imageRepository.saveAll 로 한 번에 저장한다
+     * */
+    public static List<Image> of(final List<String> imageUrls, final Long memberId) {
+        List<Image> images = new ArrayList<>();
+
+        for(String imageUrl: imageUrls) {
+            images.add(
+                    Image.builder()
+                            .imageUrl(imageUrl)
+                            .memberId(memberId)
+                            .build()
+            );
+        }
+
+        return images;
+    }
 }
@@ -0,0 +1,49 @@
+package com.dearbella.server.domain;
+
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 탈퇴한 member 의 좋아요, 찜, 접속 ip 를 나눠서 지우는 작업과 진행 상황
+ * */
+@Entity
+@Table(name = "member_withdrawal")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MemberWithdrawal {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "withdrawal_id", columnDefinition = "bigint")
+    private Long withdrawalId;
+
+    @Column(name = "member_id", columnDefinition = "bigint")
+    private Long memberId;
+
+    /**
+     * WithdrawalStepEnum
+     * */
+    @Column(name = "step", columnDefinition = "int")
+    private Long step;
+
+    /**
+     * 지금까지 지운 row 수
+     * */
+    @Column(name = "processed", columnDefinition = "bigint")
+    private Long processed;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
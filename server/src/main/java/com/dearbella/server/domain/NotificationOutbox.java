@@ -0,0 +1,60 @@
+package com.dearbella.server.domain;
+
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class NotificationOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id", columnDefinition = "bigint")
+    private Long outboxId;
+
+    /**
+     * NotificationChannelEnum
+     * */
+    @Column(name = "channel", columnDefinition = "int")
+    private Long channel;
+
+    /**
+     * fcm topic 또는 메일 주소
+     * */
+    @Column(name = "target", length = 100, columnDefinition = "varchar")
+    private String target;
+
+    @Column(name = "title", columnDefinition = "text")
+    private String title;
+
+    @Column(name = "body", columnDefinition = "text")
+    private String body;
+
+    /**
+     * NotificationStatusEnum
+     * */
+    @Column(name = "status", columnDefinition = "int")
+    private Long status;
+
+    @Column(name = "attempts", columnDefinition = "int")
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "text")
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
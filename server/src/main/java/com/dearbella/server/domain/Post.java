@@ -50,6 +50,13 @@ Post {
     @Column(name = "view_num", columnDefinition = "int")
     private Long viewNum;
 
+    @Column(name = "like_num", columnDefinition = "int", updatable = false)
+    private Long likeNum;
+
+
+    @Column(name = "comment_num", columnDefinition = "int", updatable = false)
+    private Long commentNum;
+
     @Column(name = "deleted", columnDefinition = "tinyint")
     private Boolean deleted;
 
@@ -5,7 +5,7 @@ import lombok.*;
 import javax.persistence.*;
 
 @Entity
-@Table(name = "post_like")
+@Table(name = "post_like", uniqueConstraints = @UniqueConstraint(name = "uk_post_like", columnNames = {"post_id", "member_id"}))
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -54,6 +54,9 @@ public class Review {
     @Column(name = "view_num", columnDefinition = "int")
     private Long viewNum;
 
+    @Column(name = "like_num", columnDefinition = "int", updatable = false)
+    private Long likeNum;
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "review_before_image",
@@ -5,7 +5,7 @@ import lombok.*;
 import javax.persistence.*;
 
 @Entity
-@Table(name = "review_like")
+@Table(name = "review_like", uniqueConstraints = @UniqueConstraint(name = "uk_review_like", columnNames = {"review_id", "member_id"}))
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
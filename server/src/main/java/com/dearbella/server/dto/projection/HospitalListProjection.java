@@ -0,0 +1,15 @@
+package com.dearbella.server.dto.projection;
+
+/**
+ * 병원 리스트 한 줄 조회 결과
+ * review 수, 찜 여부, 대표 배너 이미지까지 쿼리 한 번으로 가져온다.
+ * */
+public interface HospitalListProjection {
+    Long getHospitalId();
+    String getHospitalName();
+    String getHospitalImage();
+    String getLocation();
+    Float getRate();
+    Long getReviewNum();
+    Long getWished();
+}
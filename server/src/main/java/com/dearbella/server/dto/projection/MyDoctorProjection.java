@@ -0,0 +1,16 @@
+package com.dearbella.server.dto.projection;
+
+/**
+ * 찜한 의사 한 줄 조회 결과
+ * 찜 id 는 커서로 쓰고, 리뷰 수 / 평점은 doctor 의 카운터 컬럼을 쓴다
+ * */
+public interface MyDoctorProjection {
+    Long getWishId();
+    Long getDoctorId();
+    String getDoctorName();
+    String getDoctorImage();
+    String getHospitalName();
+    Long getReviewNum();
+    Float getRate();
+    String getIntro();
+}
@@ -0,0 +1,14 @@
+package com.dearbella.server.dto.projection;
+
+/**
+ * 찜한 병원 한 줄 조회 결과
+ * 찜 id 는 커서로 쓰고, 리뷰 수 / 평점은 hospital 의 카운터 컬럼을 쓴다
+ * */
+public interface MyHospitalProjection {
+    Long getWishId();
+    Long getHospitalId();
+    String getHospitalName();
+    Float getRate();
+    Long getReviewNum();
+    String getLocation();
+}
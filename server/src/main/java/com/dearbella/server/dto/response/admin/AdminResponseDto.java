@@ -1,5 +1,6 @@
 package com.dearbella.server.dto.response.admin;
 
+import com.dearbella.server.domain.Admin;
 import lombok.*;
 
 @AllArgsConstructor
@@ -12,4 +13,8 @@ public class AdminResponseDto {
     private String hospitalName;
     private String adminId;
     private Long totalPages;
+
+    public static AdminResponseDto of(final Admin admin) {
+        return new AdminResponseDto(admin.getMemberId(), admin.getHospitalName(), admin.getAdminId(), null);
+    }
 }
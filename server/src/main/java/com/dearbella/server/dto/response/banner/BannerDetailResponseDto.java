@@ -1,5 +1,6 @@
 package com.dearbella.server.dto.response.banner;
 
+import com.dearbella.server.domain.Banner;
 import com.dearbella.server.domain.Image;
 import com.dearbella.server.domain.Infra;
 import lombok.Getter;
@@ -21,4 +22,23 @@ public class BannerDetailResponseDto {
     private List<Image> bannerImages;
     private List<Image> bannerDetailImages;
     private List<Infra> bannerInfra;
+
+    /**
+     * reviewNum, rate 는 병원에서 가져와 호출하는 쪽에서 채운다
+     * */
+    public static BannerDetailResponseDto of(final Banner banner) {
+        BannerDetailResponseDto response = new BannerDetailResponseDto();
+
+        response.setBannerId(banner.getBannerId());
+        response.setBannerLink(banner.getBannerLink());
+        response.setHospitalName(banner.getHospitalName());
+        response.setMainImage(banner.getMainImage());
+        response.setHospitalLocation(banner.getHospitalLocation());
+        response.setDescription(banner.getDescription());
+        response.setBannerImages(banner.getBannerImages());
+        response.setBannerDetailImages(banner.getBannerDetailImages());
+        response.setBannerInfra(banner.getBannerInfra());
+
+        return response;
+    }
 }
@@ -1,5 +1,6 @@
 package com.dearbella.server.dto.response.banner;
 
+import com.dearbella.server.domain.Banner;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -10,4 +11,18 @@ public class BannerResponseDto {
     private String bannerLink;
     private String hospitalName;
     private String mainImage;
+
+    /**
+     * 이미지 컬렉션은 건드리지 않는다
+     * */
+    public static BannerResponseDto of(final Banner banner) {
+        BannerResponseDto response = new BannerResponseDto();
+
+        response.setBannerId(banner.getBannerId());
+        response.setBannerLink(banner.getBannerLink());
+        response.setHospitalName(banner.getHospitalName());
+        response.setMainImage(banner.getMainImage());
+
+        return response;
+    }
 }
@@ -10,6 +10,7 @@ import lombok.*;
 public class CommentResponseDto {
     private Long commentId;
     private Long parentId;
+    private String content;
     private String updatedAt;
     private Long memberId;
     private String memberName;
@@ -0,0 +1,34 @@
+package com.dearbella.server.dto.response.comment;
+
+import lombok.*;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+public class CommentThreadResponseDto {
+    private Long commentId;
+    private Long parentId;
+    private String content;
+    private String updatedAt;
+    private Long memberId;
+    private String memberName;
+    private String memberImage;
+    private Long likeNum;
+    /**
+     * 요청한 member 가 좋아요했는지, 로그인하지 않았으면 false
+     * */
+    private Boolean liked;
+    /**
+     * 최상위 댓글의 전체 답글 수, 답글이면 null
+     * */
+    private Long replyNum;
+    /**
+     * replies 뒤의 답글은 /free/comment/replies 에 이 커서로 요청한다, 더 없으면 null
+     * */
+    private String replyCursor;
+    private List<CommentThreadResponseDto> replies;
+}
@@ -0,0 +1,18 @@
+package com.dearbella.server.dto.response.cursor;
+
+import lombok.*;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+public class CursorResponseDto<T> {
+    private List<T> items;
+    /**
+     * 다음 페이지를 요청할 때 그대로 넘긴다, 마지막 페이지면 null
+     * */
+    private String nextCursor;
+}
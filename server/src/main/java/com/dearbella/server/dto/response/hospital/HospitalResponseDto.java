@@ -1,8 +1,12 @@
 package com.dearbella.server.dto.response.hospital;
 
+import com.dearbella.server.dto.projection.HospitalListProjection;
 import com.dearbella.server.dto.response.review.ReviewResponseDto;
 import lombok.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -17,6 +21,29 @@ public class HospitalResponseDto {
     private Long reviewNum;
     private Boolean isMine;
 
+    /**
+     * 병원 목록 한 페이지를 응답 DTO 로 바꾼다
+     * */
+    public static List<HospitalResponseDto> of(final List<HospitalListProjection> hospitals) {
+        List<HospitalResponseDto> responseDtos = new ArrayList<>();
+
+        for(HospitalListProjection hospital: hospitals) {
+            responseDtos.add(
+                    HospitalResponseDto.builder()
+                            .hospitalId(hospital.getHospitalId())
+                            .hospitalImage(hospital.getHospitalImage())
+                            .hospitalName(hospital.getHospitalName())
+                            .isMine(hospital.getWished() > 0)
+                            .location(hospital.getLocation())
+                            .rate(hospital.getRate())
+                            .reviewNum(hospital.getReviewNum())
+                            .build()
+            );
+        }
+
+        return responseDtos;
+    }
+
     @Override
     public int hashCode() {
         return this.hospitalId.hashCode();
@@ -4,9 +4,6 @@ import com.dearbella.server.domain.Member;
 import com.dearbella.server.domain.Token;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
-
-import static com.dearbella.server.config.MapperConfig.modelMapper;
 
 @Getter
 @Setter
@@ -24,11 +21,14 @@ public class LoginResponseDto {
     private String phone;
 
     public static LoginResponseDto of(Member user, Token token) {
-        LoginResponseDto map = modelMapper.map(user, LoginResponseDto.class);
-
-        map.setAccessToken(token.getAccessToken());
-        map.setRefreshToken(token.getRefreshToken());
-
-        return map;
+        return LoginResponseDto.builder()
+                .memberId(user.getMemberId())
+                .accessToken(token.getAccessToken())
+                .refreshToken(token.getRefreshToken())
+                .nickname(user.getNickname())
+                .loginEmail(user.getLoginEmail())
+                .profileImg(user.getProfileImg())
+                .phone(user.getPhone())
+                .build();
     }
 }
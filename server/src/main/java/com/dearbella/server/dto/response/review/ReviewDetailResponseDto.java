@@ -1,6 +1,7 @@
 package com.dearbella.server.dto.response.review;
 
 import com.dearbella.server.domain.Image;
+import com.dearbella.server.domain.Review;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -25,4 +26,26 @@ public class ReviewDetailResponseDto {
     private Long likeNum;
     private Long commentNum;
     private String content;
+
+    /**
+     * nickname, profileImg 는 호출하는 쪽에서 채운다
+     * */
+    public static ReviewDetailResponseDto of(final Review review) {
+        ReviewDetailResponseDto response = new ReviewDetailResponseDto();
+
+        response.setReviewId(review.getReviewId());
+        response.setMemberId(review.getMemberId());
+        response.setUpdatedAt(review.getUpdatedAt());
+        response.setBefores(review.getBefores());
+        response.setAfters(review.getAfters());
+        response.setTitle(review.getTitle());
+        response.setRate(review.getRate());
+        response.setDoctorId(review.getDoctorId());
+        response.setHospitalId(review.getHospitalId());
+        response.setHospitalName(review.getHospitalName());
+        response.setLikeNum(review.getLikeNum());
+        response.setContent(review.getContent());
+
+        return response;
+    }
 }
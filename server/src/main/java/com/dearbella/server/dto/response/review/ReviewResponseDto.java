@@ -1,5 +1,6 @@
 package com.dearbella.server.dto.response.review;
 
+import com.dearbella.server.domain.Review;
 import lombok.*;
 
 @Getter
@@ -12,6 +13,10 @@ public class ReviewResponseDto {
     private String title;
     private Float rate;
 
+    public static ReviewResponseDto of(final Review review) {
+        return new ReviewResponseDto(review.getReviewId(), review.getTitle(), review.getRate());
+    }
+
     @Override
     public int hashCode() {
         return this.reviewId.hashCode();
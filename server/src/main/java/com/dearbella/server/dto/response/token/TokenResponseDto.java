@@ -1,5 +1,6 @@
 package com.dearbella.server.dto.response.token;
 
+import com.dearbella.server.domain.Token;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -13,4 +14,16 @@ public class TokenResponseDto {
     private Long memberId;
     private LocalDate accessTokenExpiredAt;
     private LocalDate refreshTokenExpiredAt;
+
+    public static TokenResponseDto of(final Token token) {
+        TokenResponseDto response = new TokenResponseDto();
+
+        response.setAccessToken(token.getAccessToken());
+        response.setRefreshToken(token.getRefreshToken());
+        response.setMemberId(token.getMemberId());
+        response.setAccessTokenExpiredAt(token.getAccessTokenExpiredAt());
+        response.setRefreshTokenExpiredAt(token.getRefreshTokenExpiredAt());
+
+        return response;
+    }
 }
\ No newline at end of file
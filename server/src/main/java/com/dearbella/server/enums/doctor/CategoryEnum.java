@@ -1,5 +1,10 @@
 package com.dearbella.server.enums.doctor;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public enum CategoryEnum {
     Entire(0L),
     Nose(1L),
@@ -13,6 +18,9 @@ public enum CategoryEnum {
     Skin(9L),
     Etc(10L);
 
+    private static final Map<Long, CategoryEnum> BY_VALUE = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(CategoryEnum::getValue, Function.identity()));
+
     private Long value;
 
     CategoryEnum(Long value) {
@@ -24,11 +32,6 @@ public enum CategoryEnum {
     }
 
     public static CategoryEnum findByValue(Long value) {
-        for (CategoryEnum category : CategoryEnum.values()) {
-            if (category.getValue().equals(value)) {
-                return category;
-            }
-        }
-        return null;
+        return value == null ? null : BY_VALUE.get(value);
     }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.dearbella.server.enums.member;
+
+/**
+ * 탈퇴 후 백그라운드에서 지우는 순서, DONE 이면 끝난 작업
+ * */
+public enum WithdrawalStepEnum {
+    POST_LIKE(0L),
+    REVIEW_LIKE(1L),
+    COMMENT_LIKE(2L),
+    DOCTOR_WISH(3L),
+    HOSPITAL_WISH(4L),
+    MEMBER_IP(5L),
+    DONE(6L);
+
+    private Long value;
+
+    WithdrawalStepEnum(Long value) {
+        this.value = value;
+    }
+
+    public Long getValue() {
+        return value;
+    }
+
+    public WithdrawalStepEnum next() {
+        return this == DONE ? DONE : values()[ordinal() + 1];
+    }
+
+    public static WithdrawalStepEnum findByValue(Long value) {
+        for (WithdrawalStepEnum step : WithdrawalStepEnum.values()) {
+            if (step.getValue().equals(value)) {
+                return step;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.dearbella.server.enums.notification;
+
+public enum NotificationChannelEnum {
+    FCM(0L),
+    MAIL(1L);
+
+    private Long value;
+
+    NotificationChannelEnum(Long value) {
+        this.value = value;
+    }
+
+    public Long getValue() {
+        return value;
+    }
+
+    public static NotificationChannelEnum findByValue(Long value) {
+        for (NotificationChannelEnum channel : NotificationChannelEnum.values()) {
+            if (channel.getValue().equals(value)) {
+                return channel;
+            }
+        }
+        return null;
+    }
+}
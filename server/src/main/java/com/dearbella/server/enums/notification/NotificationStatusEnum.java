@@ -0,0 +1,27 @@
+package com.dearbella.server.enums.notification;
+
+public enum NotificationStatusEnum {
+    PENDING(0L),
+    SENT(1L),
+    DEAD(2L),
+    IN_FLIGHT(3L);
+
+    private Long value;
+
+    NotificationStatusEnum(Long value) {
+        this.value = value;
+    }
+
+    public Long getValue() {
+        return value;
+    }
+
+    public static NotificationStatusEnum findByValue(Long value) {
+        for (NotificationStatusEnum status : NotificationStatusEnum.values()) {
+            if (status.getValue().equals(value)) {
+                return status;
+            }
+        }
+        return null;
+    }
+}
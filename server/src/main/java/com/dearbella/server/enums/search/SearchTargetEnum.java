@@ -0,0 +1,7 @@
+package com.dearbella.server.enums.search;
+
+public enum SearchTargetEnum {
+    HOSPITAL,
+    DOCTOR,
+    REVIEW
+}
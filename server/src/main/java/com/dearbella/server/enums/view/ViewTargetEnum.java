@@ -0,0 +1,23 @@
+package com.dearbella.server.enums.view;
+
+public enum ViewTargetEnum {
+    POST("post", "post_id"),
+    DOCTOR("doctor", "doctor_id"),
+    HOSPITAL("hospital", "hospital_id");
+
+    private String table;
+    private String idColumn;
+
+    ViewTargetEnum(String table, String idColumn) {
+        this.table = table;
+        this.idColumn = idColumn;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String getIdColumn() {
+        return idColumn;
+    }
+}
@@ -4,6 +4,7 @@ import com.dearbella.server.exception.banner.BannerIdNotFoundException;
 import com.dearbella.server.exception.banner.BannerInfraNotFoundException;
 import com.dearbella.server.exception.banner.BannerNotExistException;
 import com.dearbella.server.exception.comment.CommentIdNotFoundException;
+import com.dearbella.server.exception.cursor.CursorNotValidException;
 import com.dearbella.server.exception.doctor.CategoryNotFoundException;
 import com.dearbella.server.exception.doctor.DoctorByHospitalNameNotFoundException;
 import com.dearbella.server.exception.doctor.DoctorIdNotFoundException;
@@ -180,4 +181,14 @@ public class ApiExceptionHandler {
 
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
+
+    /**
+     * cursor Exception
+     * */
+    @ExceptionHandler(CursorNotValidException.class)
+    public ResponseEntity<ApiErrorResponse> handleException(CursorNotValidException ex) {
+        ApiErrorResponse response = new ApiErrorResponse("DEK-001", "cursor is not valid: " + ex.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
 }
@@ -0,0 +1,15 @@
+package com.dearbella.server.exception.cursor;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+@Getter
+public class CursorNotValidException extends RuntimeException {
+    private String message;
+    public CursorNotValidException(final String cursor) {
+        super(cursor);
+        this.message = cursor;
+    }
+}
@@ -1,12 +1,36 @@
 package com.dearbella.server.repository;
 
 import com.dearbella.server.domain.CommentLike;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
     public List<CommentLike> findByCommentId(Long commentId);
     public Optional<CommentLike> findByCommentIdAndMemberId(Long commentId, Long memberId);
+
+    public List<CommentLike> findByMemberIdOrderByLikeId(Long memberId, Pageable pageable);
+
+    /**
+     * commentIds 중 memberId 가 좋아요한 댓글
+     * */
+    @Query("select cl.commentId from CommentLike cl where cl.memberId = :memberId and cl.commentId in :commentIds")
+    public List<Long> findLikedCommentIds(@Param("memberId") Long memberId, @Param("commentIds") Collection<Long> commentIds);
+
+    /**
+     * uk_comment_like(comment_id, member_id) 에 걸리면 아무것도 하지 않는다, 새로 넣었으면 1
+     * */
+    @Modifying
+    @Query(value = "INSERT INTO comment_like (comment_id, member_id, created_at) VALUES (:commentId, :memberId, now()) ON DUPLICATE KEY UPDATE like_id = like_id", nativeQuery = true)
+    public int insertIfAbsent(@Param("commentId") Long commentId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("delete from CommentLike cl where cl.commentId = :commentId and cl.memberId = :memberId")
+    public int deleteByCommentIdAndMemberId(@Param("commentId") Long commentId, @Param("memberId") Long memberId);
 }
@@ -1,11 +1,83 @@
 package com.dearbella.server.repository;
 
 import com.dearbella.server.domain.Comment;
+import com.dearbella.server.vo.TargetCountVo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     public List<Comment> findAllByIdAndDeletedFalse(Long id);
     public List<Comment> findByMemberIdAndDeletedFalse(Long memberId);
+
+    /**
+     * comment_id 가 쓰여진 순서라서 comment_id 하나로 keyset 페이징, idx_comment_feed(id, deleted, comment_id)
+     * */
+    @Query("select c from Comment c where c.id = :postId and c.deleted = false and c.commentId > :commentId " +
+            "order by c.commentId")
+    public List<Comment> findFeed(@Param("postId") Long postId, @Param("commentId") Long commentId, Pageable pageable);
+
+    /**
+     * like_num 은 엔티티에서 updatable = false 라 이 쿼리로만 바뀐다, 동시 요청도 DB 에서 더해진다
+     * */
+    @Modifying
+    @Query("update Comment c set c.likeNum = coalesce(c.likeNum, 0) + :delta where c.commentId = :id")
+    public int addLikeNum(@Param("id") Long id, @Param("delta") Long delta);
+
+    /**
+     * 아직 남아 있는 comment_like 의 대상마다 1 씩 뺀다, 회원당 대상마다 좋아요는 하나뿐이다
+     * 읽은 comment_like 는 트랜잭션이 끝날 때까지 잠기므로 같은 트랜잭션에서 지우면 뺀 만큼만 지워진다
+     * */
+    @Modifying
+    @Query("update Comment c set c.likeNum = coalesce(c.likeNum, 0) - 1 where c.commentId in (select cl.commentId from CommentLike cl where cl.likeId in :likeIds)")
+    public int subtractLikes(@Param("likeIds") Collection<Long> likeIds);
+
+    /**
+     * 이미 지워졌으면 0, 동시에 지워도 한 요청만 1 을 받는다
+     * */
+    @Modifying
+    @Query("update Comment c set c.deleted = true where c.commentId = :id and c.deleted = false")
+    public int softDelete(@Param("id") Long id);
+
+    /**
+     * 탈퇴 시 글별로 줄어들 댓글 수
+     * */
+    @Query("select new com.dearbella.server.vo.TargetCountVo(c.id, count(c)) from Comment c " +
+            "where c.memberId = :memberId and c.deleted = false group by c.id")
+    public List<TargetCountVo> countActiveByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("update Comment c set c.deleted = true where c.memberId = :memberId and c.deleted = false")
+    public int softDeleteByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 글의 최상위 댓글, idx_comment_thread(id, parent_comment, deleted, comment_id)
+     * */
+    @Query("select c from Comment c where c.id = :postId and c.parentComment is null and c.deleted = false " +
+            "and c.commentId > :commentId order by c.commentId")
+    public List<Comment> findRoots(@Param("postId") Long postId, @Param("commentId") Long commentId, Pageable pageable);
+
+    /**
+     * 부모마다 앞에서 fanOut 개의 답글만, 부모 순서 그다음 comment_id 순으로 한 번에 읽는다
+     * idx_comment_parent(parent_comment, deleted, comment_id)
+     * */
+    @Query(value = "select c.* from comment c join (" +
+            "select comment_id, row_number() over (partition by parent_comment order by comment_id) as rn " +
+            "from comment where parent_comment in (:parentIds) and deleted = 0" +
+            ") r on r.comment_id = c.comment_id " +
+            "where r.rn <= :fanOut order by c.parent_comment, c.comment_id", nativeQuery = true)
+    public List<Comment> findFirstReplies(@Param("parentIds") Collection<Long> parentIds, @Param("fanOut") int fanOut);
+
+    @Query("select c from Comment c where c.parentComment = :parentId and c.deleted = false " +
+            "and c.commentId > :commentId order by c.commentId")
+    public List<Comment> findReplies(@Param("parentId") Long parentId, @Param("commentId") Long commentId, Pageable pageable);
+
+    @Query("select new com.dearbella.server.vo.TargetCountVo(c.parentComment, count(c)) from Comment c " +
+            "where c.parentComment in :parentIds and c.deleted = false group by c.parentComment")
+    public List<TargetCountVo> countReplies(@Param("parentIds") Collection<Long> parentIds);
 }
@@ -1,14 +1,50 @@
 package com.dearbella.server.repository;
 
 import com.dearbella.server.domain.DoctorMember;
+import com.dearbella.server.dto.projection.MyDoctorProjection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface DoctorMemberRepository extends JpaRepository<DoctorMember, Long> {
     public Optional<DoctorMember> findByDoctorIdAndMemberId(Long doctorId, Long memberId);
     public List<DoctorMember> findByMemberId(Long memberId, Sort sort);
-    public void deleteByDoctorId(Long doctorId);
+
+    @Query("select dm.doctorId from DoctorMember dm where dm.memberId = :memberId")
+    public List<Long> findDoctorIdsByMemberId(@Param("memberId") Long memberId);
+
+    @Query("select dm.doctorId from DoctorMember dm where dm.memberId = :memberId and dm.doctorId in :doctorIds")
+    public List<Long> findDoctorIdsByMemberId(@Param("memberId") Long memberId, @Param("doctorIds") Collection<Long> doctorIds);
+
+    @Query("select dm.doctorMemberId from DoctorMember dm where dm.memberId = :memberId order by dm.doctorMemberId")
+    public List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 찜한 의사 목록, 최근에 찜한 순서이고 삭제된 의사는 빠진다
+     * cursor: 이전 페이지 마지막 찜 id, 첫 페이지는 Long.MAX_VALUE
+     * */
+    @Query("select dm.doctorMemberId as wishId, d.doctorId as doctorId, d.doctorName as doctorName, d.doctorImage as doctorImage, " +
+            "d.hospitalName as hospitalName, d.reviewNum as reviewNum, d.totalRate as rate, d.description as intro " +
+            "from DoctorMember dm join Doctor d on d.doctorId = dm.doctorId " +
+            "where dm.memberId = :memberId and dm.doctorMemberId < :cursor and d.deleted = false " +
+            "order by dm.doctorMemberId desc")
+    public List<MyDoctorProjection> findWishes(@Param("memberId") Long memberId, @Param("cursor") Long cursor, Pageable pageable);
+
+    /**
+     * uk_doctor_member(doctor_id, member_id) 에 걸리면 아무것도 하지 않는다, 새로 넣었으면 1
+     * */
+    @Modifying
+    @Query(value = "INSERT INTO doctor_member (doctor_id, member_id, created_at) VALUES (:doctorId, :memberId, now()) ON DUPLICATE KEY UPDATE doctor_member_id = doctor_member_id", nativeQuery = true)
+    public int insertIfAbsent(@Param("doctorId") Long doctorId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("delete from DoctorMember dm where dm.doctorId = :doctorId and dm.memberId = :memberId")
+    public int deleteByDoctorIdAndMemberId(@Param("doctorId") Long doctorId, @Param("memberId") Long memberId);
 }
@@ -6,14 +6,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import javax.print.Doc;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface DoctorRepository extends JpaRepository<Doctor, Long> {
     public List<Doctor> findByHospitalName(String hospitalName);
+    @EntityGraph(attributePaths = {"categories"})
+    public List<Doctor> findWithCategoriesByHospitalName(String hospitalName);
     public List<Doctor> findByHospitalNameContainingAndDeletedFalse(String hospitalName);
     public List<Doctor> findByDescriptionAndDeletedFalse(String query);
     public List<Doctor> findByCategoriesAndDeletedFalse(Category category);
@@ -21,4 +28,20 @@ public interface DoctorRepository extends JpaRepository<Doctor, Long> {
     public Page<Doctor> findByDeletedFalse(PageRequest doctorName);
     public Optional<Doctor> findByDoctorIdAndDeletedFalse(Long doctorId);
     public List<Doctor> findByAndDeletedFalse(Sort sort1);
+    @EntityGraph(attributePaths = {"categories"})
+    public List<Doctor> findWithCategoriesByDeletedFalse();
+    @EntityGraph(attributePaths = {"categories"})
+    public List<Doctor> findWithCategoriesByDoctorIdIn(Collection<Long> doctorIds);
+
+    /**
+     * 평점 합계, 리뷰 수, 평균을 한 번에 갱신
+     * total_rate 를 먼저 계산해야 MySQL(왼쪽부터 갱신된 값 사용)과 표준 SQL 결과가 같다
+     * */
+    @Modifying
+    @Query("update Doctor d set " +
+            "d.totalRate = coalesce((coalesce(d.rateSum, 0) + :rate) / nullif(coalesce(d.reviewNum, 0) + :count, 0), 0), " +
+            "d.rateSum = coalesce(d.rateSum, 0) + :rate, " +
+            "d.reviewNum = coalesce(d.reviewNum, 0) + :count " +
+            "where d.doctorId = :id")
+    public int addRating(@Param("id") Long id, @Param("count") Long count, @Param("rate") Double rate);
 }
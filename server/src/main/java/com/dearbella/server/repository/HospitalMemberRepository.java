@@ -1,8 +1,13 @@
 package com.dearbella.server.repository;
 
 import com.dearbella.server.domain.HospitalMember;
+import com.dearbella.server.dto.projection.MyHospitalProjection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,6 +15,30 @@ import java.util.Optional;
 public interface HospitalMemberRepository extends JpaRepository<HospitalMember, Long> {
     public Optional<HospitalMember> findByHospitalIdAndMemberId(Long hospitalId, Long memberId);
     public List<HospitalMember> findByMemberId(Long memberId, Sort sort);
+    public boolean existsByHospitalIdAndMemberId(Long hospitalId, Long memberId);
 
-    public void deleteByHospitalId(Long hospitalId);
+    @Query("select hm.hospitalMemberId from HospitalMember hm where hm.memberId = :memberId order by hm.hospitalMemberId")
+    public List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 찜한 병원 목록, 최근에 찜한 순서이고 삭제된 병원은 빠진다
+     * cursor: 이전 페이지 마지막 찜 id, 첫 페이지는 Long.MAX_VALUE
+     * */
+    @Query("select hm.hospitalMemberId as wishId, h.hospitalId as hospitalId, h.hospitalName as hospitalName, " +
+            "h.totalRate as rate, h.reviewNum as reviewNum, h.hospitalLocation as location " +
+            "from HospitalMember hm join Hospital h on h.hospitalId = hm.hospitalId " +
+            "where hm.memberId = :memberId and hm.hospitalMemberId < :cursor and h.deleted = false " +
+            "order by hm.hospitalMemberId desc")
+    public List<MyHospitalProjection> findWishes(@Param("memberId") Long memberId, @Param("cursor") Long cursor, Pageable pageable);
+
+    /**
+     * uk_hospital_member(hospital_id, member_id) 에 걸리면 아무것도 하지 않는다, 새로 넣었으면 1
+     * */
+    @Modifying
+    @Query(value = "INSERT INTO hospital_member (hospital_id, member_id, created_at) VALUES (:hospitalId, :memberId, now()) ON DUPLICATE KEY UPDATE hospital_member_id = hospital_member_id", nativeQuery = true)
+    public int insertIfAbsent(@Param("hospitalId") Long hospitalId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("delete from HospitalMember hm where hm.hospitalId = :hospitalId and hm.memberId = :memberId")
+    public int deleteByHospitalIdAndMemberId(@Param("hospitalId") Long hospitalId, @Param("memberId") Long memberId);
 }
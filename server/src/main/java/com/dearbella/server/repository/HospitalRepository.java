@@ -1,15 +1,66 @@
 package com.dearbella.server.repository;
 
 import com.dearbella.server.domain.Hospital;
+import com.dearbella.server.dto.projection.HospitalListProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface HospitalRepository extends JpaRepository<Hospital, Long> {
     public Optional<Hospital> findByHospitalName(String name);
+    @EntityGraph(attributePaths = {"banners"})
+    public Optional<Hospital> findWithBannersByHospitalId(Long hospitalId);
     public List<Hospital> findAll(Sort sort);
+    public Slice<Hospital> findSliceBy(Pageable pageable);
     public List<Hospital> findByHospitalNameContainingAndDeletedFalse(String name);
     public List<Hospital> findByDescriptionContainingAndDeletedFalse(String name);
+    public List<Hospital> findByDeletedFalse();
+    @EntityGraph(attributePaths = {"banners"})
+    public List<Hospital> findWithBannersByHospitalIdIn(Collection<Long> hospitalIds);
+
+    /**
+     * 병원 리스트
+     * category: 0이면 전체, 아니면 해당 분야 의사가 있는 병원만
+     * sort: 0이면 평점순, 아니면 조회수순
+     * memberId: 0이면 비로그인
+     * */
+    @Query(value = "SELECT h.hospital_id AS hospitalId, " +
+            "h.hospital_name AS hospitalName, " +
+            "h.hospital_location AS location, " +
+            "h.total_rate AS rate, " +
+            "(SELECT i.image_url FROM hospital_banner hb JOIN image i ON i.image_id = hb.image_id " +
+            "WHERE hb.hospital_id = h.hospital_id ORDER BY hb.image_id LIMIT 1) AS hospitalImage, " +
+            "h.review_num AS reviewNum, " +
+            "CASE WHEN hm.hospital_id IS NULL THEN 0 ELSE 1 END AS wished " +
+            "FROM hospital h " +
+            "LEFT JOIN (SELECT DISTINCT m.hospital_id FROM hospital_member m WHERE m.member_id = :memberId) hm " +
+            "ON hm.hospital_id = h.hospital_id " +
+            "WHERE h.deleted = 0 " +
+            "AND (:category = 0 OR EXISTS (SELECT 1 FROM doctor d JOIN doctor_category dc ON dc.doctor_id = d.doctor_id " +
+            "WHERE d.hospital_name = h.hospital_name AND dc.category_num = :category)) " +
+            "ORDER BY CASE WHEN :sort = 0 THEN h.total_rate ELSE h.view_num END DESC, h.hospital_id",
+            nativeQuery = true)
+    public List<HospitalListProjection> findHospitalList(@Param("category") Long category, @Param("sort") Long sort,
+                                                         @Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 평점 합계, 리뷰 수, 평균을 한 번에 갱신
+     * total_rate 를 먼저 계산해야 MySQL(왼쪽부터 갱신된 값 사용)과 표준 SQL 결과가 같다
+     * */
+    @Modifying
+    @Query("update Hospital h set " +
+            "h.totalRate = coalesce((coalesce(h.rateSum, 0) + :rate) / nullif(coalesce(h.reviewNum, 0) + :count, 0), 0), " +
+            "h.rateSum = coalesce(h.rateSum, 0) + :rate, " +
+            "h.reviewNum = coalesce(h.reviewNum, 0) + :count " +
+            "where h.hospitalId = :id")
+    public int addRating(@Param("id") Long id, @Param("count") Long count, @Param("rate") Double rate);
 }
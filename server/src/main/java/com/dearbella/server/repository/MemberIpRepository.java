@@ -1,10 +1,16 @@
 package com.dearbella.server.repository;
 
 import com.dearbella.server.domain.MemberIp;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface MemberIpRepository extends JpaRepository<MemberIp, Long> {
     public List<MemberIp> findByMemberId(Long id);
+
+    @Query("select mi.memberIpId from MemberIp mi where mi.memberId = :memberId order by mi.memberIpId")
+    public List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 }
@@ -1,10 +1,22 @@
 package com.dearbella.server.repository;
 
 import com.dearbella.server.domain.Member;
+import com.dearbella.server.vo.MemberSummaryVo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findMemberByLoginEmail(String email);
+
+    /**
+     * 권한(EAGER) 을 읽지 않고 작성자 표시에 필요한 컬럼만 IN 한 번으로 가져온다
+     * */
+    @Query("select new com.dearbella.server.vo.MemberSummaryVo(m.memberId, m.nickname, m.profileImg, m.loginEmail) " +
+            "from Member m where m.memberId in :ids")
+    List<MemberSummaryVo> findSummaries(@Param("ids") Collection<Long> ids);
 }
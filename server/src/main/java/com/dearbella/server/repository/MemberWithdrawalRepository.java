@@ -0,0 +1,28 @@
+package com.dearbella.server.repository;
+
+import com.dearbella.server.domain.MemberWithdrawal;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+
+public interface MemberWithdrawalRepository extends JpaRepository<MemberWithdrawal, Long> {
+    /**
+     * 끝나지 않은 작업을 잠그고 가져온다, 다른 서버가 잡고 있는 row 는 건너뛴다(SKIP LOCKED)
+     * */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select w from MemberWithdrawal w where w.step <> :done order by w.withdrawalId")
+    public List<MemberWithdrawal> findDue(@Param("done") Long done, Pageable pageable);
+
+    public List<MemberWithdrawal> findByStepNot(Long step, Pageable pageable);
+
+    public Optional<MemberWithdrawal> findFirstByMemberIdOrderByWithdrawalIdDesc(Long memberId);
+}
@@ -0,0 +1,50 @@
+package com.dearbella.server.repository;
+
+import com.dearbella.server.domain.NotificationOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+    /**
+     * 보낼 차례인 알림을 잠그고 가져온다, 다른 서버가 잡고 있는 row 는 건너뛴다(SKIP LOCKED)
+     * */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select n from NotificationOutbox n where n.status in :statuses and n.nextAttemptAt <= :now order by n.outboxId")
+    public List<NotificationOutbox> findDue(@Param("statuses") Collection<Long> statuses, @Param("now") LocalDateTime now, Pageable pageable);
+
+    public List<NotificationOutbox> findByStatus(Long status, Pageable pageable);
+
+    /**
+     * claim 한 그대로(IN_FLIGHT, 같은 attempts)일 때만 쓴다, lease 가 지나 다른 dispatcher 가 다시 잡았으면 0
+     * */
+    @Modifying(clearAutomatically = true)
+    @Query("update NotificationOutbox n set n.status = :sent, n.sentAt = :sentAt " +
+            "where n.outboxId = :id and n.status = :inFlight and n.attempts = :attempts")
+    public int markSent(@Param("id") Long id, @Param("attempts") Integer attempts, @Param("inFlight") Long inFlight,
+                        @Param("sent") Long sent, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * markSent 와 같은 조건으로 실패를 쓴다
+     * */
+    @Modifying(clearAutomatically = true)
+    @Query("update NotificationOutbox n set n.status = :status, n.nextAttemptAt = :nextAttemptAt, n.lastError = :lastError " +
+            "where n.outboxId = :id and n.status = :inFlight and n.attempts = :attempts")
+    public int markFailed(@Param("id") Long id, @Param("attempts") Integer attempts, @Param("inFlight") Long inFlight,
+                          @Param("status") Long status, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("update NotificationOutbox n set n.status = :to, n.attempts = 0, n.nextAttemptAt = :now where n.status = :from")
+    public int resetStatus(@Param("from") Long from, @Param("to") Long to, @Param("now") LocalDateTime now);
+}
@@ -1,7 +1,11 @@
 package com.dearbella.server.repository;
 
 import com.dearbella.server.domain.PostLike;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +16,17 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     public Optional<PostLike> findByMemberId(Long memberId);
 
     public Optional<PostLike> findByPostIdAndMemberId(Long id, Long memberId);
+
+    public List<PostLike> findByMemberIdOrderByPostLikeId(Long memberId, Pageable pageable);
+
+    /**
+     * uk_post_like(post_id, member_id) 에 걸리면 아무것도 하지 않는다, 새로 넣었으면 1
+     * */
+    @Modifying
+    @Query(value = "INSERT INTO post_like (post_id, member_id) VALUES (:postId, :memberId) ON DUPLICATE KEY UPDATE post_like_id = post_like_id", nativeQuery = true)
+    public int insertIfAbsent(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("delete from PostLike pl where pl.postId = :postId and pl.memberId = :memberId")
+    public int deleteByPostIdAndMemberId(@Param("postId") Long postId, @Param("memberId") Long memberId);
 }
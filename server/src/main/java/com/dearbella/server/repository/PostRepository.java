@@ -6,9 +6,15 @@ import com.dearbella.server.domain.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -16,4 +22,41 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     public List<Post> findByTagAndDeletedFalse(Tag tag, Sort sort);
     public List<Post> findByMemberIdAndDeletedFalse(Long memberId, Sort sort);
     public Page<Post> findByTagAndDeletedFalse(Tag build, Pageable createdAt);
+    public Slice<Post> findSliceByTagAndDeletedFalse(Tag tag, Pageable pageable);
+
+    /**
+     * (created_at, post_id) keyset 페이징, idx_post_feed(deleted, created_at, post_id)
+     * */
+    @Query("select p from Post p where p.tag.tagId = :tagId and p.deleted = false " +
+            "order by p.createdAt desc, p.postId desc")
+    public List<Post> findFeed(@Param("tagId") Long tagId, Pageable pageable);
+
+    @Query("select p from Post p where p.tag.tagId = :tagId and p.deleted = false " +
+            "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.postId < :postId)) " +
+            "order by p.createdAt desc, p.postId desc")
+    public List<Post> findFeedAfter(@Param("tagId") Long tagId, @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * like_num, comment_num 은 엔티티에서 updatable = false 라 아래 두 쿼리로만 바뀐다
+     * */
+    @Modifying
+    @Query("update Post p set p.likeNum = coalesce(p.likeNum, 0) + :delta where p.postId = :id")
+    public int addLikeNum(@Param("id") Long id, @Param("delta") Long delta);
+
+    /**
+     * 아직 남아 있는 post_like 의 대상마다 1 씩 뺀다, 회원당 대상마다 좋아요는 하나뿐이다
+     * 읽은 post_like 는 트랜잭션이 끝날 때까지 잠기므로 같은 트랜잭션에서 지우면 뺀 만큼만 지워진다
+     * */
+    @Modifying
+    @Query("update Post p set p.likeNum = coalesce(p.likeNum, 0) - 1 where p.postId in (select pl.postId from PostLike pl where pl.postLikeId in :likeIds)")
+    public int subtractLikes(@Param("likeIds") Collection<Long> likeIds);
+
+    @Modifying
+    @Query("update Post p set p.commentNum = coalesce(p.commentNum, 0) + :delta where p.postId = :id")
+    public int addCommentNum(@Param("id") Long id, @Param("delta") Long delta);
+
+    @Modifying
+    @Query("update Post p set p.deleted = true where p.memberId = :memberId and p.deleted = false")
+    public int softDeleteByMemberId(@Param("memberId") Long memberId);
 }
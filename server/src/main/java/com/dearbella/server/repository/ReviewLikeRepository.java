@@ -1,7 +1,11 @@
 package com.dearbella.server.repository;
 
 import com.dearbella.server.domain.ReviewLike;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +14,17 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
     public List<ReviewLike> findByReviewId(Long id);
 
     public Optional<ReviewLike> findByReviewIdAndMemberId(Long reviewId, Long memberId);
+
+    public List<ReviewLike> findByMemberIdOrderByLikeId(Long memberId, Pageable pageable);
+
+    /**
+     * uk_review_like(review_id, member_id) 에 걸리면 아무것도 하지 않는다, 새로 넣었으면 1
+     * */
+    @Modifying
+    @Query(value = "INSERT INTO review_like (review_id, member_id) VALUES (:reviewId, :memberId) ON DUPLICATE KEY UPDATE like_id = like_id", nativeQuery = true)
+    public int insertIfAbsent(@Param("reviewId") Long reviewId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("delete from ReviewLike rl where rl.reviewId = :reviewId and rl.memberId = :memberId")
+    public int deleteByReviewIdAndMemberId(@Param("reviewId") Long reviewId, @Param("memberId") Long memberId);
 }
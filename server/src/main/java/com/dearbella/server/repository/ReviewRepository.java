@@ -2,12 +2,16 @@ package com.dearbella.server.repository;
 
 import com.dearbella.server.domain.Review;
 import com.dearbella.server.enums.doctor.CategoryEnum;
+import com.dearbella.server.vo.ReviewRatingVo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.List;
@@ -29,6 +33,57 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     public List<Review> findAllByMemberId(Long memberId, Sort sort);
     public List<Review> findByDoctorIdAndDeletedFalse(Long doctorId);
     public Page<Review> findByDeletedFalse(Pageable createdAt);
+    public Slice<Review> findSliceByDeletedFalse(Pageable pageable);
+    public List<Review> findByDeletedFalse();
     public List<Review> findByMemberIdAndDeletedFalse(Long memberId);
     public List<Review> findByHospitalName(String hospitalName);
+
+    /**
+     * (view_num, review_id) keyset 페이징, idx_review_feed(deleted, view_num, review_id)
+     * */
+    @Query("select r from Review r where r.deleted = false and r.title like concat('%', :title, '%') " +
+            "order by r.viewNum desc, r.reviewId desc")
+    public List<Review> findFeed(@Param("title") String title, Pageable pageable);
+
+    @Query("select r from Review r where r.deleted = false and r.title like concat('%', :title, '%') " +
+            "and (r.viewNum < :viewNum or (r.viewNum = :viewNum and r.reviewId < :reviewId)) " +
+            "order by r.viewNum desc, r.reviewId desc")
+    public List<Review> findFeedAfter(@Param("title") String title, @Param("viewNum") Long viewNum,
+                                      @Param("reviewId") Long reviewId, Pageable pageable);
+
+    /**
+     * like_num 은 엔티티에서 updatable = false 라 이 쿼리로만 바뀐다
+     * */
+    @Modifying
+    @Query("update Review r set r.likeNum = coalesce(r.likeNum, 0) + :delta where r.reviewId = :id")
+    public int addLikeNum(@Param("id") Long id, @Param("delta") Long delta);
+
+    /**
+     * 아직 남아 있는 review_like 의 대상마다 1 씩 뺀다, 회원당 대상마다 좋아요는 하나뿐이다
+     * 읽은 review_like 는 트랜잭션이 끝날 때까지 잠기므로 같은 트랜잭션에서 지우면 뺀 만큼만 지워진다
+     * */
+    @Modifying
+    @Query("update Review r set r.likeNum = coalesce(r.likeNum, 0) - 1 where r.reviewId in (select rl.reviewId from ReviewLike rl where rl.likeId in :likeIds)")
+    public int subtractLikes(@Param("likeIds") Collection<Long> likeIds);
+
+    /**
+     * 이미 지워졌으면 0, 평점은 1 을 받은 요청만 되돌린다
+     * */
+    @Modifying
+    @Query("update Review r set r.deleted = true where r.reviewId = :id and r.deleted = false")
+    public int softDelete(@Param("id") Long id);
+
+    @Query("select r.reviewId from Review r where r.memberId = :memberId and r.deleted = false")
+    public List<Long> findIdsByMemberIdAndDeletedFalse(@Param("memberId") Long memberId);
+
+    /**
+     * 탈퇴 시 되돌릴 (doctor, hospital) 별 평점
+     * */
+    @Query("select new com.dearbella.server.vo.ReviewRatingVo(r.doctorId, r.hospitalId, count(r), sum(r.rate)) from Review r " +
+            "where r.memberId = :memberId and r.deleted = false group by r.doctorId, r.hospitalId")
+    public List<ReviewRatingVo> sumRatingByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("update Review r set r.deleted = true where r.memberId = :memberId and r.deleted = false")
+    public int softDeleteByMemberId(@Param("memberId") Long memberId);
 }
@@ -0,0 +1,10 @@
+package com.dearbella.server.service.auth;
+
+import java.util.Map;
+
+public interface AuthCacheService {
+    public Long getMemberId(String token);
+    public String getRole(Long memberId);
+    public void evict(Long memberId);
+    public Map<String, Map<String, Object>> stats();
+}
@@ -0,0 +1,144 @@
+package com.dearbella.server.service.auth;
+
+import com.dearbella.server.domain.Member;
+import com.dearbella.server.exception.member.MemberIdNotFoundException;
+import com.dearbella.server.repository.MemberRepository;
+import com.dearbella.server.util.JwtUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 토큰 -> 검증된 memberId, memberId -> 권한 캐시
+ * 자주 오는 사용자는 서명 검증과 member 조회 없이 필터를 통과한다
+ * */
+@Slf4j
+public class AuthCacheServiceImpl implements AuthCacheService {
+    private final MemberRepository memberRepository;
+    private final Cache<String, VerifiedToken> tokens;
+    private final Cache<Long, String> roles;
+
+    public AuthCacheServiceImpl(final MemberRepository memberRepository, final Duration ttl, final long maximumSize) {
+        this.memberRepository = memberRepository;
+        this.tokens = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.roles = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 검증에 실패하거나 만료된 토큰이면 null, 실패한 토큰은 캐시하지 않는다
+     * */
+    @Override
+    public Long getMemberId(final String token) {
+        final VerifiedToken cached = tokens.getIfPresent(token);
+
+        if(cached != null) {
+            if(!cached.isExpired())
+                return cached.memberId;
+
+            tokens.invalidate(token);
+
+            return null;
+        }
+
+        final Claims body;
+
+        try {
+            body = Jwts.parserBuilder()
+                    .setSigningKey(JwtUtil.JWT_SECRET_KEY)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        final Long memberId = body.get("id", Long.class);
+
+        if(memberId == null)
+            return null;
+
+        tokens.put(token, new VerifiedToken(memberId, body.getExpiration() == null ? null : body.getExpiration().getTime()));
+
+        return memberId;
+    }
+
+    /**
+     * 권한이 없는 member 면 null
+     * */
+    @Override
+    public String getRole(final Long memberId) {
+        return roles.get(memberId, id -> {
+            final Member member = memberRepository.findById(id).orElseThrow(
+                    () -> new MemberIdNotFoundException(id.toString())
+            );
+
+            if(member.contain("ROLE_ADMIN"))
+                return "ROLE_ADMIN";
+            else if(member.contain("ROLE_USER"))
+                return "ROLE_USER";
+            else
+                return null;
+        });
+    }
+
+    /**
+     * 탈퇴, 정지, 관리자 수정/삭제 시 해당 member 의 토큰과 권한을 지운다
+     * */
+    @Override
+    public void evict(final Long memberId) {
+        roles.invalidate(memberId);
+        tokens.asMap().values().removeIf(token -> token.memberId.equals(memberId));
+    }
+
+    @Override
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+
+        stats.put("token", toMap(tokens.stats(), tokens.estimatedSize()));
+        stats.put("role", toMap(roles.stats(), roles.estimatedSize()));
+
+        return stats;
+    }
+
+    private Map<String, Object> toMap(final CacheStats stats, final long size) {
+        Map<String, Object> map = new LinkedHashMap<>();
+
+        map.put("size", size);
+        map.put("hitCount", stats.hitCount());
+        map.put("missCount", stats.missCount());
+        map.put("hitRate", stats.hitRate());
+        map.put("evictionCount", stats.evictionCount());
+
+        return map;
+    }
+
+    private static class VerifiedToken {
+        private final Long memberId;
+        private final Long expiresAt;
+
+        private VerifiedToken(final Long memberId, final Long expiresAt) {
+            this.memberId = memberId;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return expiresAt != null && expiresAt <= System.currentTimeMillis();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.dearbella.server.service.banner;
 
 import com.dearbella.server.domain.Banner;
+import com.dearbella.server.domain.Hospital;
 import com.dearbella.server.domain.Image;
 import com.dearbella.server.domain.Infra;
 import com.dearbella.server.domain.Review;
@@ -15,18 +16,24 @@ import com.dearbella.server.exception.banner.BannerNotExistException;
 import com.dearbella.server.exception.hospital.HospitalIdNotFoundException;
 import com.dearbella.server.exception.hospital.HospitalNameNotFoundException;
 import com.dearbella.server.repository.*;
-import com.dearbella.server.util.JwtUtil;
+import com.dearbella.server.util.MemberContext;
+import com.dearbella.server.util.TransactionUtil;
+import com.dearbella.server.vo.BannerSnapshotVo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-
-import static com.dearbella.server.config.MapperConfig.modelMapper;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -36,36 +43,29 @@ public class BannerServiceImpl implements BannerService {
     private final ImageRepository imageRepository;
     private final ReviewRepository reviewRepository;
     private final HospitalRepository hospitalRepository;
+    private final ObjectMapper objectMapper;
+    /**
+     * 서버가 여러 대면 다른 서버의 수정은 이 시간 안에 반영된다
+     * */
+    private final Duration snapshotTtl;
+    /**
+     * 위치(true 상단, false 하단) -> 스냅샷
+     * */
+    private final Map<Boolean, BannerSnapshotVo> snapshots = new ConcurrentHashMap<>();
 
     @Override
     @Transactional
     public Banner addBanner(final BannerAddRequestDto dto, final List<String> mainImages, final List<String> detailImages) {
         List<Image> mains = new ArrayList<>();
         List<Image> details = new ArrayList<>();
-        Long memberId = JwtUtil.getMemberId();
+        Long memberId = MemberContext.getMemberId();
         List<Infra> infras = new ArrayList<>();
 
-        for(int i = 1; i < mainImages.size(); i++) {
-            mains.add(
-              imageRepository.save(
-                      Image.builder()
-                          .imageUrl(mainImages.get(i))
-                          .memberId(memberId)
-                          .build()
-              )
-            );
-        }
+        // 0 번째는 대표 이미지
+        if(mainImages.size() > 1)
+            mains.addAll(imageRepository.saveAll(Image.of(mainImages.subList(1, mainImages.size()), memberId)));
 
-        for(String image: detailImages) {
-            details.add(
-                    imageRepository.save(
-                        Image.builder()
-                                .imageUrl(image)
-                                .memberId(memberId)
-                                .build()
-                    )
-            );
-        }
+        details.addAll(imageRepository.saveAll(Image.of(detailImages, memberId)));
 
         for(Long tag: dto.getTags()) {
             infras.add(
@@ -75,6 +75,8 @@ public class BannerServiceImpl implements BannerService {
             );
         }
 
+        TransactionUtil.afterCommit(snapshots::clear);
+
         return bannerRepository.save(
                 Banner.builder()
                         .bannerLink(dto.getBannerLink())
@@ -93,42 +95,59 @@ public class BannerServiceImpl implements BannerService {
         );
     }
 
+    /**
+     * 요청마다 DB 를 보지 않고 만들어 둔 스냅샷을 돌려준다
+     * 배너 추가/수정이 커밋되면 비우고 다음 요청에서 다시 만든다
+     * */
     @Override
-    @Transactional
-    public List<BannerResponseDto> getBanners(Boolean location) {
-        List<BannerResponseDto> response = new ArrayList<>();
+    public BannerSnapshotVo getSnapshot(final Boolean location) {
+        BannerSnapshotVo snapshot = snapshots.get(location);
 
-        List<Banner> banners = bannerRepository.findBannerByBannerLocation(location, Sort.by(Sort.Direction.ASC, "sequence"));
+        if(snapshot == null || snapshot.isExpired(snapshotTtl))
+            snapshot = snapshots.compute(location, (key, old) -> old != null && !old.isExpired(snapshotTtl) ? old : buildSnapshot(key));
 
-        if(banners.isEmpty()) {
+        if(snapshot.isEmpty())
             throw new BannerNotExistException();
-        }
-        else
-        {
-            for(Banner banner: banners) {
-                response.add(
-                        modelMapper.map(banner, BannerResponseDto.class)
-                );
-            }
+
+        return snapshot;
+    }
+
+    private BannerSnapshotVo buildSnapshot(final Boolean location) {
+        final List<Banner> banners = bannerRepository.findBannerByBannerLocation(location, Sort.by(Sort.Direction.ASC, "sequence"));
+
+        if(banners.isEmpty())
+            return new BannerSnapshotVo(null, null, System.currentTimeMillis());
+
+        List<BannerResponseDto> response = new ArrayList<>();
+
+        for(Banner banner: banners)
+            response.add(BannerResponseDto.of(banner));
+
+        final byte[] body;
+
+        try {
+            body = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
         }
 
-        return response;
+        // 내용이 같으면 어느 서버에서 만들어도 같은 ETag
+        return new BannerSnapshotVo(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"", System.currentTimeMillis());
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public BannerDetailResponseDto findById(Long bannerId) {
         Banner banner = bannerRepository.findById(bannerId).orElseThrow(() -> new BannerIdNotFoundException(bannerId));
 
-        final List<Review> byHospitalName = reviewRepository.findByHospitalName(banner.getHospitalName());
-
-        BannerDetailResponseDto map = modelMapper.map(banner, BannerDetailResponseDto.class);
+        final Hospital hospital = hospitalRepository.findByHospitalName(banner.getHospitalName()).orElseThrow(
+                () -> new HospitalNameNotFoundException(banner.getHospitalName())
+        );
 
-        map.setReviewNum(Long.valueOf(byHospitalName.size()));
+        BannerDetailResponseDto map = BannerDetailResponseDto.of(banner);
 
-        map.setRate(hospitalRepository.findByHospitalName(banner.getHospitalName()).orElseThrow(
-                () -> new HospitalNameNotFoundException(banner.getHospitalName())
-        ).getTotalRate());
+        map.setReviewNum(hospital.getReviewNum());
+        map.setRate(hospital.getTotalRate());
 
         return map;
     }
@@ -157,30 +176,14 @@ public class BannerServiceImpl implements BannerService {
     public Banner editBanner(final BannerEditRequestDto dto, final List<String> mainImages, final List<String> detailImages) {
         List<Image> mains = new ArrayList<>();
         List<Image> details = new ArrayList<>();
-        Long memberId = JwtUtil.getMemberId();
+        Long memberId = MemberContext.getMemberId();
         List<Infra> infras = new ArrayList<>();
 
-        for(int i = 1; i < mainImages.size(); i++) {
-            mains.add(
-                    imageRepository.save(
-                            Image.builder()
-                                    .imageUrl(mainImages.get(i))
-                                    .memberId(memberId)
-                                    .build()
-                    )
-            );
-        }
+        // 0 번째는 대표 이미지
+        if(mainImages.size() > 1)
+            mains.addAll(imageRepository.saveAll(Image.of(mainImages.subList(1, mainImages.size()), memberId)));
 
-        for(String image: detailImages) {
-            details.add(
-                    imageRepository.save(
-                            Image.builder()
-                                    .imageUrl(image)
-                                    .memberId(memberId)
-                                    .build()
-                    )
-            );
-        }
+        details.addAll(imageRepository.saveAll(Image.of(detailImages, memberId)));
 
         for(Long tag: dto.getTags()) {
             infras.add(
@@ -206,6 +209,8 @@ public class BannerServiceImpl implements BannerService {
         banner.setBannerInfra(infras);
         banner.setSequence(dto.getSequence());
 
+        TransactionUtil.afterCommit(snapshots::clear);
+
         return bannerRepository.save(banner);
     }
 
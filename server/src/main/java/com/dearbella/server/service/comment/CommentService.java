@@ -8,14 +8,20 @@ import com.dearbella.server.dto.request.comment.CommentDoctorRequestDto;
 import com.dearbella.server.dto.request.comment.CommentEditRequestDto;
 import com.dearbella.server.dto.response.comment.CommentMemberResponseDto;
 import com.dearbella.server.dto.response.comment.CommentResponseDto;
+import com.dearbella.server.dto.response.comment.CommentThreadResponseDto;
+import com.dearbella.server.dto.response.cursor.CursorResponseDto;
 
 import java.util.List;
 
 public interface CommentService {
     public CommentMemberResponseDto addComment(CommentAddRequestDto reviewId);
     public List<CommentResponseDto> getAll(Long id);
+    public CursorResponseDto<CommentResponseDto> getFeed(Long id, String cursor, Long size);
+    public CursorResponseDto<CommentThreadResponseDto> getThread(Long id, String cursor, Long size);
+    public CursorResponseDto<CommentThreadResponseDto> getReplies(Long parentId, String cursor, Long size);
     public void deleteComment(Long commentId);
     public Comment editComment(CommentEditRequestDto dto);
     public String likeComment(Long commentId);
+    public String likeComment(Long commentId, Boolean liked);
     public DoctorResponse addDoctorResponse(CommentDoctorRequestDto dto);
 }
@@ -1,7 +1,6 @@
 package com.dearbella.server.service.comment;
 
 import com.dearbella.server.domain.Comment;
-import com.dearbella.server.domain.CommentLike;
 import com.dearbella.server.domain.DoctorResponse;
 import com.dearbella.server.domain.Member;
 import com.dearbella.server.dto.request.comment.CommentAddRequestDto;
@@ -9,35 +8,52 @@ import com.dearbella.server.dto.request.comment.CommentDoctorRequestDto;
 import com.dearbella.server.dto.request.comment.CommentEditRequestDto;
 import com.dearbella.server.dto.response.comment.CommentMemberResponseDto;
 import com.dearbella.server.dto.response.comment.CommentResponseDto;
+import com.dearbella.server.dto.response.comment.CommentThreadResponseDto;
+import com.dearbella.server.dto.response.cursor.CursorResponseDto;
 import com.dearbella.server.exception.comment.CommentIdNotFoundException;
 import com.dearbella.server.exception.member.MemberIdNotFoundException;
 import com.dearbella.server.repository.CommentLikeRepository;
 import com.dearbella.server.repository.CommentRepository;
 import com.dearbella.server.repository.DoctorResponseRepository;
 import com.dearbella.server.repository.MemberRepository;
-import com.dearbella.server.util.JwtUtil;
+import com.dearbella.server.repository.PostRepository;
+import com.dearbella.server.service.member.MemberSummaryService;
+import com.dearbella.server.service.notification.NotificationService;
+import com.dearbella.server.util.CursorUtil;
+import com.dearbella.server.util.MemberContext;
+import com.dearbella.server.vo.MemberSummaryVo;
+import com.dearbella.server.vo.TargetCountVo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
+/**
+ * getThread 는 최상위 댓글 한 페이지와 그 답글 앞부분(replyFanOut 개)을 트리로 돌려준다
+ * 작성자, 답글 수, 내 좋아요 여부는 각각 한 번의 묶음 조회로 붙이고 나머지 답글은 getReplies 로 나눠 읽는다
+ * */
 @RequiredArgsConstructor
 @Slf4j
 public class CommentServiceImpl implements CommentService {
+    private static final DateTimeFormatter UPDATED_AT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
     private final CommentRepository commentRepository;
     private final MemberRepository memberRepository;
     private final CommentLikeRepository commentLikeRepository;
     private final DoctorResponseRepository doctorResponseRepository;
+    private final PostRepository postRepository;
+    private final MemberSummaryService memberSummaryService;
+    private final NotificationService notificationService;
+    private final int replyFanOut;
 
     @Override
     @Transactional
     public CommentMemberResponseDto addComment(final CommentAddRequestDto dto) {
-        String name = memberRepository.findById(JwtUtil.getMemberId()).orElseThrow(
-                () -> new MemberIdNotFoundException(JwtUtil.getMemberId().toString())
+        String name = memberRepository.findById(MemberContext.getMemberId()).orElseThrow(
+                () -> new MemberIdNotFoundException(MemberContext.getMemberId().toString())
         ).getNickname();
 
         final Comment save = commentRepository.save(
@@ -46,12 +62,16 @@ public class CommentServiceImpl implements CommentService {
                         .id(dto.getPostId())
                         .content(dto.getContent())
                         .content(dto.getContent())
-                        .memberId(JwtUtil.getMemberId())
+                        .memberId(MemberContext.getMemberId())
                         .deleted(false)
                         .description("커뮤니티 댓글")
+                        .likeNum(0L)
                         .build()
         );
 
+        postRepository.addCommentNum(save.getId(), 1L);
+        notificationService.enqueueTopic("post comment", name, "post-" + save.getId());
+
         return CommentMemberResponseDto.builder()
                 .commentId(save.getCommentId())
                 .parentId(save.getParentComment())
@@ -62,25 +82,30 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<CommentResponseDto> getAll(final Long id) {
         final List<Comment> allById = commentRepository.findAllByIdAndDeletedFalse(id);
+        final Map<Long, MemberSummaryVo> members = memberSummaryService.findAll(
+                allById.stream().map(Comment::getMemberId).collect(Collectors.toSet())
+        );
         List<CommentResponseDto> list = new ArrayList<>();
 
         for (Comment comment: allById) {
-            final Member member = memberRepository.findById(comment.getMemberId()).orElseThrow(
-                    () -> new MemberIdNotFoundException(comment.getMemberId().toString())
-            );
+            final MemberSummaryVo member = members.get(comment.getMemberId());
+
+            if(member == null)
+                throw new MemberIdNotFoundException(comment.getMemberId().toString());
 
             list.add(
                     CommentResponseDto.builder()
                             .commentId(comment.getCommentId())
                             .memberId(comment.getMemberId())
                             .parentId(comment.getParentComment())
-                            .updatedAt(comment.getUpdatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
+                            .content(comment.getContent())
+                            .updatedAt(comment.getUpdatedAt().format(UPDATED_AT))
                             .memberImage(member.getProfileImg())
                             .memberName(member.getNickname())
-                            .likeNum((long) commentLikeRepository.findByCommentId(comment.getCommentId()).size())
+                            .likeNum(comment.getLikeNum())
                             .build()
             );
         }
@@ -88,6 +113,125 @@ public class CommentServiceImpl implements CommentService {
         return list;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponseDto<CommentResponseDto> getFeed(final Long id, final String cursor, final Long size) {
+        final int limit = CursorUtil.size(size);
+        final Long after = cursor == null ? 0L : CursorUtil.decodeLong(cursor, CursorUtil.decode(cursor, 1)[0]);
+        final CursorResponseDto<Comment> page = CursorUtil.page(
+                commentRepository.findFeed(id, after, CursorUtil.fetch(limit)), limit, last -> CursorUtil.encode(last.getCommentId())
+        );
+        final Map<Long, MemberSummaryVo> members = memberSummaryService.findAll(
+                page.getItems().stream().map(Comment::getMemberId).collect(Collectors.toSet())
+        );
+        List<CommentResponseDto> list = new ArrayList<>();
+
+        for(Comment comment: page.getItems()) {
+            final MemberSummaryVo member = members.get(comment.getMemberId());
+
+            if(member == null)
+                throw new MemberIdNotFoundException(comment.getMemberId().toString());
+
+            list.add(
+                    CommentResponseDto.builder()
+                            .commentId(comment.getCommentId())
+                            .memberId(comment.getMemberId())
+                            .parentId(comment.getParentComment())
+                            .content(comment.getContent())
+                            .updatedAt(comment.getUpdatedAt().format(UPDATED_AT))
+                            .memberImage(member.getProfileImg())
+                            .memberName(member.getNickname())
+                            .likeNum(comment.getLikeNum())
+                            .build()
+            );
+        }
+
+        return CursorResponseDto.<CommentResponseDto>builder()
+                .items(list)
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponseDto<CommentThreadResponseDto> getThread(final Long id, final String cursor, final Long size) {
+        final int limit = CursorUtil.size(size);
+        final Long after = cursor == null ? 0L : CursorUtil.decodeLong(cursor, CursorUtil.decode(cursor, 1)[0]);
+        final CursorResponseDto<Comment> roots = CursorUtil.page(
+                commentRepository.findRoots(id, after, CursorUtil.fetch(limit)), limit, last -> CursorUtil.encode(last.getCommentId())
+        );
+        final List<Comment> page = roots.getItems();
+
+        if(page.isEmpty())
+            return CursorResponseDto.<CommentThreadResponseDto>builder().items(new ArrayList<>()).build();
+
+        final List<Long> rootIds = page.stream().map(Comment::getCommentId).collect(Collectors.toList());
+        // replyFanOut 이 0 이면 답글은 모두 getReplies 로 읽는다
+        final List<Comment> replies = replyFanOut > 0 ? commentRepository.findFirstReplies(rootIds, replyFanOut) : new ArrayList<>();
+        final Map<Long, Long> replyNums = new HashMap<>();
+
+        for(TargetCountVo count: commentRepository.countReplies(rootIds))
+            replyNums.put(count.getTargetId(), count.getCount());
+
+        List<Comment> all = new ArrayList<>(page);
+        all.addAll(replies);
+
+        final Map<Long, MemberSummaryVo> members = memberSummaryService.findAll(
+                all.stream().map(Comment::getMemberId).collect(Collectors.toSet())
+        );
+        final Set<Long> liked = findLiked(all);
+        Map<Long, CommentThreadResponseDto> byId = new LinkedHashMap<>();
+        List<CommentThreadResponseDto> items = new ArrayList<>();
+
+        for(Comment root: page) {
+            final CommentThreadResponseDto dto = toThreadDto(root, members, liked);
+
+            dto.setReplyNum(replyNums.getOrDefault(root.getCommentId(), 0L));
+            dto.setReplies(new ArrayList<>());
+            byId.put(root.getCommentId(), dto);
+            items.add(dto);
+        }
+
+        // 부모, comment_id 순으로 정렬돼 있어서 붙이는 순서가 곧 화면 순서
+        for(Comment reply: replies)
+            byId.get(reply.getParentComment()).getReplies().add(toThreadDto(reply, members, liked));
+
+        for(CommentThreadResponseDto root: items) {
+            final List<CommentThreadResponseDto> loaded = root.getReplies();
+
+            if(root.getReplyNum() > loaded.size())
+                root.setReplyCursor(CursorUtil.encode(loaded.isEmpty() ? 0L : loaded.get(loaded.size() - 1).getCommentId()));
+        }
+
+        return CursorResponseDto.<CommentThreadResponseDto>builder()
+                .items(items)
+                .nextCursor(roots.getNextCursor())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponseDto<CommentThreadResponseDto> getReplies(final Long parentId, final String cursor, final Long size) {
+        final int limit = CursorUtil.size(size);
+        final Long after = cursor == null ? 0L : CursorUtil.decodeLong(cursor, CursorUtil.decode(cursor, 1)[0]);
+        final CursorResponseDto<Comment> page = CursorUtil.page(
+                commentRepository.findReplies(parentId, after, CursorUtil.fetch(limit)), limit, last -> CursorUtil.encode(last.getCommentId())
+        );
+        final Map<Long, MemberSummaryVo> members = memberSummaryService.findAll(
+                page.getItems().stream().map(Comment::getMemberId).collect(Collectors.toSet())
+        );
+        final Set<Long> liked = findLiked(page.getItems());
+        List<CommentThreadResponseDto> items = new ArrayList<>();
+
+        for(Comment reply: page.getItems())
+            items.add(toThreadDto(reply, members, liked));
+
+        return CursorResponseDto.<CommentThreadResponseDto>builder()
+                .items(items)
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+
     @Override
     @Transactional
     public void deleteComment(final Long commentId) {
@@ -95,9 +239,8 @@ public class CommentServiceImpl implements CommentService {
                 () -> new CommentIdNotFoundException(commentId)
         );
 
-        comment.setDeleted(true);
-
-        commentRepository.save(comment);
+        if(commentRepository.softDelete(commentId) == 1)
+            postRepository.addCommentNum(comment.getId(), -1L);
     }
 
     @Override
@@ -112,35 +255,105 @@ public class CommentServiceImpl implements CommentService {
         return commentRepository.save(comment);
     }
 
+    /**
+     * 지우는 쪽을 먼저 시도하고, 지운 게 없으면 넣는다
+     * 겹친 요청이 이미 바꿔 놓았으면 unchanged
+     * */
     @Override
     @Transactional
-    public String likeComment(Long commentId) {
-        Optional<CommentLike> byCommentIdAndMemberId = commentLikeRepository.findByCommentIdAndMemberId(commentId, JwtUtil.getMemberId());
-        if(byCommentIdAndMemberId.isEmpty()) {
-            commentLikeRepository.save(
-                    CommentLike.builder()
-                            .commentId(commentId)
-                            .memberId(JwtUtil.getMemberId())
-                            .build()
-            );
-
-            return "save";
-        } else {
-            commentLikeRepository.delete(byCommentIdAndMemberId.get());
+    public String likeComment(final Long commentId) {
+        final Long memberId = MemberContext.getMemberId();
 
+        if(removeLike(commentId, memberId))
             return "delete";
-        }
+
+        return addLike(commentId, memberId) ? "save" : "unchanged";
+    }
+
+    /**
+     * liked 상태로 맞춘다, 여러 번 보내도 결과가 같다
+     * */
+    @Override
+    @Transactional
+    public String likeComment(final Long commentId, final Boolean liked) {
+        final Long memberId = MemberContext.getMemberId();
+
+        if(liked)
+            return addLike(commentId, memberId) ? "save" : "unchanged";
+
+        return removeLike(commentId, memberId) ? "delete" : "unchanged";
+    }
+
+    /**
+     * uk_comment_like 때문에 동시에 눌러도 한 줄만 들어가고 like_num 도 한 번만 바뀐다
+     * */
+    private boolean addLike(final Long commentId, final Long memberId) {
+        if(commentLikeRepository.insertIfAbsent(commentId, memberId) == 0)
+            return false;
+
+        commentRepository.addLikeNum(commentId, 1L);
+
+        return true;
+    }
+
+    private boolean removeLike(final Long commentId, final Long memberId) {
+        final int deleted = commentLikeRepository.deleteByCommentIdAndMemberId(commentId, memberId);
+
+        if(deleted == 0)
+            return false;
+
+        commentRepository.addLikeNum(commentId, (long) -deleted);
+
+        return true;
+    }
+
+    /**
+     * 로그인하지 않았으면 조회하지 않는다
+     * */
+    private Set<Long> findLiked(final List<Comment> comments) {
+        final Long memberId = MemberContext.findMemberId();
+
+        if(memberId == null || comments.isEmpty())
+            return Collections.emptySet();
+
+        return new HashSet<>(commentLikeRepository.findLikedCommentIds(
+                memberId,
+                comments.stream().map(Comment::getCommentId).collect(Collectors.toList())
+        ));
+    }
+
+    private CommentThreadResponseDto toThreadDto(final Comment comment, final Map<Long, MemberSummaryVo> members, final Set<Long> liked) {
+        final MemberSummaryVo member = members.get(comment.getMemberId());
+
+        if(member == null)
+            throw new MemberIdNotFoundException(comment.getMemberId().toString());
+
+        return CommentThreadResponseDto.builder()
+                .commentId(comment.getCommentId())
+                .parentId(comment.getParentComment())
+                .content(comment.getContent())
+                .updatedAt(comment.getUpdatedAt().format(UPDATED_AT))
+                .memberId(comment.getMemberId())
+                .memberName(member.getNickname())
+                .memberImage(member.getProfileImg())
+                .likeNum(comment.getLikeNum())
+                .liked(liked.contains(comment.getCommentId()))
+                .build();
     }
 
     @Override
     @Transactional
     public DoctorResponse addDoctorResponse(CommentDoctorRequestDto dto) {
-        return doctorResponseRepository.save(
+        final DoctorResponse save = doctorResponseRepository.save(
                 DoctorResponse.builder()
                         .postId(dto.getPostId())
-                        .adminId(JwtUtil.getMemberId())
+                        .adminId(MemberContext.getMemberId())
                         .content(dto.getContent())
                         .build()
         );
+
+        notificationService.enqueueTopic("comment", "answer", "post-" + save.getPostId());
+
+        return save;
     }
 }
@@ -0,0 +1,7 @@
+package com.dearbella.server.service.counter;
+
+import java.util.Map;
+
+public interface CounterService {
+    public Map<String, Integer> reconcile();
+}
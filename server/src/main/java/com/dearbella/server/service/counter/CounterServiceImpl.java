@@ -0,0 +1,74 @@
+package com.dearbella.server.service.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * like_num, comment_num, review_num 카운터와 평점(rate_sum, total_rate)을 원본 테이블 기준으로 다시 맞춘다
+ * 값이 다른 row 만 update 하고 바뀐 row 수를 돌려준다
+ * */
+@Slf4j
+@RequiredArgsConstructor
+public class CounterServiceImpl implements CounterService {
+    private static final Map<String, String> RECONCILE_QUERIES = new LinkedHashMap<>();
+
+    static {
+        RECONCILE_QUERIES.put("post.like_num", recount("post", "like_num",
+                "SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = t.post_id"));
+        RECONCILE_QUERIES.put("post.comment_num", recount("post", "comment_num",
+                "SELECT COUNT(*) FROM comment c WHERE c.id = t.post_id AND c.deleted = 0"));
+        RECONCILE_QUERIES.put("review.like_num", recount("review", "like_num",
+                "SELECT COUNT(*) FROM review_like rl WHERE rl.review_id = t.review_id"));
+        RECONCILE_QUERIES.put("comment.like_num", recount("comment", "like_num",
+                "SELECT COUNT(*) FROM comment_like cl WHERE cl.comment_id = t.comment_id"));
+        RECONCILE_QUERIES.put("hospital.review_num", recount("hospital", "review_num",
+                "SELECT COUNT(*) FROM review r WHERE r.hospital_id = t.hospital_id AND r.deleted = 0"));
+        RECONCILE_QUERIES.put("doctor.review_num", recount("doctor", "review_num",
+                "SELECT COUNT(*) FROM review r WHERE r.doctor_id = t.doctor_id AND r.deleted = 0"));
+
+        // 평점은 review_num 이 맞춰진 뒤에 합계 -> 평균 순서로
+        RECONCILE_QUERIES.put("hospital.rate_sum", resum("hospital", "rate_sum",
+                "SELECT COALESCE(SUM(r.rate), 0) FROM review r WHERE r.hospital_id = t.hospital_id AND r.deleted = 0"));
+        RECONCILE_QUERIES.put("doctor.rate_sum", resum("doctor", "rate_sum",
+                "SELECT COALESCE(SUM(r.rate), 0) FROM review r WHERE r.doctor_id = t.doctor_id AND r.deleted = 0"));
+        RECONCILE_QUERIES.put("hospital.total_rate", resum("hospital", "total_rate",
+                "CASE WHEN t.review_num > 0 THEN t.rate_sum / t.review_num ELSE 0 END"));
+        RECONCILE_QUERIES.put("doctor.total_rate", resum("doctor", "total_rate",
+                "CASE WHEN t.review_num > 0 THEN t.rate_sum / t.review_num ELSE 0 END"));
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${counter.reconcile-cron:0 30 4 * * *}")
+    public Map<String, Integer> reconcile() {
+        Map<String, Integer> drifted = new LinkedHashMap<>();
+
+        for(Map.Entry<String, String> query: RECONCILE_QUERIES.entrySet())
+            drifted.put(query.getKey(), jdbcTemplate.update(query.getValue()));
+
+        log.info("counter reconcile {}", drifted);
+
+        return drifted;
+    }
+
+    private static String recount(final String table, final String column, final String count) {
+        return "UPDATE " + table + " t SET " + column + " = (" + count + ") " +
+                "WHERE t." + column + " IS NULL OR t." + column + " <> (" + count + ")";
+    }
+
+    /**
+     * 실수 컬럼은 누적 오차가 있어 차이가 있을 때만 고친다
+     * */
+    private static String resum(final String table, final String column, final String value) {
+        return "UPDATE " + table + " t SET " + column + " = (" + value + ") " +
+                "WHERE t." + column + " IS NULL OR ABS(t." + column + " - (" + value + ")) > 0.0001";
+    }
+}
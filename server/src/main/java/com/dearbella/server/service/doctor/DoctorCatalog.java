@@ -0,0 +1,148 @@
+package com.dearbella.server.service.doctor;
+
+import com.dearbella.server.domain.Category;
+import com.dearbella.server.domain.Doctor;
+import com.dearbella.server.enums.doctor.CategoryEnum;
+import com.dearbella.server.enums.view.ViewTargetEnum;
+import com.dearbella.server.exception.doctor.CategoryNotFoundException;
+import com.dearbella.server.repository.DoctorRepository;
+import com.dearbella.server.service.view.ViewCountService;
+import com.dearbella.server.vo.DoctorCatalogVo;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 삭제되지 않은 의사를 평점순으로 메모리에 두고, 분야 필터와 평점 / 조회수 정렬을 SQL 없이 처리한다
+ * 의사 추가 / 수정 / 삭제가 커밋되면 비우고 다음 요청에서 다시 읽는다
+ * 평점, 리뷰 수, 다른 서버의 변경은 ttl 안에 반영된다
+ * */
+@RequiredArgsConstructor
+public class DoctorCatalog {
+    private final DoctorRepository doctorRepository;
+    private final ViewCountService viewCountService;
+    private final Duration ttl;
+    /**
+     * 읽는 도중에 비워졌으면 읽은 결과를 캐시에 넣지 않는다
+     * */
+    private final AtomicLong generation = new AtomicLong();
+    /**
+     * 한 번에 한 요청만 다시 읽는다, 나머지는 이전 스냅샷을 쓰거나(ttl 만료) 읽기가 끝날 때까지 기다린다(비워졌을 때)
+     * */
+    private final ReentrantLock loading = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    /**
+     * category: 0이면 전체, sort: 0이면 평점순, 아니면 조회수순
+     * */
+    public List<DoctorCatalogVo> find(final Long category, final Long sort) {
+        final List<DoctorCatalogVo> doctors = new ArrayList<>();
+
+        if(category > 0) {
+            if(CategoryEnum.findByValue(category) == null)
+                throw new CategoryNotFoundException(category);
+
+            final long categoryBit = 1L << category;
+
+            for(DoctorCatalogVo doctor: snapshot().doctors) {
+                if(doctor.hasCategory(categoryBit))
+                    doctors.add(doctor);
+            }
+        }
+        else
+            doctors.addAll(snapshot().doctors);
+
+        // 아직 반영 안된 조회수까지 더해서 정렬
+        if(sort != 0L)
+            doctors.sort(Comparator.comparingLong(
+                    (DoctorCatalogVo doctor) -> doctor.getViewNum() + viewCountService.getPending(ViewTargetEnum.DOCTOR, doctor.getDoctorId())
+            ).reversed());
+
+        return doctors;
+    }
+
+    public synchronized void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+
+        if(isFresh(current))
+            return current;
+
+        if(current != null) {
+            if(!loading.tryLock())
+                return current;
+        }
+        else
+            loading.lock();
+
+        try {
+            // 기다리는 동안 앞 요청이 이미 읽어 놨다
+            current = snapshot;
+
+            if(isFresh(current))
+                return current;
+
+            final long started = generation.get();
+            final Snapshot loaded = load();
+
+            synchronized (this) {
+                if(generation.get() == started)
+                    snapshot = loaded;
+            }
+
+            return loaded;
+        } finally {
+            loading.unlock();
+        }
+    }
+
+    private boolean isFresh(final Snapshot current) {
+        return current != null && System.currentTimeMillis() - current.builtAt < ttl.toMillis();
+    }
+
+    private Snapshot load() {
+        final List<DoctorCatalogVo> doctors = new ArrayList<>();
+
+        for(Doctor doctor: doctorRepository.findWithCategoriesByDeletedFalse()) {
+            long categoryMask = 0L;
+
+            for(Category category: doctor.getCategories())
+                categoryMask |= 1L << category.getCategoryNum();
+
+            doctors.add(
+                    DoctorCatalogVo.builder()
+                            .doctorId(doctor.getDoctorId())
+                            .doctorName(doctor.getDoctorName())
+                            .doctorImage(doctor.getDoctorImage())
+                            .hospitalName(doctor.getHospitalName())
+                            .description(doctor.getDescription())
+                            .parts(List.copyOf(doctor.getCategories()))
+                            .categoryMask(categoryMask)
+                            .totalRate(doctor.getTotalRate() == null ? 0F : doctor.getTotalRate())
+                            .viewNum(doctor.getViewNum() == null ? 0L : doctor.getViewNum())
+                            .reviewNum(doctor.getReviewNum())
+                            .build()
+            );
+        }
+
+        doctors.sort(Comparator.comparing(DoctorCatalogVo::getTotalRate).reversed()
+                .thenComparing(DoctorCatalogVo::getDoctorId));
+
+        return new Snapshot(List.copyOf(doctors), System.currentTimeMillis());
+    }
+
+    @RequiredArgsConstructor
+    private static class Snapshot {
+        private final List<DoctorCatalogVo> doctors;
+        private final long builtAt;
+    }
+}
@@ -5,6 +5,7 @@ import com.dearbella.server.domain.DoctorMember;
 import com.dearbella.server.dto.request.doctor.DoctorAddRequestDto;
 import com.dearbella.server.dto.request.doctor.DoctorDetailResponseDto;
 import com.dearbella.server.dto.request.doctor.DoctorEditRequestDto;
+import com.dearbella.server.dto.response.cursor.CursorResponseDto;
 import com.dearbella.server.dto.response.doctor.DoctorAdminResponseDto;
 import com.dearbella.server.dto.response.doctor.DoctorResponseDto;
 import com.dearbella.server.dto.response.doctor.MyDoctorResponseDto;
@@ -16,10 +17,12 @@ public interface DoctorService {
     public Doctor addDoctor(DoctorAddRequestDto dto, String image);
     public List<DoctorResponseDto> findAll(Long category, Long sort);
     public DoctorDetailResponseDto findById(Long doctorId);
-    public Set<DoctorResponseDto> findByQuery(String query);
+    public List<DoctorResponseDto> findByQuery(String query, Long page, Long size);
     public List<MyDoctorResponseDto> findMyDoctors();
+    public CursorResponseDto<MyDoctorResponseDto> findMyFeed(String cursor, Long size);
     public DoctorMember addWish(Long doctorId);
     public void removeWish(Long doctorId);
+    public void wish(Long doctorId, Boolean wished);
     public List<DoctorAdminResponseDto> getDoctors(Long page);
     public Doctor getDoctor(Long doctorId);
     public String deleteDoctor(Long doctorId);
@@ -1,27 +1,37 @@
 package com.dearbella.server.service.doctor;
 
 import com.dearbella.server.domain.*;
+import com.dearbella.server.dto.projection.MyDoctorProjection;
 import com.dearbella.server.dto.request.doctor.DoctorAddRequestDto;
 import com.dearbella.server.dto.request.doctor.DoctorDetailResponseDto;
 import com.dearbella.server.dto.request.doctor.DoctorEditRequestDto;
+import com.dearbella.server.dto.response.cursor.CursorResponseDto;
 import com.dearbella.server.dto.response.doctor.DoctorAdminResponseDto;
 import com.dearbella.server.dto.response.doctor.DoctorResponseDto;
 import com.dearbella.server.dto.response.doctor.MyDoctorResponseDto;
 import com.dearbella.server.dto.response.review.ReviewPreviewResponseDto;
-import com.dearbella.server.enums.doctor.CategoryEnum;
+import com.dearbella.server.enums.search.SearchTargetEnum;
 import com.dearbella.server.exception.doctor.CategoryNotFoundException;
 import com.dearbella.server.exception.doctor.DoctorIdNotFoundException;
 import com.dearbella.server.exception.member.MemberIdNotFoundException;
 import com.dearbella.server.repository.*;
-import com.dearbella.server.util.JwtUtil;
+import com.dearbella.server.service.member.MemberSummaryService;
+import com.dearbella.server.service.search.SearchService;
+import com.dearbella.server.util.CursorUtil;
+import com.dearbella.server.util.MemberContext;
+import com.dearbella.server.util.TransactionUtil;
+import com.dearbella.server.vo.DoctorCatalogVo;
+import com.dearbella.server.vo.MemberSummaryVo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -33,6 +43,9 @@ public class DoctorServiceImpl implements DoctorService {
     private final DoctorMemberRepository doctorMemberRepository;
     private final ReviewRepository reviewRepository;
     private final MemberRepository memberRepository;
+    private final SearchService searchService;
+    private final MemberSummaryService memberSummaryService;
+    private final DoctorCatalog doctorCatalog;
 
     /**
      * TODO
@@ -75,63 +88,52 @@ public class DoctorServiceImpl implements DoctorService {
             );
         }
 
-        return doctorRepository.save(
+        final Doctor doctor = doctorRepository.save(
                 Doctor.builder()
                         .doctorName(dto.getDoctorName())
                         .doctorImage(image)
                         .hospitalName(dto.getHospitalName())
                         .description(dto.getDescription())
-                        .adminId(JwtUtil.getMemberId())
+                        .adminId(MemberContext.getMemberId())
                         .career(careers)
                         .categories(categories)
                         .links(videos)
                         .sequence(dto.getSequence())
                         .totalRate(0.0F)
                         .viewNum(0L)
+                        .reviewNum(0L)
+                        .rateSum(0D)
                         .deleted(false)
                         .build()
         );
+
+        searchService.indexDoctor(doctor);
+        TransactionUtil.afterCommit(doctorCatalog::invalidate);
+
+        return doctor;
     }
 
+    /**
+     * 분야 필터, 정렬은 DoctorCatalog 에서 처리하고 DB 에는 내 찜 목록만 묻는다
+     * */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<DoctorResponseDto> findAll(final Long category, final Long sort) {
-        Sort sort1;
         List<DoctorResponseDto> responseDtoList = new ArrayList<>();
 
-        if(sort == 0L) {
-            sort1 = Sort.by(Sort.Direction.DESC, "totalRate");
-        }
-        else
-            sort1 = Sort.by(Sort.Direction.DESC, "viewNum");
-
-        final List<Doctor> byCategories;
-
-        if(category > 0) {
-            byCategories = doctorRepository.findByCategoriesAndDeletedFalse(
-                    Category.builder()
-                            .categoryNum(category)
-                            .categoryName(CategoryEnum.findByValue(category).name())
-                            .build(), sort1
-            );
-        }
-        else
-        {
-            byCategories = doctorRepository.findByAndDeletedFalse(sort1);
-        }
-
-        Long memberId = JwtUtil.isExistAccessToken() == null ? 0L : JwtUtil.getMemberId(JwtUtil.isExistAccessToken());
-
-        for(Doctor doctor: byCategories) {
-            final boolean empty = doctorMemberRepository.findByDoctorIdAndMemberId(doctor.getDoctorId(), memberId).isEmpty();
-            final int size = reviewRepository.findByDoctorIdAndDeletedFalse(doctor.getDoctorId()).size();
+        final List<DoctorCatalogVo> doctors = doctorCatalog.find(category, sort);
+        final Long memberId = MemberContext.findMemberId();
+        final Set<Long> wished = memberId == null || doctors.isEmpty()
+                ? Set.of()
+                : new HashSet<>(doctorMemberRepository.findDoctorIdsByMemberId(memberId));
 
+        for(DoctorCatalogVo doctor: doctors) {
             responseDtoList.add(
                     DoctorResponseDto.builder()
-                            .isMine(empty ? false : true)
+                            .isMine(wished.contains(doctor.getDoctorId()))
                             .doctorId(doctor.getDoctorId())
-                            .reviewNum((long) size)
-                            .parts(doctor.getCategories())
+                            .reviewNum(doctor.getReviewNum())
+                            .parts(doctor.getParts())
                             .rate(doctor.getTotalRate())
                             .intro(doctor.getDescription())
                             .doctorName(doctor.getDoctorName())
@@ -145,24 +147,29 @@ public class DoctorServiceImpl implements DoctorService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public DoctorDetailResponseDto findById(final Long doctorId) {
         final Doctor doctor = doctorRepository.findByDoctorIdAndDeletedFalse(doctorId).orElseThrow(
                 () -> new DoctorIdNotFoundException(doctorId)
         );
 
-        Long memberId = JwtUtil.isExistAccessToken() == null ? 0L : JwtUtil.getMemberId(JwtUtil.isExistAccessToken());
+        final Long memberId = MemberContext.findMemberId() == null ? 0L : MemberContext.findMemberId();
 
         final boolean empty = doctorMemberRepository.findByDoctorIdAndMemberId(doctorId, memberId).isEmpty();
 
         final List<Review> byDoctorId = reviewRepository.findByDoctorIdAndDeletedFalse(doctorId);
 
+        final Map<Long, MemberSummaryVo> members = memberSummaryService.findAll(
+                byDoctorId.stream().map(Review::getMemberId).collect(Collectors.toSet())
+        );
+
         List<ReviewPreviewResponseDto> reviews = new ArrayList<>();
 
         for(Review review: byDoctorId) {
-            final Member member = memberRepository.findById(review.getMemberId()).orElseThrow(
-                    () -> new MemberIdNotFoundException(review.getMemberId().toString())
-            );
+            final MemberSummaryVo member = members.get(review.getMemberId());
+
+            if(member == null)
+                throw new MemberIdNotFoundException(review.getMemberId().toString());
 
             final boolean empty1 = doctorMemberRepository.findByDoctorIdAndMemberId(doctorId, member.getMemberId()).isEmpty();
 
@@ -175,7 +182,7 @@ public class DoctorServiceImpl implements DoctorService {
                             .memberImage(member.getProfileImg())
                             .commentNum(0L)
                             .isLike(empty1 ? false : true)
-                            .likeNum(0L)
+                            .likeNum(review.getLikeNum())
                             .updatedAt(review.getUpdatedAt())
                             .hospitalName(review.getHospitalName())
                             .rate(review.getRate())
@@ -195,7 +202,7 @@ public class DoctorServiceImpl implements DoctorService {
                 .videos(doctor.getLinks())
                 .doctorImage(doctor.getDoctorImage())
                 .isMine(empty ? false : true)
-                .reviewNum((long) byDoctorId.size())
+                .reviewNum(doctor.getReviewNum())
                 .reviews(reviews)
                 .build();
 
@@ -204,30 +211,22 @@ public class DoctorServiceImpl implements DoctorService {
     }
 
     @Override
-    @Transactional
-    public Set<DoctorResponseDto> findByQuery(final String query) {
-        Set<DoctorResponseDto> doctorResponseDtos = new HashSet<>();
-
-        for(Doctor doctor: doctorRepository.findByHospitalNameContainingAndDeletedFalse(query)) {
-            final List<Review> byDoctorId = reviewRepository.findByDoctorIdAndDeletedFalse(doctor.getDoctorId());
-
-            doctorResponseDtos.add(
-                    DoctorResponseDto.builder()
-                            .doctorId(doctor.getDoctorId())
-                            .hospitalName(doctor.getHospitalName())
-                            .doctorImage(doctor.getDoctorImage())
-                            .isMine(false)
-                            .rate(doctor.getTotalRate())
-                            .reviewNum(Long.valueOf(byDoctorId.size()))
-                            .intro(doctor.getDescription())
-                            .parts(doctor.getCategories())
-                            .doctorName(doctor.getDoctorName())
-                            .build()
-            );
+    @Transactional(readOnly = true)
+    public List<DoctorResponseDto> findByQuery(final String query, final Long page, final Long size) {
+        List<DoctorResponseDto> doctorResponseDtos = new ArrayList<>();
+        final List<Long> ids = searchService.search(SearchTargetEnum.DOCTOR, query, page, size);
+        Map<Long, Doctor> doctors = new HashMap<>();
+
+        if(!ids.isEmpty()) {
+            for(Doctor doctor: doctorRepository.findWithCategoriesByDoctorIdIn(ids))
+                doctors.put(doctor.getDoctorId(), doctor);
         }
 
-        for(Doctor doctor: doctorRepository.findByDescriptionAndDeletedFalse(query)) {
-            final List<Review> byDoctorId = reviewRepository.findByDoctorIdAndDeletedFalse(doctor.getDoctorId());
+        for(Long id: ids) {
+            final Doctor doctor = doctors.get(id);
+
+            if(doctor == null || doctor.getDeleted())
+                continue;
 
             doctorResponseDtos.add(
                     DoctorResponseDto.builder()
@@ -236,7 +235,7 @@ public class DoctorServiceImpl implements DoctorService {
                             .doctorImage(doctor.getDoctorImage())
                             .isMine(false)
                             .rate(doctor.getTotalRate())
-                            .reviewNum(Long.valueOf(byDoctorId.size()))
+                            .reviewNum(doctor.getReviewNum())
                             .intro(doctor.getDescription())
                             .parts(doctor.getCategories())
                             .doctorName(doctor.getDoctorName())
@@ -244,53 +243,56 @@ public class DoctorServiceImpl implements DoctorService {
             );
         }
 
-        final Optional<Category> byCategoryName = categoryRepository.findByCategoryName(query);
-
-        if(!byCategoryName.isEmpty()) {
-            for(Doctor doctor: doctorRepository.findByCategoriesAndDeletedFalse(byCategoryName.get())) {
-                final List<Review> byDoctorId = reviewRepository.findByDoctorIdAndDeletedFalse(doctor.getDoctorId());
-
-                doctorResponseDtos.add(
-                        DoctorResponseDto.builder()
-                                .doctorId(doctor.getDoctorId())
-                                .hospitalName(doctor.getHospitalName())
-                                .doctorImage(doctor.getDoctorImage())
-                                .isMine(false)
-                                .rate(doctor.getTotalRate())
-                                .reviewNum((long) byDoctorId.size())
-                                .intro(doctor.getDescription())
-                                .parts(doctor.getCategories())
-                                .doctorName(doctor.getDoctorName())
-                                .build()
-                );
-            }
-        }
-
         return doctorResponseDtos;
     }
 
     @Override
     @Transactional
     public List<MyDoctorResponseDto> findMyDoctors() {
+        return toMyDoctors(doctorMemberRepository.findWishes(MemberContext.getMemberId(), Long.MAX_VALUE, Pageable.unpaged()));
+    }
+
+    @Override
+    @Transactional
+    public CursorResponseDto<MyDoctorResponseDto> findMyFeed(final String cursor, final Long size) {
+        final int limit = CursorUtil.size(size);
+        final Long after = cursor == null ? Long.MAX_VALUE : CursorUtil.decodeLong(cursor, CursorUtil.decode(cursor, 1)[0]);
+        final CursorResponseDto<MyDoctorProjection> page = CursorUtil.page(
+                doctorMemberRepository.findWishes(MemberContext.getMemberId(), after, CursorUtil.fetch(limit)),
+                limit, last -> CursorUtil.encode(last.getWishId())
+        );
+
+        return CursorResponseDto.<MyDoctorResponseDto>builder()
+                .items(toMyDoctors(page.getItems()))
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+
+    /**
+     * 분야는 bag 이라 찜 목록 쿼리에 붙일 수 없어서 한 번 더 묶어서 읽는다
+     * */
+    private List<MyDoctorResponseDto> toMyDoctors(final List<MyDoctorProjection> wishes) {
         List<MyDoctorResponseDto> responseDtoList = new ArrayList<>();
-        final List<DoctorMember> byMemberId = doctorMemberRepository.findByMemberId(JwtUtil.getMemberId(), Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        for(DoctorMember doctorMember: byMemberId) {
-            final Doctor doctor = doctorRepository.findByDoctorIdAndDeletedFalse(doctorMember.getDoctorId()).orElseThrow(
-                    () -> new DoctorIdNotFoundException(doctorMember.getDoctorId())
-            );
-            final List<Review> reviews = reviewRepository.findByDoctorIdAndDeletedFalse(doctor.getDoctorId());
+        if(wishes.isEmpty())
+            return responseDtoList;
+
+        final Map<Long, List<Category>> categories = new HashMap<>();
+
+        for(Doctor doctor: doctorRepository.findWithCategoriesByDoctorIdIn(wishes.stream().map(MyDoctorProjection::getDoctorId).collect(Collectors.toSet())))
+            categories.put(doctor.getDoctorId(), doctor.getCategories());
 
+        for(MyDoctorProjection wish: wishes) {
             responseDtoList.add(
                     MyDoctorResponseDto.builder()
-                            .doctorId(doctor.getDoctorId())
-                            .DoctorImage(doctor.getDoctorImage())
-                            .categories(doctor.getCategories())
-                            .reviewNum((long) reviews.size())
-                            .rate(doctor.getTotalRate())
-                            .hospitalName(doctor.getHospitalName())
-                            .intro(doctor.getDescription())
-                            .doctorName(doctor.getDoctorName())
+                            .doctorId(wish.getDoctorId())
+                            .DoctorImage(wish.getDoctorImage())
+                            .categories(categories.getOrDefault(wish.getDoctorId(), List.of()))
+                            .reviewNum(wish.getReviewNum())
+                            .rate(wish.getRate())
+                            .hospitalName(wish.getHospitalName())
+                            .intro(wish.getIntro())
+                            .doctorName(wish.getDoctorName())
                             .build()
             );
         }
@@ -301,23 +303,29 @@ public class DoctorServiceImpl implements DoctorService {
     @Override
     @Transactional
     public DoctorMember addWish(final Long doctorId) {
-        final Optional<DoctorMember> byDoctorIdAndMemberId = doctorMemberRepository.findByDoctorIdAndMemberId(doctorId, JwtUtil.getMemberId());
+        final Long memberId = MemberContext.getMemberId();
 
-        if(byDoctorIdAndMemberId.isEmpty())
-            return doctorMemberRepository.save(
-                    DoctorMember.builder()
-                            .doctorId(doctorId)
-                            .memberId(JwtUtil.getMemberId())
-                            .build()
-            );
+        doctorMemberRepository.insertIfAbsent(doctorId, memberId);
+
+        return doctorMemberRepository.findByDoctorIdAndMemberId(doctorId, memberId).orElseThrow();
+    }
+
+    /**
+     * wished 상태로 맞춘다, uk_doctor_member 때문에 여러 번 보내거나 동시에 보내도 한 줄만 남는다
+     * */
+    @Override
+    @Transactional
+    public void wish(final Long doctorId, final Boolean wished) {
+        if(wished)
+            doctorMemberRepository.insertIfAbsent(doctorId, MemberContext.getMemberId());
         else
-            return byDoctorIdAndMemberId.get();
+            doctorMemberRepository.deleteByDoctorIdAndMemberId(doctorId, MemberContext.getMemberId());
     }
 
     @Override
     @Transactional
     public void removeWish(final Long doctorId) {
-        doctorMemberRepository.deleteByDoctorId(doctorId);
+        doctorMemberRepository.deleteByDoctorIdAndMemberId(doctorId, MemberContext.getMemberId());
     }
 
     @Override
@@ -361,6 +369,9 @@ public class DoctorServiceImpl implements DoctorService {
 
         doctorRepository.save(doctor);
 
+        searchService.remove(SearchTargetEnum.DOCTOR, doctorId);
+        TransactionUtil.afterCommit(doctorCatalog::invalidate);
+
         return "Success";
     }
 
@@ -412,6 +423,11 @@ public class DoctorServiceImpl implements DoctorService {
         doctor.setCategories(categories);
         doctor.setDescription(dto.getDescription());
 
-        return doctorRepository.save(doctor);
+        final Doctor save = doctorRepository.save(doctor);
+
+        searchService.indexDoctor(save);
+        TransactionUtil.afterCommit(doctorCatalog::invalidate);
+
+        return save;
     }
 }
@@ -1,21 +0,0 @@
-package com.dearbella.server.service.fcm;
-
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
-
-import java.io.IOException;
-
-public class FCMServiceImpl implements FCMService {
-    @Override
-    public void sendMessageByTopic(final String title, final String body, String topic) throws IOException, FirebaseMessagingException {
-        FirebaseMessaging.getInstance().send(Message.builder()
-                .setNotification(Notification.builder()
-                        .setTitle(title)
-                        .setBody(body)
-                        .build())
-                .setTopic(topic)
-                .build());
-    }
-}
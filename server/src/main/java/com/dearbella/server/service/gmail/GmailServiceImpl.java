@@ -1,5 +1,7 @@
 package com.dearbella.server.service.gmail;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -13,11 +15,14 @@ import javax.mail.internet.MimeMessage;
 @Slf4j
 public class GmailServiceImpl implements GmailService {
     private final JavaMailSender javaMailSender;
+    private final MeterRegistry meterRegistry;
 
     @Override
     @Transactional
     public void sendMail(String email) {
         MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
 
         try {
             MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
@@ -27,11 +32,14 @@ public class GmailServiceImpl implements GmailService {
                     "\n" +
                     "[Notification]:Your inquiry has been answered. Please check it on Dearbella My Page. (링크)", false); // 메일 본문 내용, HTML 여부
             javaMailSender.send(mimeMessage);
+            outcome = "success";
 
             log.info("Success");
         } catch (MessagingException e) {
             log.info("fail");
             throw new RuntimeException(e);
+        } finally {
+            sample.stop(meterRegistry.timer("mail.send", "outcome", outcome));
         }
     }
 }
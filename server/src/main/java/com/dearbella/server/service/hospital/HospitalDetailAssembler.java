@@ -0,0 +1,107 @@
+package com.dearbella.server.service.hospital;
+
+import com.dearbella.server.domain.Doctor;
+import com.dearbella.server.domain.Hospital;
+import com.dearbella.server.domain.Review;
+import com.dearbella.server.dto.response.doctor.DoctorResponseDto;
+import com.dearbella.server.dto.response.hospital.HospitalDetailResponseDto;
+import com.dearbella.server.dto.response.review.ReviewResponseDto;
+import com.dearbella.server.exception.hospital.HospitalIdNotFoundException;
+import com.dearbella.server.repository.DoctorMemberRepository;
+import com.dearbella.server.repository.DoctorRepository;
+import com.dearbella.server.repository.HospitalMemberRepository;
+import com.dearbella.server.repository.HospitalRepository;
+import com.dearbella.server.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+
+import java.util.*;
+
+/**
+ * 병원 상세 페이지 조립
+ * 의사 수, 리뷰 수와 상관없이 고정된 횟수의 쿼리로 응답을 만든다
+ * 리뷰 수는 hospital, doctor 의 review_num 컬럼을 쓴다
+ * */
+@RequiredArgsConstructor
+public class HospitalDetailAssembler {
+    private final HospitalRepository hospitalRepository;
+    private final HospitalMemberRepository hospitalMemberRepository;
+    private final DoctorRepository doctorRepository;
+    private final ReviewRepository reviewRepository;
+    private final DoctorMemberRepository doctorMemberRepository;
+
+    /**
+     * 호출하는 쪽의 트랜잭션 안에서 사용
+     * */
+    public HospitalDetailResponseDto assemble(final Long hospitalId, final Long memberId) {
+        final Hospital hospital = hospitalRepository.findWithBannersByHospitalId(hospitalId).orElseThrow(
+                () -> new HospitalIdNotFoundException(hospitalId)
+        );
+
+        // bag 끼리는 fetch join 이 안되므로 나머지 컬렉션은 하나씩 초기화
+        Hibernate.initialize(hospital.getInfras());
+        Hibernate.initialize(hospital.getBefore());
+        Hibernate.initialize(hospital.getAfter());
+
+        final boolean isMine = hospitalMemberRepository.existsByHospitalIdAndMemberId(hospitalId, memberId);
+
+        final List<Doctor> doctors = doctorRepository.findWithCategoriesByHospitalName(hospital.getHospitalName());
+        final Set<Long> wishedDoctorIds = new HashSet<>();
+
+        if(!doctors.isEmpty()) {
+            List<Long> doctorIds = new ArrayList<>();
+
+            for(Doctor doctor: doctors)
+                doctorIds.add(doctor.getDoctorId());
+
+            wishedDoctorIds.addAll(doctorMemberRepository.findDoctorIdsByMemberId(memberId, doctorIds));
+        }
+
+        List<DoctorResponseDto> doctorResponseDtos = new ArrayList<>();
+
+        for(Doctor doctor: doctors) {
+            doctorResponseDtos.add(
+                    DoctorResponseDto.builder()
+                            .doctorId(doctor.getDoctorId())
+                            .doctorImage(doctor.getDoctorImage())
+                            .doctorName(doctor.getDoctorName())
+                            .intro(doctor.getDescription())
+                            .rate(doctor.getTotalRate())
+                            .parts(doctor.getCategories())
+                            .reviewNum(doctor.getReviewNum())
+                            .isMine(wishedDoctorIds.contains(doctor.getDoctorId()))
+                            .hospitalName(hospital.getHospitalName())
+                            .build()
+            );
+        }
+
+        final List<Review> reviews = reviewRepository.findByHospitalId(hospitalId);
+        List<ReviewResponseDto> reviewResponseDtos = new ArrayList<>();
+
+        for(Review review: reviews) {
+            reviewResponseDtos.add(
+                    ReviewResponseDto.builder()
+                            .reviewId(review.getReviewId())
+                            .title(review.getTitle())
+                            .rate(review.getRate())
+                            .build()
+            );
+        }
+
+        return HospitalDetailResponseDto.builder()
+                .hospitalId(hospital.getHospitalId())
+                .banners(hospital.getBanners())
+                .hospitalName(hospital.getHospitalName())
+                .location(hospital.getHospitalLocation())
+                .isMine(isMine)
+                .rate(hospital.getTotalRate())
+                .reviewNum(hospital.getReviewNum())
+                .intro(hospital.getDescription())
+                .infras(hospital.getInfras())
+                .doctors(doctorResponseDtos)
+                .befores(hospital.getBefore())
+                .afters(hospital.getAfter())
+                .reviews(reviewResponseDtos)
+                .build();
+    }
+}
@@ -4,6 +4,7 @@ import com.dearbella.server.domain.Hospital;
 import com.dearbella.server.domain.HospitalMember;
 import com.dearbella.server.dto.request.hospital.HospitalAddRequestDto;
 import com.dearbella.server.dto.request.hospital.HospitalEditRequestDto;
+import com.dearbella.server.dto.response.cursor.CursorResponseDto;
 import com.dearbella.server.dto.response.hospital.HospitalAdminResponseDto;
 import com.dearbella.server.dto.response.hospital.HospitalDetailResponseDto;
 import com.dearbella.server.dto.response.hospital.HospitalResponseDto;
@@ -14,13 +15,15 @@ import java.util.Set;
 
 public interface HospitalService {
     public Hospital addHospital(HospitalAddRequestDto dto, List<String> befores, List<String> afters, List<String> banners);
-    public List<HospitalResponseDto> getAll(Long category, Long sort);
+    public List<HospitalResponseDto> getAll(Long category, Long sort, Long page, Long size);
     public HospitalDetailResponseDto findById(Long id);
-    public Set<HospitalResponseDto> findByQuery(String query);
+    public List<HospitalResponseDto> findByQuery(String query, Long page, Long size);
     public List<MyHospitalResponseDto> findByMemberId();
+    public CursorResponseDto<MyHospitalResponseDto> findMyFeed(String cursor, Long size);
     public HospitalMember addWishList(Long hospitalId);
     public void deleteWish(Long hospitalId);
-    public List<HospitalAdminResponseDto> findALl(Long page);
+    public void wish(Long hospitalId, Boolean wished);
+    public List<HospitalAdminResponseDto> findALl(Long page, Boolean count);
 
     public Hospital editHospital(HospitalEditRequestDto dto, List<String> befores, List<String> afters, List<String> banners);
 }
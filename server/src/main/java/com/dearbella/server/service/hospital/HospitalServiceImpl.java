@@ -1,24 +1,32 @@
 package com.dearbella.server.service.hospital;
 
 import com.dearbella.server.domain.*;
+import com.dearbella.server.dto.projection.MyHospitalProjection;
 import com.dearbella.server.dto.request.hospital.HospitalAddRequestDto;
 import com.dearbella.server.dto.request.hospital.HospitalEditRequestDto;
+import com.dearbella.server.dto.response.cursor.CursorResponseDto;
 import com.dearbella.server.dto.response.doctor.DoctorResponseDto;
 import com.dearbella.server.dto.response.hospital.HospitalAdminResponseDto;
 import com.dearbella.server.dto.response.hospital.HospitalDetailResponseDto;
 import com.dearbella.server.dto.response.hospital.HospitalResponseDto;
 import com.dearbella.server.dto.response.hospital.MyHospitalResponseDto;
 import com.dearbella.server.dto.response.review.ReviewResponseDto;
+import com.dearbella.server.enums.search.SearchTargetEnum;
 import com.dearbella.server.exception.banner.BannerInfraNotFoundException;
 import com.dearbella.server.exception.doctor.DoctorByHospitalNameNotFoundException;
 import com.dearbella.server.exception.hospital.HospitalIdNotFoundException;
 import com.dearbella.server.exception.hospital.HospitalResponseNullException;
 import com.dearbella.server.repository.*;
-import com.dearbella.server.util.JwtUtil;
+import com.dearbella.server.service.search.SearchService;
+import com.dearbella.server.util.CursorUtil;
+import com.dearbella.server.util.MemberContext;
+import com.dearbella.server.util.PageUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,46 +46,23 @@ public class HospitalServiceImpl implements HospitalService {
     private final DoctorRepository doctorRepository;
     private final ReviewRepository reviewRepository;
     private final DoctorMemberRepository doctorMemberRepository;
+    private final HospitalDetailAssembler hospitalDetailAssembler;
+    private final SearchService searchService;
 
     @Override
+    @Transactional
     public Hospital addHospital(final HospitalAddRequestDto dto, List<String> befores, List<String> afters, List<String> banners)  {
+        final Long memberId = MemberContext.getMemberId();
         List<Image> beforeImages = new ArrayList<>();
         List<Image> afterImages = new ArrayList<>();
         List<Image> bannerImages = new ArrayList<>();
         Set<Infra> infraList = new HashSet<>();
 
-        for(String image: befores) {
-            beforeImages.add(
-                    imageRepository.save(
-                        Image.builder()
-                                .imageUrl(image)
-                              .memberId(JwtUtil.getMemberId())
-                              .build()
-                    )
-            );
-        }
+        beforeImages.addAll(imageRepository.saveAll(Image.of(befores, memberId)));
 
-        for(String image: afters) {
-            afterImages.add(
-                    imageRepository.save(
-                            Image.builder()
-                                    .imageUrl(image)
-                                    .memberId(JwtUtil.getMemberId())
-                                    .build()
-                    )
-            );
-        }
+        afterImages.addAll(imageRepository.saveAll(Image.of(afters, memberId)));
 
-        for(String image: banners) {
-            bannerImages.add(
-                    imageRepository.save(
-                            Image.builder()
-                                    .imageUrl(image)
-                                    .memberId(JwtUtil.getMemberId())
-                                    .build()
-                    )
-            );
-        }
+        bannerImages.addAll(imageRepository.saveAll(Image.of(banners, memberId)));
 
         for(Long tag: dto.getInfras()) {
             infraList.add(
@@ -87,9 +72,9 @@ public class HospitalServiceImpl implements HospitalService {
             );
         }
 
-        return hospitalRepository.save(
+        final Hospital hospital = hospitalRepository.save(
                 Hospital.builder()
-                        .adminId(JwtUtil.getMemberId())
+                        .adminId(memberId)
                         .after(afterImages)
                         .before(beforeImages)
                         .banners(bannerImages)
@@ -105,194 +90,67 @@ public class HospitalServiceImpl implements HospitalService {
                         .plasticSurgeon(dto.getPlasticSurgeon())
                         .dermatologist(dto.getDermatologist())
                         .viewNum(0L)
+                        .reviewNum(0L)
+                        .rateSum(0D)
                         .deleted(false)
                         .build()
         );
-    }
 
-    @Override
-    @Transactional
-    public List<HospitalResponseDto> getAll(final Long category, final Long sort) {
-        List<Hospital> hospitals;
-        List<HospitalResponseDto> responseDtos = new ArrayList<>();
-
-        if(sort == 0) {
-            hospitals = hospitalRepository.findAll(Sort.by(Sort.Direction.DESC, "totalRate"));
-        }
-        else
-            hospitals = hospitalRepository.findAll(Sort.by(Sort.Direction.DESC, "viewNum"));
+        searchService.indexHospital(hospital);
 
-        String accessToken = JwtUtil.isExistAccessToken();
-        Long memberId;
+        return hospital;
+    }
 
-        if(accessToken == null)
-            memberId = 0L;
-        else
-            memberId = JwtUtil.getMemberId(accessToken);
+    @Override
+    @Transactional(readOnly = true)
+    public List<HospitalResponseDto> getAll(final Long category, final Long sort, final Long page, final Long size) {
+        final Long memberId = MemberContext.findMemberId() == null ? 0L : MemberContext.findMemberId();
 
-        for(Hospital hospital: hospitals) {
-            Boolean isEmpty = true;
-            if(memberId > 0) {
-                isEmpty = hospitalMemberRepository.findByHospitalIdAndMemberId(
-                        hospital.getHospitalId(),
-                        memberId).isEmpty();
-            }
-
-            if(category == 0) {
-                responseDtos.add(
-                        HospitalResponseDto.builder()
-                                .hospitalId(hospital.getHospitalId())
-                                .hospitalName(hospital.getHospitalName())
-                                .isMine(isEmpty ? false : true)
-                                .location(hospital.getHospitalLocation())
-                                .rate(hospital.getTotalRate())
-                                .reviewNum(Long.valueOf(reviewRepository.findByHospitalId(hospital.getHospitalId()).size()))
-                                .build()
-                );
-            }
-            else
-            {
-                final List<Doctor> doctors = doctorRepository.findByHospitalName(hospital.getHospitalName());
-
-                for(Doctor doctor: doctors) {
-                    if(doctor.contains(category)) {
-                        responseDtos.add(
-                                HospitalResponseDto.builder()
-                                        .hospitalId(hospital.getHospitalId())
-                                        .hospitalImage(hospital.getBanners().get(0).getImageUrl())
-                                        .hospitalName(hospital.getHospitalName())
-                                        .isMine(isEmpty ? false : true)
-                                        .location(hospital.getHospitalLocation())
-                                        .rate(hospital.getTotalRate())
-                                        .reviewNum(Long.valueOf(reviewRepository.findByHospitalId(hospital.getHospitalId()).size()))
-                                        .build()
-                        );
-                    }
-                }
-            }
-        }
+        Pageable pageable = size == null ? Pageable.unpaged() : PageRequest.of(page == null ? 0 : page.intValue(), size.intValue());
 
-        return responseDtos;
+        return HospitalResponseDto.of(hospitalRepository.findHospitalList(category, sort, memberId, pageable));
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public HospitalDetailResponseDto findById(final Long id) {
-        HospitalDetailResponseDto response;
-        final Hospital hospital = hospitalRepository.findById(id).orElseThrow(
-                () -> new HospitalIdNotFoundException(id)
-        );
-        String accessToken = JwtUtil.isExistAccessToken();
-
-        Long memberId;
-
-        if(accessToken == null) {
-            memberId = 0L;
-        }
-        else
-        {
-            memberId = JwtUtil.getMemberId(accessToken);
-        }
-
-        Boolean isEmpty = hospitalMemberRepository.findByHospitalIdAndMemberId(hospital.getHospitalId(), memberId).isEmpty();
-
-        final List<Doctor> doctors = doctorRepository.findByHospitalName(hospital.getHospitalName());
-        List<DoctorResponseDto> doctorResponseDtos = new ArrayList<>();
-
-        for(Doctor doctor: doctors) {
-            Boolean empty = doctorMemberRepository.findByDoctorIdAndMemberId(doctor.getDoctorId(), memberId).isEmpty();
-
-            doctorResponseDtos.add(
-                    DoctorResponseDto.builder()
-                            .doctorId(doctor.getDoctorId())
-                            .doctorImage(doctor.getDoctorImage())
-                            .doctorName(doctor.getDoctorName())
-                            .intro(doctor.getDescription())
-                            .rate(doctor.getTotalRate())
-                            .parts(doctor.getCategories())
-                            .reviewNum(Long.valueOf(reviewRepository.findByDoctorId(doctor.getDoctorId()).size()))
-                            .isMine(empty ? false : true)
-                            .hospitalName(hospital.getHospitalName())
-                            .build()
-            );
-        }
-
-        List<ReviewResponseDto> reviewResponseDtos = new ArrayList<>();
-        final List<Review> byHospitalId = reviewRepository.findByHospitalId(hospital.getHospitalId());
-
-        for(Review review: byHospitalId) {
-            reviewResponseDtos.add(
-                    ReviewResponseDto.builder()
-                            .reviewId(review.getReviewId())
-                            .title(review.getTitle())
-                            .rate(review.getRate())
-                            .build()
-            );
-        }
-
-        response = HospitalDetailResponseDto.builder()
-                .hospitalId(hospital.getHospitalId())
-                .banners(hospital.getBanners())
-                .hospitalName(hospital.getHospitalName())
-                .location(hospital.getHospitalLocation())
-                .isMine(isEmpty ? false : true)
-                .rate(hospital.getTotalRate())
-                .reviewNum(Long.valueOf(reviewRepository.findByHospitalId(hospital.getHospitalId()).size()))
-                .intro(hospital.getDescription())
-                .infras(hospital.getInfras())
-                .doctors(doctorResponseDtos)
-                .befores(hospital.getBefore())
-                .afters(hospital.getAfter())
-                .reviews(reviewResponseDtos)
-                .build();
+        final Long memberId = MemberContext.findMemberId() == null ? 0L : MemberContext.findMemberId();
 
-        return response;
+        return hospitalDetailAssembler.assemble(id, memberId);
     }
 
     @Override
-    @Transactional
-    public Set<HospitalResponseDto> findByQuery(final String query) {
-        Set<HospitalResponseDto> responseDtoList = new HashSet<>();
-
-        for (Hospital hospital : hospitalRepository.findByHospitalNameContainingAndDeletedFalse(query)) {
-            final Hospital h = hospitalRepository.findById(hospital.getHospitalId()).orElseThrow(
-                    () -> new HospitalIdNotFoundException(hospital.getHospitalId())
-            );
-            final List<Review> byHospitalId = reviewRepository.findByHospitalId(hospital.getHospitalId());
-
-            responseDtoList.add(
-                    HospitalResponseDto.builder()
-                            .hospitalImage(h.getBanners().size() > 0 ? h.getBanners().get(0).getImageUrl() : null)
-                            .reviewNum(Long.valueOf(byHospitalId.size()))
-                            .rate(hospital.getTotalRate())
-                            .location(hospital.getHospitalLocation())
-                            .isMine(false)
-                            .hospitalId(h.getHospitalId())
-                            .hospitalName(hospital.getHospitalName())
-                            .build()
-            );
+    @Transactional(readOnly = true)
+    public List<HospitalResponseDto> findByQuery(final String query, final Long page, final Long size) {
+        List<HospitalResponseDto> responseDtoList = new ArrayList<>();
+        final List<Long> ids = searchService.search(SearchTargetEnum.HOSPITAL, query, page, size);
+        Map<Long, Hospital> hospitals = new HashMap<>();
+
+        if(!ids.isEmpty()) {
+            for(Hospital hospital: hospitalRepository.findWithBannersByHospitalIdIn(ids))
+                hospitals.put(hospital.getHospitalId(), hospital);
         }
 
-        for (Hospital hospital : hospitalRepository.findByDescriptionContainingAndDeletedFalse(query)) {
-            final Hospital h = hospitalRepository.findById(hospital.getHospitalId()).orElseThrow(
-                    () -> new HospitalIdNotFoundException(hospital.getHospitalId())
-            );
-            final List<Review> byHospitalId = reviewRepository.findByHospitalId(hospital.getHospitalId());
+        for(Long id: ids) {
+            final Hospital hospital = hospitals.get(id);
+
+            if(hospital == null || hospital.getDeleted())
+                continue;
 
             responseDtoList.add(
                     HospitalResponseDto.builder()
-                            .hospitalImage(h.getBanners().size() > 0 ? h.getBanners().get(0).getImageUrl() : null)
-                            .reviewNum(Long.valueOf(byHospitalId.size()))
+                            .hospitalImage(hospital.getBanners().size() > 0 ? hospital.getBanners().get(0).getImageUrl() : null)
+                            .reviewNum(hospital.getReviewNum())
                             .rate(hospital.getTotalRate())
                             .location(hospital.getHospitalLocation())
                             .isMine(false)
-                            .hospitalId(h.getHospitalId())
+                            .hospitalId(hospital.getHospitalId())
                             .hospitalName(hospital.getHospitalName())
                             .build()
             );
         }
 
-        if(responseDtoList.size() == 0)
+        if(responseDtoList.size() == 0 && (page == null || page == 0))
             throw new HospitalResponseNullException();
 
         return responseDtoList;
@@ -301,20 +159,36 @@ public class HospitalServiceImpl implements HospitalService {
     @Override
     @Transactional
     public List<MyHospitalResponseDto> findByMemberId() {
-        List<MyHospitalResponseDto> responseDtos = new ArrayList<>();
-        final List<HospitalMember> my = hospitalMemberRepository.findByMemberId(JwtUtil.getMemberId(), Sort.by(Sort.Direction.DESC, "createdAt"));
+        return toMyHospitals(hospitalMemberRepository.findWishes(MemberContext.getMemberId(), Long.MAX_VALUE, Pageable.unpaged()));
+    }
 
-        for(HospitalMember hospitalMember: my) {
-            final Optional<Hospital> hospital = hospitalRepository.findById(hospitalMember.getHospitalId());
-            final List<Review> reviews = reviewRepository.findByHospitalId(hospitalMember.getHospitalId());
+    @Override
+    @Transactional
+    public CursorResponseDto<MyHospitalResponseDto> findMyFeed(final String cursor, final Long size) {
+        final int limit = CursorUtil.size(size);
+        final Long after = cursor == null ? Long.MAX_VALUE : CursorUtil.decodeLong(cursor, CursorUtil.decode(cursor, 1)[0]);
+        final CursorResponseDto<MyHospitalProjection> page = CursorUtil.page(
+                hospitalMemberRepository.findWishes(MemberContext.getMemberId(), after, CursorUtil.fetch(limit)),
+                limit, last -> CursorUtil.encode(last.getWishId())
+        );
 
+        return CursorResponseDto.<MyHospitalResponseDto>builder()
+                .items(toMyHospitals(page.getItems()))
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+
+    private List<MyHospitalResponseDto> toMyHospitals(final List<MyHospitalProjection> wishes) {
+        List<MyHospitalResponseDto> responseDtos = new ArrayList<>();
+
+        for(MyHospitalProjection wish: wishes) {
             responseDtos.add(
                     MyHospitalResponseDto.builder()
-                            .hospitalId(hospitalMember.getHospitalId())
-                            .hospitalName(hospital.isEmpty() ? null : hospital.get().getHospitalName())
-                            .rate(hospital.isEmpty() ? 0L : hospital.get().getTotalRate())
-                            .reviewNum(hospital.isEmpty() ? 0L : reviews.size())
-                            .location(hospital.isEmpty() ? null : hospital.get().getHospitalLocation())
+                            .hospitalId(wish.getHospitalId())
+                            .hospitalName(wish.getHospitalName())
+                            .rate(wish.getRate())
+                            .reviewNum(wish.getReviewNum())
+                            .location(wish.getLocation())
                             .build()
             );
         }
@@ -325,29 +199,37 @@ public class HospitalServiceImpl implements HospitalService {
     @Override
     @Transactional
     public HospitalMember addWishList(final Long hospitalId) {
-        final Optional<HospitalMember> byHospitalIdAndMemberId = hospitalMemberRepository.findByHospitalIdAndMemberId(hospitalId, JwtUtil.getMemberId());
+        final Long memberId = MemberContext.getMemberId();
 
-        if(byHospitalIdAndMemberId.isEmpty())
-            return hospitalMemberRepository.save(
-                    HospitalMember.builder()
-                            .hospitalId(hospitalId)
-                            .memberId(JwtUtil.getMemberId())
-                            .build()
-            );
+        hospitalMemberRepository.insertIfAbsent(hospitalId, memberId);
+
+        return hospitalMemberRepository.findByHospitalIdAndMemberId(hospitalId, memberId).orElseThrow();
+    }
+
+    /**
+     * wished 상태로 맞춘다, uk_hospital_member 때문에 여러 번 보내거나 동시에 보내도 한 줄만 남는다
+     * */
+    @Override
+    @Transactional
+    public void wish(final Long hospitalId, final Boolean wished) {
+        if(wished)
+            hospitalMemberRepository.insertIfAbsent(hospitalId, MemberContext.getMemberId());
         else
-            return byHospitalIdAndMemberId.get();
+            hospitalMemberRepository.deleteByHospitalIdAndMemberId(hospitalId, MemberContext.getMemberId());
     }
 
     @Override
     @Transactional
     public void deleteWish(final Long hospitalId) {
-        hospitalMemberRepository.deleteByHospitalId(hospitalId);
+        hospitalMemberRepository.deleteByHospitalIdAndMemberId(hospitalId, MemberContext.getMemberId());
     }
 
     @Override
     @Transactional
-    public List<HospitalAdminResponseDto> findALl(final Long page) {
-        Page<Hospital> hospitals = hospitalRepository.findAll(PageRequest.of(page.intValue(), 11, Sort.by(Sort.Direction.ASC, "hospitalName")));
+    public List<HospitalAdminResponseDto> findALl(final Long page, final Boolean count) {
+        final PageRequest pageRequest = PageRequest.of(page.intValue(), 11, Sort.by(Sort.Direction.ASC, "hospitalName"));
+        final Slice<Hospital> hospitals = count ? hospitalRepository.findAll(pageRequest) : hospitalRepository.findSliceBy(pageRequest);
+        final Long totalPage = PageUtil.totalPages(hospitals);
         List<HospitalAdminResponseDto> responseDtoList = new ArrayList<>();
 
         for(Hospital hospital: hospitals) {
@@ -355,7 +237,7 @@ public class HospitalServiceImpl implements HospitalService {
                     HospitalAdminResponseDto.builder()
                             .hospitalId(hospital.getHospitalId())
                             .hospitalName(hospital.getHospitalName())
-                            .totalPage(Long.valueOf(hospitals.getTotalPages()))
+                            .totalPage(totalPage)
                             .build()
             );
         }
@@ -366,6 +248,7 @@ public class HospitalServiceImpl implements HospitalService {
     @Override
     @Transactional
     public Hospital editHospital(final HospitalEditRequestDto dto, final List<String> befores, final List<String> afters, final List<String> banners) {
+        final Long memberId = MemberContext.getMemberId();
         List<Image> beforeImages = new ArrayList<>();
         List<Image> afterImages = new ArrayList<>();
         List<Image> bannerImages = new ArrayList<>();
@@ -374,38 +257,11 @@ public class HospitalServiceImpl implements HospitalService {
                 () -> new HospitalIdNotFoundException(dto.getHospitalId())
         );
 
-        for(String image: befores) {
-            beforeImages.add(
-                    imageRepository.save(
-                            Image.builder()
-                                    .imageUrl(image)
-                                    .memberId(JwtUtil.getMemberId())
-                                    .build()
-                    )
-            );
-        }
+        beforeImages.addAll(imageRepository.saveAll(Image.of(befores, memberId)));
 
-        for(String image: afters) {
-            afterImages.add(
-                    imageRepository.save(
-                            Image.builder()
-                                    .imageUrl(image)
-                                    .memberId(JwtUtil.getMemberId())
-                                    .build()
-                    )
-            );
-        }
+        afterImages.addAll(imageRepository.saveAll(Image.of(afters, memberId)));
 
-        for(String image: banners) {
-            bannerImages.add(
-                    imageRepository.save(
-                            Image.builder()
-                                    .imageUrl(image)
-                                    .memberId(JwtUtil.getMemberId())
-                                    .build()
-                    )
-            );
-        }
+        bannerImages.addAll(imageRepository.saveAll(Image.of(banners, memberId)));
 
         for(Long tag: dto.getInfras()) {
             infraList.add(
@@ -430,6 +286,10 @@ public class HospitalServiceImpl implements HospitalService {
         hospital.setPlasticSurgeon(dto.getPlasticSurgeon());
         hospital.setDermatologist(dto.getDermatologist());
 
-        return hospitalRepository.save(hospital);
+        final Hospital save = hospitalRepository.save(hospital);
+
+        searchService.indexHospital(save);
+
+        return save;
     }
 }
@@ -16,7 +16,10 @@ import com.dearbella.server.exception.member.MemberIdNotFoundException;
 import com.dearbella.server.repository.HospitalRepository;
 import com.dearbella.server.repository.InquiryRepository;
 import com.dearbella.server.repository.MemberRepository;
-import com.dearbella.server.util.JwtUtil;
+import com.dearbella.server.service.member.MemberSummaryService;
+import com.dearbella.server.service.notification.NotificationService;
+import com.dearbella.server.util.MemberContext;
+import com.dearbella.server.vo.MemberSummaryVo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -27,7 +30,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -35,6 +40,8 @@ public class InquiryServiceImpl implements InquiryService {
     private final InquiryRepository inquiryRepository;
     private final HospitalRepository hospitalRepository;
     private final MemberRepository memberRepository;
+    private final MemberSummaryService memberSummaryService;
+    private final NotificationService notificationService;
 
     @Override
     public Inquiry addInquiry(InquiryAddRequestDto dto) {
@@ -47,7 +54,7 @@ public class InquiryServiceImpl implements InquiryService {
                         .title(dto.getContent())
                         .location(dto.getLocation())
                         .memberName(dto.getName())
-                        .memberId(JwtUtil.getMemberId())
+                        .memberId(MemberContext.getMemberId())
                         .phoneNumber(dto.getPhoneNumber())
                         .build()
         );
@@ -58,7 +65,7 @@ public class InquiryServiceImpl implements InquiryService {
     public List<InquiryResponseDto> findMyInquiries() {
         List<InquiryResponseDto> responseDtoList = new ArrayList<>();
 
-        final List<Inquiry> byMemberId = inquiryRepository.findByMemberId(JwtUtil.getMemberId());
+        final List<Inquiry> byMemberId = inquiryRepository.findByMemberId(MemberContext.getMemberId());
 
         for(Inquiry inquiry: byMemberId) {
             responseDtoList.add(
@@ -93,15 +100,19 @@ public class InquiryServiceImpl implements InquiryService {
     @Transactional
     public List<InquiryAdminResponseDto> getAll(final Long page) {
         final Page<Inquiry> all = inquiryRepository.findAll(PageRequest.of(page.intValue(), 12, Sort.by(Sort.Direction.DESC, "createdAt")));
+        final Map<Long, MemberSummaryVo> members = memberSummaryService.findAll(
+                all.stream().map(Inquiry::getMemberId).collect(Collectors.toSet())
+        );
         List<InquiryAdminResponseDto> responseDtoList = new ArrayList<>();
 
         for(Inquiry inquiry: all) {
             final Hospital hospital = hospitalRepository.findById(inquiry.getHospitalId()).orElseThrow(
                     () -> new HospitalIdNotFoundException(inquiry.getHospitalId())
             );
-            final Member member = memberRepository.findById(inquiry.getMemberId()).orElseThrow(
-                    () -> new MemberIdNotFoundException(inquiry.getMemberId().toString())
-            );
+            final MemberSummaryVo member = members.get(inquiry.getMemberId());
+
+            if(member == null)
+                throw new MemberIdNotFoundException(inquiry.getMemberId().toString());
 
             responseDtoList.add(
                     InquiryAdminResponseDto.builder()
@@ -126,7 +137,15 @@ public class InquiryServiceImpl implements InquiryService {
 
         inquiry.setAnswer(dto.getContent());
 
-        return inquiryRepository.save(inquiry);
+        final Inquiry save = inquiryRepository.save(inquiry);
+
+        // 답변과 알림 outbox 가 같이 커밋된다
+        notificationService.enqueueTopic("inquiry", "answer", "inquiry-" + save.getInquiryId());
+        notificationService.enqueueMail(memberRepository.findById(dto.getMemberId()).orElseThrow(
+                () -> new MemberIdNotFoundException(dto.getMemberId().toString())
+        ).getNickname());
+
+        return save;
     }
 
     @Override
@@ -3,7 +3,7 @@ package com.dearbella.server.service.ip;
 import com.dearbella.server.domain.MemberIp;
 import com.dearbella.server.repository.MemberIpRepository;
 import com.dearbella.server.repository.MemberRepository;
-import com.dearbella.server.util.JwtUtil;
+import com.dearbella.server.util.MemberContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -26,7 +26,7 @@ public class IpServiceImpl implements IpService {
 
         return memberIpRepository.save(
                 MemberIp.builder()
-                        .memberId(JwtUtil.getMemberId())
+                        .memberId(MemberContext.getMemberId())
                         .ip(ip)
                         .build()
         );
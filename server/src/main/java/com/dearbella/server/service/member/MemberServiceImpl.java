@@ -8,12 +8,20 @@ import com.dearbella.server.dto.response.admin.AdminResponseDto;
 import com.dearbella.server.dto.response.login.LoginResponseDto;
 import com.dearbella.server.dto.response.member.MemberAdminResponseDto;
 import com.dearbella.server.dto.response.member.MemberBanResponseDto;
+import com.dearbella.server.enums.search.SearchTargetEnum;
 import com.dearbella.server.exception.hospital.HospitalIdNotFoundException;
 import com.dearbella.server.exception.login.AdminLoginException;
 import com.dearbella.server.exception.member.MemberIdNotFoundException;
 import com.dearbella.server.exception.member.MemberLoginEmailNotFoundException;
 import com.dearbella.server.repository.*;
+import com.dearbella.server.service.auth.AuthCacheService;
+import com.dearbella.server.service.search.SearchService;
 import com.dearbella.server.util.JwtUtil;
+import com.dearbella.server.util.MemberContext;
+import com.dearbella.server.util.TransactionUtil;
+import com.dearbella.server.vo.MemberSummaryVo;
+import com.dearbella.server.vo.ReviewRatingVo;
+import com.dearbella.server.vo.TargetCountVo;
 import com.dearbella.server.vo.GoogleIdTokenVo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,7 +34,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static com.dearbella.server.config.MapperConfig.modelMapper;
 
@@ -42,6 +52,12 @@ public class MemberServiceImpl implements MemberService {
     private final CommentRepository commentRepository;
     private final ReviewRepository reviewRepository;
     private final PostRepository postRepository;
+    private final SearchService searchService;
+    private final DoctorRepository doctorRepository;
+    private final HospitalRepository hospitalRepository;
+    private final AuthCacheService authCacheService;
+    private final MemberSummaryService memberSummaryService;
+    private final WithdrawalService withdrawalService;
 
     @Override
     @Transactional
@@ -80,18 +96,15 @@ public class MemberServiceImpl implements MemberService {
     @Override
     @Transactional
     public LoginResponseDto signIn(final GoogleIdTokenVo idTokenVo) {
-        LoginResponseDto responseDto = modelMapper.map(memberRepository.findMemberByLoginEmail(idTokenVo.getEmail()).orElseThrow(
+        final Member member = memberRepository.findMemberByLoginEmail(idTokenVo.getEmail()).orElseThrow(
                 () -> new MemberLoginEmailNotFoundException(idTokenVo.getEmail())
-        ), LoginResponseDto.class);
-
-        final Token token = tokenRepository.findById(responseDto.getMemberId()).orElseThrow(
-                () -> new MemberIdNotFoundException(responseDto.getMemberId().toString())
         );
 
-        responseDto.setAccessToken(token.getAccessToken());
-        responseDto.setRefreshToken(token.getRefreshToken());
+        final Token token = tokenRepository.findById(member.getMemberId()).orElseThrow(
+                () -> new MemberIdNotFoundException(member.getMemberId().toString())
+        );
 
-        return responseDto;
+        return LoginResponseDto.of(member, token);
     }
 
     @Override
@@ -103,8 +116,8 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     public Member findById() {
-        return memberRepository.findById(JwtUtil.getMemberId()).orElseThrow(
-                () -> new MemberIdNotFoundException(JwtUtil.getMemberId().toString())
+        return memberRepository.findById(MemberContext.getMemberId()).orElseThrow(
+                () -> new MemberIdNotFoundException(MemberContext.getMemberId().toString())
         );
     }
 
@@ -153,8 +166,8 @@ public class MemberServiceImpl implements MemberService {
     @Override
     @Transactional
     public String signOut() {
-        Member member = memberRepository.findById(JwtUtil.getMemberId()).orElseThrow(
-                () -> new MemberIdNotFoundException(JwtUtil.getMemberId().toString())
+        Member member = memberRepository.findById(MemberContext.getMemberId()).orElseThrow(
+                () -> new MemberIdNotFoundException(MemberContext.getMemberId().toString())
         );
 
 
@@ -164,27 +177,36 @@ public class MemberServiceImpl implements MemberService {
 
         memberDeleteRepository.save(modelMapper.map(member, MemberDelete.class));
 
-        final List<Comment> comments = commentRepository.findByMemberIdAndDeletedFalse(member.getMemberId());
+        TransactionUtil.afterCommit(() -> {
+            authCacheService.evict(member.getMemberId());
+            memberSummaryService.evict(member.getMemberId());
+        });
 
-        for (Comment comment: comments) {
-            comment.setDeleted(true);
-            commentRepository.save(comment);
-        }
+        final Long memberId = member.getMemberId();
+
+        // 글, 리뷰, 댓글은 member 단위 update 한 번씩, 카운터는 대상별로 묶어서 되돌린다
+        for(TargetCountVo count: commentRepository.countActiveByMemberId(memberId))
+            postRepository.addCommentNum(count.getTargetId(), -count.getCount());
 
-        final List<Review> reviews = reviewRepository.findByMemberIdAndDeletedFalse(member.getMemberId());
+        commentRepository.softDeleteByMemberId(memberId);
 
-        for(Review review: reviews) {
-            review.setDeleted(true);
-            reviewRepository.save(review);
+        for(ReviewRatingVo rating: reviewRepository.sumRatingByMemberId(memberId)) {
+            if(rating.getDoctorId() != null && rating.getDoctorId() != 0L)
+                doctorRepository.addRating(rating.getDoctorId(), -rating.getCount(), -rating.getRateSum());
+
+            if(rating.getHospitalId() != null && rating.getHospitalId() != 0L)
+                hospitalRepository.addRating(rating.getHospitalId(), -rating.getCount(), -rating.getRateSum());
         }
 
-        final List<Post> posts = postRepository.findByMemberId(JwtUtil.getMemberId(), Sort.by(Sort.Direction.DESC, "findByMemberIdAndDeletedFalse"));
+        for(Long reviewId: reviewRepository.findIdsByMemberIdAndDeletedFalse(memberId))
+            searchService.remove(SearchTargetEnum.REVIEW, reviewId);
 
-        for(Post post: posts) {
-            post.setDeleted(true);
+        reviewRepository.softDeleteByMemberId(memberId);
 
-            postRepository.save(post);
-        }
+        postRepository.softDeleteByMemberId(memberId);
+
+        // 좋아요, 찜, 접속 ip 는 WithdrawalService 가 나눠서 지운다
+        withdrawalService.enqueue(memberId);
 
         return "success";
     }
@@ -204,6 +226,11 @@ public class MemberServiceImpl implements MemberService {
 
         memberDeleteRepository.save(modelMapper.map(member, MemberDelete.class));
 
+        TransactionUtil.afterCommit(() -> {
+            authCacheService.evict(memberId);
+            memberSummaryService.evict(memberId);
+        });
+
         return "success";
     }
 
@@ -214,7 +241,7 @@ public class MemberServiceImpl implements MemberService {
         List<AdminResponseDto> responseDtoList = new ArrayList<>();
 
         for(Admin admin: all) {
-            AdminResponseDto map = modelMapper.map(admin, AdminResponseDto.class);
+            AdminResponseDto map = AdminResponseDto.of(admin);
             map.setTotalPages(Long.valueOf(all.getTotalPages()));
 
             responseDtoList.add(
@@ -245,7 +272,12 @@ public class MemberServiceImpl implements MemberService {
         if(dto.getPassword() != null)
             admin.setAdminPassword(passwordEncoder.encode(dto.getPassword()));
 
-        return modelMapper.map(adminRepository.save(admin), AdminResponseDto.class);
+        TransactionUtil.afterCommit(() -> {
+            authCacheService.evict(dto.getMemberId());
+            memberSummaryService.evict(dto.getMemberId());
+        });
+
+        return AdminResponseDto.of(adminRepository.save(admin));
     }
 
     @Override
@@ -266,12 +298,16 @@ public class MemberServiceImpl implements MemberService {
     @Transactional
     public List<MemberAdminResponseDto> findAll(final Long page) {
         final Page<MemberIp> all = memberIpRepository.findAll(PageRequest.of(page.intValue(), 12, Sort.by(Sort.Direction.DESC, "accessAt")));
+        final Map<Long, MemberSummaryVo> members = memberSummaryService.findAll(
+                all.stream().map(MemberIp::getMemberId).collect(Collectors.toSet())
+        );
         List<MemberAdminResponseDto> responseDtoList = new ArrayList<>();
 
         for(MemberIp ip: all) {
-            final Member member = memberRepository.findById(ip.getMemberId()).orElseThrow(
-                    () -> new MemberIdNotFoundException(ip.getMemberId().toString())
-            );
+            final MemberSummaryVo member = members.get(ip.getMemberId());
+
+            if(member == null)
+                throw new MemberIdNotFoundException(ip.getMemberId().toString());
 
             responseDtoList.add(
                     MemberAdminResponseDto.builder()
@@ -313,6 +349,8 @@ public class MemberServiceImpl implements MemberService {
                 () -> new MemberIdNotFoundException(memberId.toString())
         );
 
+        TransactionUtil.afterCommit(() -> authCacheService.evict(memberId));
+
         if(member.getBan()) {
             member.setBan(false);
             return "ban";
@@ -326,8 +364,8 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     public String getMemberName() {
-        return memberRepository.findById(JwtUtil.getMemberId()).orElseThrow(
-                () -> new MemberIdNotFoundException(JwtUtil.getMemberId().toString())
+        return memberRepository.findById(MemberContext.getMemberId()).orElseThrow(
+                () -> new MemberIdNotFoundException(MemberContext.getMemberId().toString())
         ).getNickname();
     }
 
@@ -0,0 +1,13 @@
+package com.dearbella.server.service.member;
+
+import com.dearbella.server.vo.MemberSummaryVo;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface MemberSummaryService {
+    public Map<Long, MemberSummaryVo> findAll(Collection<Long> memberIds);
+    public MemberSummaryVo findById(Long memberId);
+    public void evict(Long memberId);
+    public Map<String, Object> stats();
+}
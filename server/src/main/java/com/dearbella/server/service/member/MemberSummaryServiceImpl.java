@@ -0,0 +1,83 @@
+package com.dearbella.server.service.member;
+
+import com.dearbella.server.exception.member.MemberIdNotFoundException;
+import com.dearbella.server.repository.MemberRepository;
+import com.dearbella.server.vo.MemberSummaryVo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 목록 한 페이지의 작성자를 모아서 캐시에 없는 것만 IN 쿼리 한 번으로 읽는다
+ * 닉네임, 프로필, 이메일이 바뀌거나 탈퇴하면 evict 로 지운다
+ * */
+public class MemberSummaryServiceImpl implements MemberSummaryService {
+    private final MemberRepository memberRepository;
+    private final Cache<Long, MemberSummaryVo> summaries;
+
+    public MemberSummaryServiceImpl(final MemberRepository memberRepository, final Duration ttl, final long maximumSize) {
+        this.memberRepository = memberRepository;
+        this.summaries = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 없는 member 는 결과에서 빠진다
+     * */
+    @Override
+    public Map<Long, MemberSummaryVo> findAll(final Collection<Long> memberIds) {
+        final Set<Long> ids = new HashSet<>(memberIds);
+
+        ids.remove(null);
+
+        if(ids.isEmpty())
+            return Collections.emptyMap();
+
+        return summaries.getAll(ids, missing -> {
+            List<Long> keys = new ArrayList<>();
+            Map<Long, MemberSummaryVo> loaded = new HashMap<>();
+
+            missing.forEach(keys::add);
+
+            for(MemberSummaryVo summary: memberRepository.findSummaries(keys))
+                loaded.put(summary.getMemberId(), summary);
+
+            return loaded;
+        });
+    }
+
+    @Override
+    public MemberSummaryVo findById(final Long memberId) {
+        final MemberSummaryVo summary = findAll(List.of(memberId)).get(memberId);
+
+        if(summary == null)
+            throw new MemberIdNotFoundException(memberId.toString());
+
+        return summary;
+    }
+
+    @Override
+    public void evict(final Long memberId) {
+        summaries.invalidate(memberId);
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        final CacheStats stats = summaries.stats();
+        Map<String, Object> map = new LinkedHashMap<>();
+
+        map.put("size", summaries.estimatedSize());
+        map.put("hitCount", stats.hitCount());
+        map.put("missCount", stats.missCount());
+        map.put("hitRate", stats.hitRate());
+        map.put("evictionCount", stats.evictionCount());
+
+        return map;
+    }
+}
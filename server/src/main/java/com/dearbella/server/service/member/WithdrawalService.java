@@ -0,0 +1,12 @@
+package com.dearbella.server.service.member;
+
+import com.dearbella.server.domain.MemberWithdrawal;
+
+import java.util.List;
+
+public interface WithdrawalService {
+    public MemberWithdrawal enqueue(Long memberId);
+    public int process();
+    public MemberWithdrawal findByMemberId(Long memberId);
+    public List<MemberWithdrawal> findPending(Long page);
+}
@@ -0,0 +1,179 @@
+package com.dearbella.server.service.member;
+
+import com.dearbella.server.domain.CommentLike;
+import com.dearbella.server.domain.MemberWithdrawal;
+import com.dearbella.server.domain.PostLike;
+import com.dearbella.server.domain.ReviewLike;
+import com.dearbella.server.enums.member.WithdrawalStepEnum;
+import com.dearbella.server.exception.member.MemberIdNotFoundException;
+import com.dearbella.server.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 탈퇴 요청은 작업 한 줄만 남기고 바로 끝나고, 좋아요 / 찜 / 접속 ip 는 스케줄러가 chunkSize 씩 나눠 지운다
+ * 한 번 돌 때 작업마다 한 chunk 만 처리해서 트랜잭션과 row lock 을 짧게 유지한다
+ * */
+@Slf4j
+@RequiredArgsConstructor
+public class WithdrawalServiceImpl implements WithdrawalService {
+    private final MemberWithdrawalRepository memberWithdrawalRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final PostRepository postRepository;
+    private final ReviewLikeRepository reviewLikeRepository;
+    private final ReviewRepository reviewRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final CommentRepository commentRepository;
+    private final DoctorMemberRepository doctorMemberRepository;
+    private final HospitalMemberRepository hospitalMemberRepository;
+    private final MemberIpRepository memberIpRepository;
+    private final int jobBatchSize;
+    private final int chunkSize;
+
+    @Override
+    @Transactional
+    public MemberWithdrawal enqueue(final Long memberId) {
+        return memberWithdrawalRepository.save(
+                MemberWithdrawal.builder()
+                        .memberId(memberId)
+                        .step(WithdrawalStepEnum.POST_LIKE.getValue())
+                        .processed(0L)
+                        .build()
+        );
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${withdrawal.interval:1000}")
+    public synchronized int process() {
+        final List<MemberWithdrawal> due = memberWithdrawalRepository.findDue(WithdrawalStepEnum.DONE.getValue(), PageRequest.of(0, jobBatchSize));
+        int deleted = 0;
+
+        for(MemberWithdrawal withdrawal: due)
+            deleted += processChunk(withdrawal);
+
+        return deleted;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MemberWithdrawal findByMemberId(final Long memberId) {
+        return memberWithdrawalRepository.findFirstByMemberIdOrderByWithdrawalIdDesc(memberId).orElseThrow(
+                () -> new MemberIdNotFoundException(memberId.toString())
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberWithdrawal> findPending(final Long page) {
+        return memberWithdrawalRepository.findByStepNot(
+                WithdrawalStepEnum.DONE.getValue(),
+                PageRequest.of(page.intValue(), 20, Sort.by(Sort.Direction.ASC, "withdrawalId"))
+        );
+    }
+
+    /**
+     * 현재 단계에서 한 chunk 를 지우고, chunkSize 보다 적게 지웠으면 다음 단계로 넘어간다
+     * */
+    private int processChunk(final MemberWithdrawal withdrawal) {
+        final WithdrawalStepEnum step = WithdrawalStepEnum.findByValue(withdrawal.getStep());
+        final Long memberId = withdrawal.getMemberId();
+        final Pageable chunk = PageRequest.of(0, chunkSize);
+        int deleted;
+
+        switch (step) {
+            case POST_LIKE:
+                deleted = deletePostLikes(postLikeRepository.findByMemberIdOrderByPostLikeId(memberId, chunk));
+                break;
+            case REVIEW_LIKE:
+                deleted = deleteReviewLikes(reviewLikeRepository.findByMemberIdOrderByLikeId(memberId, chunk));
+                break;
+            case COMMENT_LIKE:
+                deleted = deleteCommentLikes(commentLikeRepository.findByMemberIdOrderByLikeId(memberId, chunk));
+                break;
+            case DOCTOR_WISH:
+                deleted = deleteByIds(doctorMemberRepository, doctorMemberRepository.findIdsByMemberId(memberId, chunk));
+                break;
+            case HOSPITAL_WISH:
+                deleted = deleteByIds(hospitalMemberRepository, hospitalMemberRepository.findIdsByMemberId(memberId, chunk));
+                break;
+            case MEMBER_IP:
+                deleted = deleteByIds(memberIpRepository, memberIpRepository.findIdsByMemberId(memberId, chunk));
+                break;
+            default:
+                deleted = 0;
+        }
+
+        withdrawal.setProcessed(withdrawal.getProcessed() + deleted);
+
+        if(deleted < chunkSize) {
+            final WithdrawalStepEnum next = step.next();
+
+            withdrawal.setStep(next.getValue());
+
+            if(next == WithdrawalStepEnum.DONE) {
+                withdrawal.setFinishedAt(LocalDateTime.now());
+
+                log.info("withdrawal of member {} finished, {} rows", memberId, withdrawal.getProcessed());
+            }
+        }
+
+        return deleted;
+    }
+
+    /**
+     * chunk 마다 like_num 을 빼는 UPDATE 한 번, 지우는 DELETE 한 번
+     * */
+    private int deletePostLikes(final List<PostLike> likes) {
+        List<Long> ids = new ArrayList<>();
+
+        for(PostLike like: likes)
+            ids.add(like.getPostLikeId());
+
+        if(!ids.isEmpty())
+            postRepository.subtractLikes(ids);
+
+        return deleteByIds(postLikeRepository, ids);
+    }
+
+    private int deleteReviewLikes(final List<ReviewLike> likes) {
+        List<Long> ids = new ArrayList<>();
+
+        for(ReviewLike like: likes)
+            ids.add(like.getLikeId());
+
+        if(!ids.isEmpty())
+            reviewRepository.subtractLikes(ids);
+
+        return deleteByIds(reviewLikeRepository, ids);
+    }
+
+    private int deleteCommentLikes(final List<CommentLike> likes) {
+        List<Long> ids = new ArrayList<>();
+
+        for(CommentLike like: likes)
+            ids.add(like.getLikeId());
+
+        if(!ids.isEmpty())
+            commentRepository.subtractLikes(ids);
+
+        return deleteByIds(commentLikeRepository, ids);
+    }
+
+    private int deleteByIds(final JpaRepository<?, Long> repository, final List<Long> ids) {
+        if(!ids.isEmpty())
+            repository.deleteAllByIdInBatch(ids);
+
+        return ids.size();
+    }
+}
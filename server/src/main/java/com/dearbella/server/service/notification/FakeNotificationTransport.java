@@ -0,0 +1,47 @@
+package com.dearbella.server.service.notification;
+
+import com.dearbella.server.domain.NotificationOutbox;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * notification.transport=fake 일 때 쓰는 로컬 전송, 보내는 대신 기록만 한다
+ * failWhen 에 걸리는 알림은 실패로 돌려준다
+ * */
+@Slf4j
+public class FakeNotificationTransport implements NotificationTransport {
+    private final List<NotificationOutbox> sent = new CopyOnWriteArrayList<>();
+    private volatile Predicate<NotificationOutbox> failWhen = notification -> false;
+
+    @Override
+    public List<String> send(final List<NotificationOutbox> notifications) {
+        List<String> errors = new ArrayList<>();
+
+        for(NotificationOutbox notification: notifications) {
+            if(failWhen.test(notification)) {
+                errors.add("fake failure");
+            }
+            else {
+                sent.add(notification);
+                errors.add(null);
+
+                log.info("fake notification {} -> {}: {}", notification.getChannel(), notification.getTarget(), notification.getTitle());
+            }
+        }
+
+        return errors;
+    }
+
+    public List<NotificationOutbox> getSent() {
+        return Collections.unmodifiableList(sent);
+    }
+
+    public void setFailWhen(final Predicate<NotificationOutbox> failWhen) {
+        this.failWhen = failWhen;
+    }
+}
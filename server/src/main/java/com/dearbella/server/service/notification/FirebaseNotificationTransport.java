@@ -0,0 +1,66 @@
+package com.dearbella.server.service.notification;
+
+import com.dearbella.server.domain.NotificationOutbox;
+import com.google.firebase.messaging.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FirebaseMessaging.sendAll 로 한 번에 최대 500 건씩 보낸다
+ * sendAll 한 번을 fcm.send 타이머 한 건으로 잰다
+ * */
+@Slf4j
+@RequiredArgsConstructor
+public class FirebaseNotificationTransport implements NotificationTransport {
+    private static final int MAX_BATCH = 500;
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public List<String> send(final List<NotificationOutbox> notifications) {
+        List<String> errors = new ArrayList<>();
+
+        for(int from = 0; from < notifications.size(); from += MAX_BATCH) {
+            final List<NotificationOutbox> chunk = notifications.subList(from, Math.min(from + MAX_BATCH, notifications.size()));
+            List<Message> messages = new ArrayList<>();
+
+            for(NotificationOutbox notification: chunk) {
+                messages.add(
+                        Message.builder()
+                                .setNotification(Notification.builder()
+                                        .setTitle(notification.getTitle())
+                                        .setBody(notification.getBody())
+                                        .build())
+                                .setTopic(notification.getTarget())
+                                .build()
+                );
+            }
+
+            final Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "error";
+
+            try {
+                final BatchResponse response = FirebaseMessaging.getInstance().sendAll(messages);
+
+                outcome = response.getFailureCount() == 0 ? "success" : "partial";
+
+                for(SendResponse sendResponse: response.getResponses())
+                    errors.add(sendResponse.isSuccessful() ? null : sendResponse.getException().getMessage());
+            } catch (FirebaseMessagingException | RuntimeException e) {
+                log.warn("fcm batch failed: {}", e.getMessage());
+
+                for(int i = 0; i < chunk.size(); i++)
+                    errors.add(e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+            } finally {
+                sample.stop(meterRegistry.timer("fcm.send", "outcome", outcome));
+            }
+        }
+
+        return errors;
+    }
+}
@@ -0,0 +1,34 @@
+package com.dearbella.server.service.notification;
+
+import com.dearbella.server.domain.NotificationOutbox;
+import com.dearbella.server.service.gmail.GmailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+public class MailNotificationTransport implements NotificationTransport {
+    private final GmailService gmailService;
+
+    @Override
+    public List<String> send(final List<NotificationOutbox> notifications) {
+        List<String> errors = new ArrayList<>();
+
+        for(NotificationOutbox notification: notifications) {
+            try {
+                gmailService.sendMail(notification.getTarget());
+
+                errors.add(null);
+            } catch (RuntimeException e) {
+                log.warn("mail failed: {}", e.getMessage());
+
+                errors.add(e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+            }
+        }
+
+        return errors;
+    }
+}
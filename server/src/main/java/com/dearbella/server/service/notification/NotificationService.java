@@ -0,0 +1,13 @@
+package com.dearbella.server.service.notification;
+
+import com.dearbella.server.domain.NotificationOutbox;
+
+import java.util.List;
+
+public interface NotificationService {
+    public NotificationOutbox enqueueTopic(String title, String body, String topic);
+    public NotificationOutbox enqueueMail(String email);
+    public int dispatch();
+    public List<NotificationOutbox> findDead(Long page);
+    public int retryDead();
+}
@@ -0,0 +1,215 @@
+package com.dearbella.server.service.notification;
+
+import com.dearbella.server.domain.NotificationOutbox;
+import com.dearbella.server.enums.notification.NotificationChannelEnum;
+import com.dearbella.server.enums.notification.NotificationStatusEnum;
+import com.dearbella.server.repository.NotificationOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 스레드는 outbox 에 한 줄만 쓰고, 실제 전송은 스케줄러가 채널별로 묶어서 한다
+ * 실패하면 backoff 후 다시 보내고 maxAttempts 를 넘기면 DEAD 로 남긴다
+ * */
+@Slf4j
+public class NotificationServiceImpl implements NotificationService {
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final Map<NotificationChannelEnum, NotificationTransport> transports;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+    /**
+     * IN_FLIGHT 로 잡은 뒤 결과를 쓰지 못하면 이 시간 뒤에 다시 보낸다, 전송 timeout 보다 길어야 한다
+     * */
+    private final Duration lease;
+    private final TransactionTemplate transactionTemplate;
+
+    public NotificationServiceImpl(final NotificationOutboxRepository notificationOutboxRepository,
+                                   final Map<NotificationChannelEnum, NotificationTransport> transports,
+                                   final PlatformTransactionManager transactionManager,
+                                   final int batchSize, final int maxAttempts,
+                                   final Duration backoff, final Duration maxBackoff, final Duration lease) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.transports = new EnumMap<>(transports);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lease = lease;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Override
+    @Transactional
+    public NotificationOutbox enqueueTopic(final String title, final String body, final String topic) {
+        return enqueue(NotificationChannelEnum.FCM, topic, title, body);
+    }
+
+    @Override
+    @Transactional
+    public NotificationOutbox enqueueMail(final String email) {
+        return enqueue(NotificationChannelEnum.MAIL, email, "Dearbella Alarm", null);
+    }
+
+    /**
+     * 잠그고 IN_FLIGHT 로 바꾸는 트랜잭션, 보내기, 결과를 쓰는 트랜잭션 세 단계
+     * 전송이 느려도 row lock 과 커넥션을 잡고 있지 않는다
+     * */
+    @Override
+    @Scheduled(fixedDelayString = "${notification.dispatch-interval:1000}")
+    public synchronized int dispatch() {
+        final List<NotificationOutbox> claimed = transactionTemplate.execute(status -> claim());
+
+        if(claimed.isEmpty())
+            return 0;
+
+        Map<NotificationChannelEnum, List<NotificationOutbox>> byChannel = new EnumMap<>(NotificationChannelEnum.class);
+        Map<NotificationOutbox, String> errors = new IdentityHashMap<>();
+
+        for(NotificationOutbox notification: claimed)
+            byChannel.computeIfAbsent(NotificationChannelEnum.findByValue(notification.getChannel()), key -> new ArrayList<>()).add(notification);
+
+        for(Map.Entry<NotificationChannelEnum, List<NotificationOutbox>> entry: byChannel.entrySet()) {
+            final List<NotificationOutbox> notifications = entry.getValue();
+            List<String> results;
+
+            try {
+                results = transports.get(entry.getKey()).send(notifications);
+            } catch (RuntimeException e) {
+                log.warn("{} transport failed: {}", entry.getKey(), e.getMessage());
+
+                results = new ArrayList<>();
+
+                for(int i = 0; i < notifications.size(); i++)
+                    results.add(e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+            }
+
+            for(int i = 0; i < notifications.size(); i++)
+                errors.put(notifications.get(i), results.get(i));
+        }
+
+        return transactionTemplate.execute(status -> record(claimed, errors));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NotificationOutbox> findDead(final Long page) {
+        return notificationOutboxRepository.findByStatus(
+                NotificationStatusEnum.DEAD.getValue(),
+                PageRequest.of(page.intValue(), 20, Sort.by(Sort.Direction.DESC, "outboxId"))
+        );
+    }
+
+    @Override
+    @Transactional
+    public int retryDead() {
+        return notificationOutboxRepository.resetStatus(NotificationStatusEnum.DEAD.getValue(), NotificationStatusEnum.PENDING.getValue(), LocalDateTime.now());
+    }
+
+    private NotificationOutbox enqueue(final NotificationChannelEnum channel, final String target, final String title, final String body) {
+        return notificationOutboxRepository.save(
+                NotificationOutbox.builder()
+                        .channel(channel.getValue())
+                        .target(target)
+                        .title(title)
+                        .body(body)
+                        .status(NotificationStatusEnum.PENDING.getValue())
+                        .attempts(0)
+                        .nextAttemptAt(LocalDateTime.now())
+                        .build()
+        );
+    }
+
+    /**
+     * 보낼 차례인 PENDING 과 lease 가 지난 IN_FLIGHT 를 잡아서 시도 횟수를 올리고 IN_FLIGHT 로 바꾼다
+     * 보내는 중에 서버가 죽으면 lease 가 지난 뒤 다시 잡히고, 그것도 한 번의 시도로 센다
+     * */
+    private List<NotificationOutbox> claim() {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<NotificationOutbox> due = notificationOutboxRepository.findDue(
+                List.of(NotificationStatusEnum.PENDING.getValue(), NotificationStatusEnum.IN_FLIGHT.getValue()), now, PageRequest.of(0, batchSize)
+        );
+        List<NotificationOutbox> claimed = new ArrayList<>();
+
+        for(NotificationOutbox notification: due) {
+            if(notification.getAttempts() >= maxAttempts) {
+                notification.setStatus(NotificationStatusEnum.DEAD.getValue());
+
+                log.error("notification {} dead, lease expired after {} attempts", notification.getOutboxId(), notification.getAttempts());
+
+                continue;
+            }
+
+            notification.setStatus(NotificationStatusEnum.IN_FLIGHT.getValue());
+            notification.setAttempts(notification.getAttempts() + 1);
+            notification.setNextAttemptAt(now.plus(lease));
+            claimed.add(notification);
+        }
+
+        return claimed;
+    }
+
+    /**
+     * claim 한 뒤 다른 dispatcher 가 다시 잡은 row 는 그쪽 결과를 덮어쓰지 않고 건너뛴다
+     * */
+    private int record(final List<NotificationOutbox> claimed, final Map<NotificationOutbox, String> errors) {
+        final LocalDateTime now = LocalDateTime.now();
+        final Long inFlight = NotificationStatusEnum.IN_FLIGHT.getValue();
+        int sent = 0;
+
+        for(NotificationOutbox notification: claimed) {
+            final String error = errors.get(notification);
+            final int updated;
+
+            if(error == null) {
+                updated = notificationOutboxRepository.markSent(notification.getOutboxId(), notification.getAttempts(), inFlight,
+                        NotificationStatusEnum.SENT.getValue(), now);
+                sent += updated;
+            }
+            else
+                updated = fail(notification, error, now);
+
+            if(updated == 0)
+                log.warn("notification {} was reclaimed while sending, result dropped", notification.getOutboxId());
+        }
+
+        return sent;
+    }
+
+    /**
+     * backoff * 2^(attempts - 1), maxBackoff 까지, attempts 는 claim 에서 이미 올렸다
+     * */
+    private int fail(final NotificationOutbox notification, final String error, final LocalDateTime now) {
+        final int attempts = notification.getAttempts();
+        final Long inFlight = NotificationStatusEnum.IN_FLIGHT.getValue();
+
+        if(attempts >= maxAttempts) {
+            log.error("notification {} dead after {} attempts: {}", notification.getOutboxId(), attempts, error);
+
+            return notificationOutboxRepository.markFailed(notification.getOutboxId(), attempts, inFlight,
+                    NotificationStatusEnum.DEAD.getValue(), notification.getNextAttemptAt(), error);
+        }
+
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+
+        if(delay.compareTo(maxBackoff) > 0)
+            delay = maxBackoff;
+
+        return notificationOutboxRepository.markFailed(notification.getOutboxId(), attempts, inFlight,
+                NotificationStatusEnum.PENDING.getValue(), now.plus(delay), error);
+    }
+}
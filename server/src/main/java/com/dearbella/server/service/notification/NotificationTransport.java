@@ -0,0 +1,12 @@
+package com.dearbella.server.service.notification;
+
+import com.dearbella.server.domain.NotificationOutbox;
+
+import java.util.List;
+
+public interface NotificationTransport {
+    /**
+     * 입력과 같은 순서로 실패 사유를 돌려준다, 성공한 알림은 null
+     * */
+    public List<String> send(List<NotificationOutbox> notifications);
+}
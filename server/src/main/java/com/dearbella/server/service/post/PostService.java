@@ -2,6 +2,7 @@ package com.dearbella.server.service.post;
 
 import com.dearbella.server.domain.Post;
 import com.dearbella.server.dto.request.post.PostAddRequestDto;
+import com.dearbella.server.dto.response.cursor.CursorResponseDto;
 import com.dearbella.server.dto.response.post.*;
 
 import java.util.List;
@@ -10,10 +11,12 @@ public interface PostService {
     public Post savePost(PostAddRequestDto dto, List<String> images);
     public List<PostResponseDto> findByMemberId();
     public List<PostFindResponseDto> findAll(Long tagId);
+    public CursorResponseDto<PostFindResponseDto> findFeed(Long tagId, String cursor, Long size);
     public PostDetailResponseDto findById(Long postId);
     public void addViewNum(Long postId);
     public String deletePost(Long postId);
     public String likePost(Long id);
-    public List<PostAdminResponseDto> findAllByCategory(Long category, Long page);
+    public String likePost(Long id, Boolean liked);
+    public List<PostAdminResponseDto> findAllByCategory(Long category, Long page, Boolean count);
     public PostAdminDetailResponseDto getDetail(Long postId);
 }
@@ -2,25 +2,33 @@ package com.dearbella.server.service.post;
 
 import com.dearbella.server.domain.*;
 import com.dearbella.server.dto.request.post.PostAddRequestDto;
+import com.dearbella.server.dto.response.cursor.CursorResponseDto;
 import com.dearbella.server.dto.response.post.*;
 import com.dearbella.server.enums.post.TagEnum;
+import com.dearbella.server.enums.view.ViewTargetEnum;
 import com.dearbella.server.exception.member.MemberIdNotFoundException;
 import com.dearbella.server.exception.post.PostIdNotFoundException;
 import com.dearbella.server.exception.post.TagIdNotFoundException;
 import com.dearbella.server.repository.*;
-import com.dearbella.server.util.JwtUtil;
+import com.dearbella.server.service.member.MemberSummaryService;
+import com.dearbella.server.service.notification.NotificationService;
+import com.dearbella.server.service.view.ViewCountService;
+import com.dearbella.server.util.CursorUtil;
+import com.dearbella.server.util.MemberContext;
+import com.dearbella.server.util.PageUtil;
+import com.dearbella.server.vo.MemberSummaryVo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.Table;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -30,6 +38,9 @@ public class PostServiceImpl implements PostService {
     private final ImageRepository imageRepository;
     private final MemberRepository memberRepository;
     private final PostLikeRepository postLikeRepository;
+    private final ViewCountService viewCountService;
+    private final MemberSummaryService memberSummaryService;
+    private final NotificationService notificationService;
 
     /**
      * Like Number
@@ -37,21 +48,13 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional
     public Post savePost(PostAddRequestDto dto, List<String> images) {
+        final Long memberId = MemberContext.getMemberId();
         Tag tag = tagRepository.findById(dto.getTag()).orElseThrow(
                 () -> new TagIdNotFoundException(dto.getTag())
         );
         List<Image> imageList = new ArrayList<>();
 
-        for(String image: images) {
-            imageList.add(
-                    imageRepository.save(
-                            Image.builder()
-                                    .memberId(JwtUtil.getMemberId())
-                                    .imageUrl(image)
-                                    .build()
-                    )
-            );
-        }
+        imageList.addAll(imageRepository.saveAll(Image.of(images, memberId)));
 
         return postRepository.save(
                 Post.builder()
@@ -59,9 +62,11 @@ public class PostServiceImpl implements PostService {
                         .postImages(imageList)
                         .title(dto.getTitle())
                         .content(dto.getContent())
-                        .memberId(JwtUtil.getMemberId())
+                        .memberId(memberId)
                         .deleted(false)
                         .viewNum(0L)
+                        .likeNum(0L)
+                        .commentNum(0L)
                     .build()
         );
     }
@@ -71,18 +76,18 @@ public class PostServiceImpl implements PostService {
     public List<PostResponseDto> findByMemberId() {
         List<PostResponseDto> responseDtoList = new ArrayList<>();
 
-        final List<Post> byMemberId = postRepository.findByMemberIdAndDeletedFalse(JwtUtil.getMemberId(), Sort.by(Sort.Direction.DESC, "createdAt"));
-        final Member member = memberRepository.findById(JwtUtil.getMemberId()).orElseThrow(
-                () -> new MemberIdNotFoundException(JwtUtil.getMemberId().toString())
+        final List<Post> byMemberId = postRepository.findByMemberIdAndDeletedFalse(MemberContext.getMemberId(), Sort.by(Sort.Direction.DESC, "createdAt"));
+        final Member member = memberRepository.findById(MemberContext.getMemberId()).orElseThrow(
+                () -> new MemberIdNotFoundException(MemberContext.getMemberId().toString())
         );
 
         for(Post post: byMemberId) {
             responseDtoList.add(
                     PostResponseDto.builder()
                             .postId(post.getPostId())
-                            .commentNum(0L)
-                            .viewNum(post.getViewNum())
-                            .likeNum(0L)
+                            .commentNum(post.getCommentNum())
+                            .viewNum(post.getViewNum() + viewCountService.getPending(ViewTargetEnum.POST, post.getPostId()))
+                            .likeNum(post.getLikeNum())
                             .name(member.getNickname())
                             .memberImage(member.getProfileImg())
                             .createdAt(post.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
@@ -94,7 +99,7 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<PostFindResponseDto> findAll(Long tagId) {
         List<PostFindResponseDto> responseDtos = new ArrayList<>();
         final List<Post> allByDeletedFalse = postRepository.findByTagAndDeletedFalse(
@@ -103,11 +108,15 @@ public class PostServiceImpl implements PostService {
                         .tagName(TagEnum.findByValue(tagId).name())
                         .build(), Sort.by(Sort.Direction.DESC, "createdAt")
         );
+        final Map<Long, MemberSummaryVo> members = memberSummaryService.findAll(
+                allByDeletedFalse.stream().map(Post::getMemberId).collect(Collectors.toSet())
+        );
 
         for(Post post: allByDeletedFalse) {
-            final Member member = memberRepository.findById(post.getMemberId()).orElseThrow(
-                    () -> new MemberIdNotFoundException(post.getMemberId().toString())
-            );
+            final MemberSummaryVo member = members.get(post.getMemberId());
+
+            if(member == null)
+                throw new MemberIdNotFoundException(post.getMemberId().toString());
 
             responseDtos.add(
                     PostFindResponseDto.builder()
@@ -119,9 +128,9 @@ public class PostServiceImpl implements PostService {
                             .memberImage(member.getProfileImg())
                             .memberName(member.getNickname())
                             .title(post.getTitle())
-                            .viewNum(post.getViewNum())
-                            .likeNum((long) postLikeRepository.findByPostId(post.getPostId()).size())
-                            .commentNum(0L)
+                            .viewNum(post.getViewNum() + viewCountService.getPending(ViewTargetEnum.POST, post.getPostId()))
+                            .likeNum(post.getLikeNum())
+                            .commentNum(post.getCommentNum())
                             .build()
             );
         }
@@ -130,33 +139,82 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
+    public CursorResponseDto<PostFindResponseDto> findFeed(final Long tagId, final String cursor, final Long size) {
+        final int limit = CursorUtil.size(size);
+        final PageRequest pageRequest = CursorUtil.fetch(limit);
+        final List<Post> posts;
+
+        if(cursor == null) {
+            posts = postRepository.findFeed(tagId, pageRequest);
+        } else {
+            final String[] keys = CursorUtil.decode(cursor, 2);
+
+            posts = postRepository.findFeedAfter(tagId, CursorUtil.decodeDateTime(cursor, keys[0]), CursorUtil.decodeLong(cursor, keys[1]), pageRequest);
+        }
+
+        final CursorResponseDto<Post> page = CursorUtil.page(posts, limit, last -> CursorUtil.encode(last.getCreatedAt(), last.getPostId()));
+        final Map<Long, MemberSummaryVo> members = memberSummaryService.findAll(
+                page.getItems().stream().map(Post::getMemberId).collect(Collectors.toSet())
+        );
+        List<PostFindResponseDto> responseDtos = new ArrayList<>();
+
+        for(Post post: page.getItems()) {
+            final MemberSummaryVo member = members.get(post.getMemberId());
+
+            if(member == null)
+                throw new MemberIdNotFoundException(post.getMemberId().toString());
+
+            responseDtos.add(
+                    PostFindResponseDto.builder()
+                            .postId(post.getPostId())
+                            .content(post.getContent())
+                            .createdAt(post.getCreatedAt().format(DateTimeFormatter.ofPattern("yyy-MM-dd HH:mm:ss")))
+                            .images(post.getPostImages())
+                            .memberId(post.getMemberId())
+                            .memberImage(member.getProfileImg())
+                            .memberName(member.getNickname())
+                            .title(post.getTitle())
+                            .viewNum(post.getViewNum() + viewCountService.getPending(ViewTargetEnum.POST, post.getPostId()))
+                            .likeNum(post.getLikeNum())
+                            .commentNum(post.getCommentNum())
+                            .build()
+            );
+        }
+
+        return CursorResponseDto.<PostFindResponseDto>builder()
+                .items(responseDtos)
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public PostDetailResponseDto findById(final Long postId) {
         final Post post = postRepository.findById(postId).orElseThrow(
                 () -> new PostIdNotFoundException(postId)
         );
-        final List<PostLike> byPostId = postLikeRepository.findByPostId(postId);
         final Member member = memberRepository.findById(post.getMemberId()).orElseThrow(
                 () -> new MemberIdNotFoundException(post.getMemberId().toString())
         );
         Optional<PostLike> postLike = null;
         Boolean isLike = false;
 
-        if(JwtUtil.isExistAccessToken() != null)
-            postLike = postLikeRepository.findByMemberId(JwtUtil.getMemberId());
+        if(MemberContext.findMemberId() != null)
+            postLike = postLikeRepository.findByMemberId(MemberContext.findMemberId());
 
         isLike = postLike != null && !postLike.isEmpty() ? true : false;
 
         return PostDetailResponseDto.builder()
                 .postId(postId)
                 .category(post.getTag().getTagName().replace("_", " "))
-                .likeCount(Long.valueOf(byPostId.size()))
+                .likeCount(post.getLikeNum())
                 .memberId(post.getMemberId())
                 .memberImage(member.getProfileImg())
                 .memberName(member.getNickname())
-                .viewCount(post.getViewNum())
+                .viewCount(post.getViewNum() + viewCountService.getPending(ViewTargetEnum.POST, postId))
                 .isLike(isLike)
-                .commentNum(0L)
+                .commentNum(post.getCommentNum())
                 .createdAt(post.getCreatedAt().format(DateTimeFormatter.ofPattern("yyy-MM-dd HH:mm:ss")))
                 .images(post.getPostImages())
                 .content(post.getContent())
@@ -166,13 +224,7 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional
     public void addViewNum(final Long postId) {
-        Post post = postRepository.findById(postId).orElseThrow(
-                () -> new PostIdNotFoundException(postId)
-        );
-
-        post.setViewNum(post.getViewNum() + 1);
-
-        postRepository.save(post);
+        viewCountService.increase(ViewTargetEnum.POST, postId);
     }
 
     @Override
@@ -191,38 +243,70 @@ public class PostServiceImpl implements PostService {
         return "deleted";
     }
 
+    /**
+     * 지우는 쪽을 먼저 시도하고, 지운 게 없으면 넣는다
+     * 겹친 요청이 이미 바꿔 놓았으면 unchanged
+     * */
     @Override
     @Transactional
     public String likePost(final Long id) {
-        final Optional<PostLike> byPostIdAndMemberId = postLikeRepository.findByPostIdAndMemberId(id, JwtUtil.getMemberId());
+        final Long memberId = MemberContext.getMemberId();
 
-        if(byPostIdAndMemberId.isEmpty()) {
-            postLikeRepository.save(
-                    PostLike.builder()
-                            .postId(id)
-                            .memberId(JwtUtil.getMemberId())
-                            .build()
-            );
+        if(removeLike(id, memberId))
+            return "delete";
 
-            return "save";
-        }
-        else
-        {
-            postLikeRepository.deleteById(byPostIdAndMemberId.get().getPostLikeId());
+        return addLike(id, memberId) ? "save" : "unchanged";
+    }
 
-            return "delete";
-        }
+    /**
+     * liked 상태로 맞춘다, 여러 번 보내도 결과가 같다
+     * */
+    @Override
+    @Transactional
+    public String likePost(final Long id, final Boolean liked) {
+        final Long memberId = MemberContext.getMemberId();
+
+        if(liked)
+            return addLike(id, memberId) ? "save" : "unchanged";
+
+        return removeLike(id, memberId) ? "delete" : "unchanged";
+    }
+
+    /**
+     * uk_post_like 때문에 동시에 눌러도 한 줄만 들어가고 like_num 도 한 번만 바뀐다
+     * 알림은 outbox 에 같은 트랜잭션으로 쓴다
+     * */
+    private boolean addLike(final Long id, final Long memberId) {
+        if(postLikeRepository.insertIfAbsent(id, memberId) == 0)
+            return false;
+
+        postRepository.addLikeNum(id, 1L);
+        notificationService.enqueueTopic("post", memberSummaryService.findById(memberId).getNickname(), "post-" + id);
+
+        return true;
+    }
+
+    private boolean removeLike(final Long id, final Long memberId) {
+        final int deleted = postLikeRepository.deleteByPostIdAndMemberId(id, memberId);
+
+        if(deleted == 0)
+            return false;
+
+        postRepository.addLikeNum(id, (long) -deleted);
+
+        return true;
     }
 
     @Override
     @Transactional
-    public List<PostAdminResponseDto> findAllByCategory(Long category, Long page) {
-        Page<Post> posts = postRepository.findByTagAndDeletedFalse(
-                Tag.builder()
-                        .tagId(category)
-                        .tagName(TagEnum.findByValue(category).name())
-                        .build(), PageRequest.of(page.intValue(), 11, Sort.by(Sort.Direction.DESC, "createdAt"))
-        );
+    public List<PostAdminResponseDto> findAllByCategory(Long category, Long page, Boolean count) {
+        final Tag tag = Tag.builder()
+                .tagId(category)
+                .tagName(TagEnum.findByValue(category).name())
+                .build();
+        final PageRequest pageRequest = PageRequest.of(page.intValue(), 11, Sort.by(Sort.Direction.DESC, "createdAt"));
+        final Slice<Post> posts = count ? postRepository.findByTagAndDeletedFalse(tag, pageRequest) : postRepository.findSliceByTagAndDeletedFalse(tag, pageRequest);
+        final Long totalPage = PageUtil.totalPages(posts);
         List<PostAdminResponseDto> responseDtoList = new ArrayList<>();
 
         for(Post post: posts) {
@@ -230,7 +314,7 @@ public class PostServiceImpl implements PostService {
                     PostAdminResponseDto.builder()
                             .postId(post.getPostId())
                             .postName(post.getTitle())
-                            .totalPage((long) posts.getTotalPages())
+                            .totalPage(totalPage)
                             .build()
             );
         }
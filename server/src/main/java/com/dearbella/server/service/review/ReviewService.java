@@ -3,6 +3,7 @@ package com.dearbella.server.service.review;
 import com.dearbella.server.domain.Review;
 import com.dearbella.server.domain.ReviewLike;
 import com.dearbella.server.dto.request.review.ReviewAddRequestDto;
+import com.dearbella.server.dto.response.cursor.CursorResponseDto;
 import com.dearbella.server.dto.response.review.*;
 
 import java.util.List;
@@ -11,10 +12,12 @@ import java.util.Set;
 public interface ReviewService {
     public Review addReview(ReviewAddRequestDto dto, List<String> befores, List<String> afters);
     public Set<ReviewResponseDto> findByCategory(Long category);
-    public Set<ReviewResponseDto> findByQuery(String query);
+    public CursorResponseDto<ReviewResponseDto> findFeedByCategory(Long category, String cursor, Long size);
+    public List<ReviewResponseDto> findByQuery(String query, Long page, Long size);
     public ReviewDetailResponseDto findById(Long id);
     public List<MyReviewResponseDto> findMyReviews();
     public String likeReview(Long reviewId);
-    public List<ReviewAdminResponseDto> getReviews(Long page);
+    public String likeReview(Long reviewId, Boolean liked);
+    public List<ReviewAdminResponseDto> getReviews(Long page, Boolean count);
     public String deleteReview(Long reviewId);
 }
@@ -2,26 +2,33 @@ package com.dearbella.server.service.review;
 
 import com.dearbella.server.domain.*;
 import com.dearbella.server.dto.request.review.ReviewAddRequestDto;
+import com.dearbella.server.dto.response.cursor.CursorResponseDto;
 import com.dearbella.server.dto.response.review.*;
 import com.dearbella.server.enums.doctor.CategoryEnum;
+import com.dearbella.server.enums.search.SearchTargetEnum;
+import com.dearbella.server.enums.view.ViewTargetEnum;
 import com.dearbella.server.exception.doctor.DoctorIdNotFoundException;
 import com.dearbella.server.exception.hospital.HospitalIdNotFoundException;
 import com.dearbella.server.exception.member.MemberIdNotFoundException;
 import com.dearbella.server.exception.review.ReviewIdNotFoundException;
 import com.dearbella.server.exception.review.ReviewNotFoundException;
 import com.dearbella.server.repository.*;
-import com.dearbella.server.util.JwtUtil;
+import com.dearbella.server.service.notification.NotificationService;
+import com.dearbella.server.service.search.SearchService;
+import com.dearbella.server.service.view.ViewCountService;
+import com.dearbella.server.util.CursorUtil;
+import com.dearbella.server.util.MemberContext;
+import com.dearbella.server.util.PageUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 
-import static com.dearbella.server.config.MapperConfig.modelMapper;
-
 @Slf4j
 @RequiredArgsConstructor
 public class ReviewServiceImpl implements ReviewService {
@@ -31,6 +38,9 @@ public class ReviewServiceImpl implements ReviewService {
     private final DoctorRepository doctorRepository;
     private final HospitalRepository hospitalRepository;
     private final ReviewLikeRepository reviewLikeRepository;
+    private final SearchService searchService;
+    private final ViewCountService viewCountService;
+    private final NotificationService notificationService;
 
     /**
      * TODO:
@@ -42,8 +52,8 @@ public class ReviewServiceImpl implements ReviewService {
     public Review addReview(final ReviewAddRequestDto dto, final List<String> befores, final List<String> afters) {
         List<Image> beforeImages = new ArrayList<>();
         List<Image> afterImages = new ArrayList<>();
-        Member member = memberRepository.findById(JwtUtil.getMemberId()).orElseThrow(
-                () -> new MemberIdNotFoundException(JwtUtil.getMemberId().toString())
+        Member member = memberRepository.findById(MemberContext.getMemberId()).orElseThrow(
+                () -> new MemberIdNotFoundException(MemberContext.getMemberId().toString())
         );
 
         Doctor doctor = null;
@@ -54,9 +64,7 @@ public class ReviewServiceImpl implements ReviewService {
                     () -> new DoctorIdNotFoundException(dto.getDoctorId())
             );
 
-            doctor.setViewNum(doctor.getViewNum() + 1);
-
-            doctorRepository.save(doctor);
+            viewCountService.increase(ViewTargetEnum.DOCTOR, doctor.getDoctorId());
         }
 
         if(dto.getHospitalId() != 0L) {
@@ -64,33 +72,13 @@ public class ReviewServiceImpl implements ReviewService {
                     () -> new HospitalIdNotFoundException(dto.getHospitalId())
             );
 
-            hospital.setViewNum(hospital.getViewNum() + 1);
-
-            hospitalRepository.save(hospital);
+            viewCountService.increase(ViewTargetEnum.HOSPITAL, hospital.getHospitalId());
         }
 
 
-        for(String image: befores) {
-            beforeImages.add(
-                    imageRepository.save(
-                            Image.builder()
-                                    .imageUrl(image)
-                                    .memberId(member.getMemberId())
-                                    .build()
-                    )
-            );
-        }
+        beforeImages.addAll(imageRepository.saveAll(Image.of(befores, member.getMemberId())));
 
-        for(String image: afters) {
-            afterImages.add(
-                    imageRepository.save(
-                            Image.builder()
-                                    .imageUrl(image)
-                                    .memberId(member.getMemberId())
-                                    .build()
-                    )
-            );
-        }
+        afterImages.addAll(imageRepository.saveAll(Image.of(afters, member.getMemberId())));
 
         final Review save = reviewRepository.save(
                 Review.builder()
@@ -106,26 +94,25 @@ public class ReviewServiceImpl implements ReviewService {
                         .afters(afterImages)
                         .rate(dto.getRate())
                         .viewNum(0L)
+                        .likeNum(0L)
                         .build()
         );
 
-        if(doctor != null) {
-            final int num = reviewRepository.findByDoctorId(doctor.getDoctorId()).size();
+        final double rate = dto.getRate() == null ? 0 : dto.getRate();
 
-            doctor.setTotalRate(((doctor.getTotalRate() * num + dto.getRate())) / (float) (num + 1));
-        }
+        if(doctor != null)
+            doctorRepository.addRating(doctor.getDoctorId(), 1L, rate);
 
-        if(hospital != null) {
-            final int num = reviewRepository.findByHospitalId(hospital.getHospitalId()).size();
+        if(hospital != null)
+            hospitalRepository.addRating(hospital.getHospitalId(), 1L, rate);
 
-            hospital.setTotalRate(((hospital.getTotalRate() * num + dto.getRate())) / (float) (num + 1));
-        }
+        searchService.indexReview(save);
 
         return save;
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public Set<ReviewResponseDto> findByCategory(final Long category) {
         //정렬
         Sort sort = Sort.by(Sort.Direction.DESC, "viewNum");
@@ -137,7 +124,7 @@ public class ReviewServiceImpl implements ReviewService {
 
         for(Review review: reviews) {
             responseDtoSet.add(
-                    modelMapper.map(review, ReviewResponseDto.class)
+                    ReviewResponseDto.of(review)
             );
         }
 
@@ -145,46 +132,63 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     @Override
-    @Transactional
-    public Set<ReviewResponseDto> findByQuery(final String query) {
-        Sort sort = Sort.by(Sort.Direction.DESC, "viewNum");
-
-        List<Review> reviewListByTitle = reviewRepository.findByTitleContainingAndDeletedFalse(query, sort);
-        List<Review> reviewListByContent = reviewRepository.findByContentContainingAndDeletedFalse(query, sort);
-        List<Review> reviewListByHospitalName = reviewRepository.findByHospitalNameContainingAndDeletedFalse(query, sort);
-        List<Review> reviewListByDoctorName = reviewRepository.findByDoctorNameContainingAndDeletedFalse(query, sort);
+    @Transactional(readOnly = true)
+    public CursorResponseDto<ReviewResponseDto> findFeedByCategory(final Long category, final String cursor, final Long size) {
+        final String title = category == 0 ? "" : CategoryEnum.findByValue(category).name();
+        final int limit = CursorUtil.size(size);
+        final PageRequest pageRequest = CursorUtil.fetch(limit);
+        final List<Review> reviews;
+
+        if(cursor == null) {
+            reviews = reviewRepository.findFeed(title, pageRequest);
+        } else {
+            final String[] keys = CursorUtil.decode(cursor, 2);
+
+            reviews = reviewRepository.findFeedAfter(title, CursorUtil.decodeLong(cursor, keys[0]), CursorUtil.decodeLong(cursor, keys[1]), pageRequest);
+        }
 
-        Set<ReviewResponseDto> responseDtoSet = new HashSet<>();
+        final CursorResponseDto<Review> page = CursorUtil.page(reviews, limit, last -> CursorUtil.encode(last.getViewNum(), last.getReviewId()));
+        List<ReviewResponseDto> responseDtoList = new ArrayList<>();
 
-        for(Review review: reviewListByTitle) {
-            responseDtoSet.add(
-                    modelMapper.map(review, ReviewResponseDto.class)
+        for(Review review: page.getItems()) {
+            responseDtoList.add(
+                    ReviewResponseDto.of(review)
             );
         }
 
-        for(Review review: reviewListByContent) {
-            responseDtoSet.add(
-                    modelMapper.map(review, ReviewResponseDto.class)
-            );
-        }
+        return CursorResponseDto.<ReviewResponseDto>builder()
+                .items(responseDtoList)
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
 
-        for(Review review: reviewListByHospitalName) {
-            responseDtoSet.add(
-                    modelMapper.map(review, ReviewResponseDto.class)
-            );
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReviewResponseDto> findByQuery(final String query, final Long page, final Long size) {
+        final List<Long> ids = searchService.search(SearchTargetEnum.REVIEW, query, page, size);
+        Map<Long, Review> reviews = new HashMap<>();
 
-        for(Review review: reviewListByDoctorName) {
-            responseDtoSet.add(
-                    modelMapper.map(review, ReviewResponseDto.class)
+        for(Review review: reviewRepository.findAllById(ids))
+            reviews.put(review.getReviewId(), review);
+
+        List<ReviewResponseDto> responseDtoList = new ArrayList<>();
+
+        for(Long id: ids) {
+            final Review review = reviews.get(id);
+
+            if(review == null || review.getDeleted())
+                continue;
+
+            responseDtoList.add(
+                    ReviewResponseDto.of(review)
             );
         }
 
-        return responseDtoSet;
+        return responseDtoList;
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public ReviewDetailResponseDto findById(final Long id) {
         final Review review = reviewRepository.findById(id).orElseThrow(
                 () -> new ReviewIdNotFoundException(id)
@@ -193,7 +197,7 @@ public class ReviewServiceImpl implements ReviewService {
                 () -> new MemberIdNotFoundException(review.getMemberId().toString())
         );
 
-        ReviewDetailResponseDto response = modelMapper.map(review, ReviewDetailResponseDto.class);
+        ReviewDetailResponseDto response = ReviewDetailResponseDto.of(review);
 
         response.setNickname(member.getNickname());
         response.setProfileImg(member.getProfileImg());
@@ -216,9 +220,7 @@ public class ReviewServiceImpl implements ReviewService {
          * 닥터 정보 + 좋아요 여부
          * */
         response.setCommentNum(0L);
-        response.setLikeNum(Long.valueOf(
-                reviewLikeRepository.findByReviewId(response.getReviewId()).size())
-        );
+        response.setLikeNum(review.getLikeNum());
 
         return response;
     }
@@ -228,7 +230,7 @@ public class ReviewServiceImpl implements ReviewService {
     public List<MyReviewResponseDto> findMyReviews() {
         List<MyReviewResponseDto> responseDtoList = new ArrayList<>();
 
-        final List<Review> allByMemberId = reviewRepository.findAllByMemberId(JwtUtil.getMemberId(), Sort.by(Sort.Direction.DESC, "updatedAt"));
+        final List<Review> allByMemberId = reviewRepository.findAllByMemberId(MemberContext.getMemberId(), Sort.by(Sort.Direction.DESC, "updatedAt"));
 
         for(Review review: allByMemberId) {
             responseDtoList.add(
@@ -243,32 +245,67 @@ public class ReviewServiceImpl implements ReviewService {
         return responseDtoList;
     }
 
+    /**
+     * 지우는 쪽을 먼저 시도하고, 지운 게 없으면 넣는다
+     * 겹친 요청이 이미 바꿔 놓았으면 unchanged
+     * */
     @Override
     @Transactional
     public String likeReview(final Long reviewId) {
-        final Optional<ReviewLike> byReviewIdAndMemberId = reviewLikeRepository.findByReviewIdAndMemberId(reviewId, JwtUtil.getMemberId());
+        final Long memberId = MemberContext.getMemberId();
 
-        if(byReviewIdAndMemberId.isEmpty()) {
-            reviewLikeRepository.save(
-                    ReviewLike.builder()
-                            .reviewId(reviewId)
-                            .memberId(JwtUtil.getMemberId())
-                            .build()
-            );
+        if(removeLike(reviewId, memberId))
+            return "delete";
 
-            return "save";
-        }
-        else {
-            reviewLikeRepository.deleteById(byReviewIdAndMemberId.get().getLikeId());
+        return addLike(reviewId, memberId) ? "save" : "unchanged";
+    }
 
-            return "delete";
-        }
+    /**
+     * liked 상태로 맞춘다, 여러 번 보내도 결과가 같다
+     * */
+    @Override
+    @Transactional
+    public String likeReview(final Long reviewId, final Boolean liked) {
+        final Long memberId = MemberContext.getMemberId();
+
+        if(liked)
+            return addLike(reviewId, memberId) ? "save" : "unchanged";
+
+        return removeLike(reviewId, memberId) ? "delete" : "unchanged";
+    }
+
+    /**
+     * uk_review_like 때문에 동시에 눌러도 한 줄만 들어가고 like_num 도 한 번만 바뀐다
+     * */
+    private boolean addLike(final Long reviewId, final Long memberId) {
+        if(reviewLikeRepository.insertIfAbsent(reviewId, memberId) == 0)
+            return false;
+
+        reviewRepository.addLikeNum(reviewId, 1L);
+        notificationService.enqueueTopic("review", memberRepository.findById(memberId).orElseThrow(
+                () -> new MemberIdNotFoundException(memberId.toString())
+        ).getNickname(), "review-" + reviewId);
+
+        return true;
+    }
+
+    private boolean removeLike(final Long reviewId, final Long memberId) {
+        final int deleted = reviewLikeRepository.deleteByReviewIdAndMemberId(reviewId, memberId);
+
+        if(deleted == 0)
+            return false;
+
+        reviewRepository.addLikeNum(reviewId, (long) -deleted);
+
+        return true;
     }
 
     @Override
     @Transactional
-    public List<ReviewAdminResponseDto> getReviews(Long page) {
-        Page<Review> reviews = reviewRepository.findByDeletedFalse(PageRequest.of(page.intValue(), 12, Sort.by(Sort.Direction.DESC, "updatedAt")));
+    public List<ReviewAdminResponseDto> getReviews(Long page, Boolean count) {
+        final PageRequest pageRequest = PageRequest.of(page.intValue(), 12, Sort.by(Sort.Direction.DESC, "updatedAt"));
+        final Slice<Review> reviews = count ? reviewRepository.findByDeletedFalse(pageRequest) : reviewRepository.findSliceByDeletedFalse(pageRequest);
+        final Long totalPage = PageUtil.totalPages(reviews);
         List<ReviewAdminResponseDto> responseDtoList = new ArrayList<>();
 
         for(Review review: reviews) {
@@ -276,7 +313,7 @@ public class ReviewServiceImpl implements ReviewService {
                     ReviewAdminResponseDto.builder()
                             .reviewId(review.getReviewId())
                             .reviewTittle(review.getTitle())
-                            .totalPage((long) reviews.getTotalPages())
+                            .totalPage(totalPage)
                             .build()
             );
         }
@@ -291,12 +328,18 @@ public class ReviewServiceImpl implements ReviewService {
                 () -> new ReviewIdNotFoundException(reviewId)
         );
 
-        if(review.getDeleted())
+        if(reviewRepository.softDelete(reviewId) == 0)
             return "already deleted";
         else {
-            review.setDeleted(true);
+            final double rate = review.getRate() == null ? 0 : review.getRate();
+
+            if(review.getDoctorId() != null && review.getDoctorId() != 0L)
+                doctorRepository.addRating(review.getDoctorId(), -1L, -rate);
+
+            if(review.getHospitalId() != null && review.getHospitalId() != 0L)
+                hospitalRepository.addRating(review.getHospitalId(), -1L, -rate);
 
-            reviewRepository.save(review);
+            searchService.remove(SearchTargetEnum.REVIEW, reviewId);
 
             return "success";
         }
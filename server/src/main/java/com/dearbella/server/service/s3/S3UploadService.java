@@ -1,9 +1,13 @@
 package com.dearbella.server.service.s3;
 
+import com.dearbella.server.vo.UploadGroupVo;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
 
 public interface S3UploadService {
     String upload(MultipartFile multipartFile, String dirName, boolean profile) throws IOException;
+    List<String> uploadAll(List<MultipartFile> multipartFiles, String dirName) throws IOException;
+    List<List<String>> uploadAll(List<UploadGroupVo> groups) throws IOException;
 }
@@ -4,28 +4,189 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.*;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.amazonaws.services.s3.transfer.Upload;
 import com.dearbella.server.exception.image.FileNameNotValidException;
-import com.dearbella.server.util.JwtUtil;
-import lombok.RequiredArgsConstructor;
+import com.dearbella.server.util.MemberContext;
+import com.dearbella.server.vo.UploadGroupVo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.annotation.PreDestroy;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 여러 장은 TransferManager 로 동시에 올린다
+ * 크기를 알고 있는 스트림을 그대로 넘기므로 파일 전체를 메모리에 올리지 않고, 큰 파일은 multipart 로 나눠 올린다
+ * */
 @Slf4j
-@RequiredArgsConstructor
 public class S3UploadServiceImpl implements S3UploadService {
     private final AmazonS3 amazonS3Client;
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    private final String bucket;
+    private final TransferManager transferManager;
+    private final MeterRegistry meterRegistry;
+
+    public S3UploadServiceImpl(final AmazonS3 amazonS3Client, final String bucket, final int threads, final long multipartThreshold,
+                               final MeterRegistry meterRegistry) {
+        final AtomicInteger sequence = new AtomicInteger();
+
+        this.amazonS3Client = amazonS3Client;
+        this.bucket = bucket;
+        this.meterRegistry = meterRegistry;
+        this.transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(threads, runnable -> {
+                    Thread thread = new Thread(runnable, "s3-upload-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+
+                    return thread;
+                }))
+                .withMultipartUploadThreshold(multipartThreshold)
+                .withShutDownThreadPools(true)
+                .build();
+    }
 
     @Override
     public String upload(MultipartFile multipartFile, String dirName, boolean profile) throws IOException {
-        String fileName;
+        final String key = dirName + "/" + fileName(multipartFile, profile);
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+
+        try {
+            amazonS3Client.putObject(new PutObjectRequest(bucket, key, multipartFile.getInputStream(), metadata(multipartFile))
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
+            outcome = "success";
+        } catch (AmazonServiceException e) {
+            e.printStackTrace();
+        } catch (SdkClientException e) {
+            e.printStackTrace();
+        } finally {
+            sample.stop(timer("upload", outcome));
+        }
+
+        return amazonS3Client.getUrl(bucket, key).toString();
+    }
+
+    @Override
+    public List<String> uploadAll(final List<MultipartFile> multipartFiles, final String dirName) throws IOException {
+        return uploadAll(List.of(UploadGroupVo.of(multipartFiles, dirName))).get(0);
+    }
+
+    /**
+     * 모든 묶음을 한꺼번에 넘기고 한 번만 기다린다, url 은 묶음별로 입력 순서대로 돌려준다
+     * 하나라도 실패하면 나머지를 취소하고 IOException
+     * */
+    @Override
+    public List<List<String>> uploadAll(final List<UploadGroupVo> groups) throws IOException {
+        List<List<String>> keys = new ArrayList<>();
+        List<MultipartFile> files = new ArrayList<>();
+        List<Upload> uploads = new ArrayList<>();
+
+        // 파일 이름 검증은 올리기 전에 전부 끝낸다
+        for(UploadGroupVo group: groups) {
+            List<String> groupKeys = new ArrayList<>();
+
+            if(group.getMultipartFiles() != null) {
+                for(MultipartFile multipartFile: group.getMultipartFiles()) {
+                    groupKeys.add(group.getDirName() + "/" + fileName(multipartFile, false));
+                    files.add(multipartFile);
+                }
+            }
+
+            keys.add(groupKeys);
+        }
+
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+
+        try {
+            int i = 0;
+
+            for(List<String> groupKeys: keys) {
+                for(String key: groupKeys) {
+                    final MultipartFile multipartFile = files.get(i++);
+
+                    uploads.add(
+                            transferManager.upload(
+                                    new PutObjectRequest(bucket, key, multipartFile.getInputStream(), metadata(multipartFile))
+                                            .withCannedAcl(CannedAccessControlList.PublicRead)
+                            )
+                    );
+                }
+            }
+
+            for(Upload upload: uploads)
+                upload.waitForUploadResult();
+
+            outcome = "success";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(uploads);
+
+            throw new IOException("S3 upload interrupted", e);
+        } catch (SdkClientException | IOException e) {
+            abort(uploads);
+
+            throw new IOException("S3 upload failed: " + dirNames(groups), e);
+        } finally {
+            sample.stop(timer("uploadAll", outcome));
+        }
 
-        fileName = multipartFile.getOriginalFilename().replaceAll("[^a-zA-Z0-9.\\(\\)]", "");
+        List<List<String>> urls = new ArrayList<>();
+
+        for(List<String> groupKeys: keys) {
+            List<String> groupUrls = new ArrayList<>();
+
+            for(String key: groupKeys)
+                groupUrls.add(amazonS3Client.getUrl(bucket, key).toString());
+
+            urls.add(groupUrls);
+        }
+
+        return urls;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        transferManager.shutdownNow(false);
+    }
+
+    private Timer timer(final String method, final String outcome) {
+        return Timer.builder("s3.upload")
+                .description("S3 upload latency")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private String dirNames(final List<UploadGroupVo> groups) {
+        List<String> dirNames = new ArrayList<>();
+
+        for(UploadGroupVo group: groups)
+            dirNames.add(group.getDirName());
+
+        return String.join(", ", dirNames);
+    }
+
+    private void abort(final List<Upload> uploads) {
+        for(Upload upload: uploads) {
+            try {
+                upload.abort();
+            } catch (SdkClientException e) {
+                log.warn("S3 upload abort failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private String fileName(final MultipartFile multipartFile, final boolean profile) {
+        String fileName = multipartFile.getOriginalFilename().replaceAll("[^a-zA-Z0-9.\\(\\)]", "");
 
         String[] parts = fileName.split("\\.");
 
@@ -36,7 +197,15 @@ public class S3UploadServiceImpl implements S3UploadService {
         if (parts.length < 2) {
             throw new IllegalArgumentException("Invalid file type => file name: " + fileName);
         }
-        String ext = parts[1];
+
+        if(profile == true)
+            fileName = MemberContext.getMemberId().toString() + "." + parts[1];
+
+        return fileName;
+    }
+
+    private ObjectMetadata metadata(final MultipartFile multipartFile) {
+        String ext = fileName(multipartFile, false).split("\\.")[1];
         String contentType = "";
 
         //content type을 지정해서 올려주지 않으면 자동으로 "application/octet-stream"으로 고정이 되서 링크 클릭시 웹에서 열리는게 아니라 자동 다운이 시작됨.
@@ -55,29 +224,10 @@ public class S3UploadServiceImpl implements S3UploadService {
                 break;
         }
 
-        try {
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentType(contentType);
-            metadata.setContentLength(multipartFile.getSize());
-
-            if(profile == true)
-                fileName = JwtUtil.getMemberId().toString() + "." + ext;
-
-            amazonS3Client.putObject(new PutObjectRequest(bucket, dirName + "/" + fileName, multipartFile.getInputStream(), metadata)
-                    .withCannedAcl(CannedAccessControlList.PublicRead));
-        } catch (AmazonServiceException e) {
-            e.printStackTrace();
-        } catch (SdkClientException e) {
-            e.printStackTrace();
-        }
-
-        //object 정보 가져오기
-        ListObjectsV2Result listObjectsV2Result = amazonS3Client.listObjectsV2(bucket);
-        List<S3ObjectSummary> objectSummaries = listObjectsV2Result.getObjectSummaries();
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(multipartFile.getSize());
 
-        for (S3ObjectSummary object: objectSummaries) {
-            System.out.println("object = " + object.toString());
-        }
-        return amazonS3Client.getUrl(bucket, dirName + "/" + fileName).toString();
+        return metadata;
     }
 }
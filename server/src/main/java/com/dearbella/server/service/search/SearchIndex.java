@@ -0,0 +1,216 @@
+package com.dearbella.server.service.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인
+ * 한글은 띄어쓰기/조사 때문에 형태소 없이 1,2-gram 으로 자른다
+ * 검색어의 gram 이 모두 들어있는 문서만 tf-idf 순으로 돌려준다 (LIKE '%q%' 와 같은 범위)
+ * */
+public class SearchIndex {
+    /**
+     * 이름/제목처럼 앞에 오는 필드 가중치
+     * */
+    private static final int PRIMARY_WEIGHT = 3;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param primary 가중치를 크게 줄 필드(이름, 제목)
+     * @param others 나머지 필드
+     * */
+    public void put(final Long id, final String primary, final String... others) {
+        Map<String, Integer> grams = new HashMap<>();
+
+        for(String gram: tokenize(primary, true))
+            grams.merge(gram, PRIMARY_WEIGHT, Integer::sum);
+
+        if(others != null) {
+            for(String other: others) {
+                for(String gram: tokenize(other, true))
+                    grams.merge(gram, 1, Integer::sum);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+
+            for(Map.Entry<String, Integer> entry: grams.entrySet())
+                postings.computeIfAbsent(entry.getKey(), key -> new HashMap<>()).put(id, entry.getValue());
+
+            documents.put(id, grams);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 관련도 내림차순, 같으면 최신(id 큰) 순
+     * */
+    public List<Long> search(final String query, final int offset, final int limit) {
+        final Set<String> grams = new HashSet<>(tokenize(query, false));
+
+        if(grams.isEmpty() || limit <= 0)
+            return new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>();
+
+            for(String gram: grams) {
+                Map<Long, Integer> list = postings.get(gram);
+
+                if(list == null)
+                    return new ArrayList<>();
+
+                lists.add(list);
+            }
+
+            // 가장 짧은 posting 부터 교집합
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            final double total = documents.size();
+            final int[] sizes = new int[lists.size()];
+
+            for(int i = 0; i < sizes.length; i++)
+                sizes[i] = lists.get(i).size();
+
+            // 필요한 개수(offset + limit)만 남기는 min-heap, 전체 정렬을 피한다
+            final int keep = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+            PriorityQueue<Scored> heap = new PriorityQueue<>();
+
+            for(Map.Entry<Long, Integer> first: lists.get(0).entrySet()) {
+                final Long id = first.getKey();
+                double score = weight(first.getValue(), total, sizes[0]);
+                boolean matched = true;
+
+                for(int i = 1; i < sizes.length; i++) {
+                    Integer tf = lists.get(i).get(id);
+
+                    if(tf == null) {
+                        matched = false;
+                        break;
+                    }
+
+                    score += weight(tf, total, sizes[i]);
+                }
+
+                if(!matched)
+                    continue;
+
+                Scored scored = new Scored(id, score);
+
+                if(heap.size() < keep)
+                    heap.add(scored);
+                else if(scored.compareTo(heap.peek()) > 0) {
+                    heap.poll();
+                    heap.add(scored);
+                }
+            }
+
+            List<Scored> ranked = new ArrayList<>(heap);
+            ranked.sort(Collections.reverseOrder());
+
+            List<Long> ids = new ArrayList<>();
+
+            for(int i = offset; i < ranked.size(); i++)
+                ids.add(ranked.get(i).id);
+
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static double weight(final int tf, final double total, final int df) {
+        return (1 + Math.log(tf)) * Math.log(1 + total / df);
+    }
+
+    private void removeInternal(final Long id) {
+        final Map<String, Integer> grams = documents.remove(id);
+
+        if(grams == null)
+            return;
+
+        for(String gram: grams.keySet()) {
+            Map<Long, Integer> list = postings.get(gram);
+
+            if(list == null)
+                continue;
+
+            list.remove(id);
+
+            if(list.isEmpty())
+                postings.remove(gram);
+        }
+    }
+
+    /**
+     * 색인할 때는 1,2-gram 을 모두 넣고
+     * 검색할 때는 두 글자 이상 단어면 2-gram 만, 한 글자 단어면 1-gram 으로 찾는다
+     * */
+    static List<String> tokenize(final String text, final boolean forIndex) {
+        List<String> grams = new ArrayList<>();
+
+        if(text == null)
+            return grams;
+
+        for(String word: text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if(word.isEmpty())
+                continue;
+
+            if(forIndex || word.length() == 1) {
+                for(int i = 0; i < word.length(); i++)
+                    grams.add(word.substring(i, i + 1));
+            }
+
+            for(int i = 0; i + 1 < word.length(); i++)
+                grams.add(word.substring(i, i + 2));
+        }
+
+        return grams;
+    }
+
+    /**
+     * 점수가 같으면 id 가 큰(최신) 문서가 앞
+     * */
+    private static class Scored implements Comparable<Scored> {
+        private final Long id;
+        private final double score;
+
+        private Scored(final Long id, final double score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(final Scored other) {
+            final int compared = Double.compare(score, other.score);
+
+            return compared != 0 ? compared : id.compareTo(other.id);
+        }
+    }
+}
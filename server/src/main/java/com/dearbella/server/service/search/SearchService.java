@@ -0,0 +1,18 @@
+package com.dearbella.server.service.search;
+
+import com.dearbella.server.domain.Doctor;
+import com.dearbella.server.domain.Hospital;
+import com.dearbella.server.domain.Review;
+import com.dearbella.server.enums.search.SearchTargetEnum;
+
+import java.util.List;
+import java.util.Map;
+
+public interface SearchService {
+    public List<Long> search(SearchTargetEnum target, String query, Long page, Long size);
+    public void indexHospital(Hospital hospital);
+    public void indexDoctor(Doctor doctor);
+    public void indexReview(Review review);
+    public void remove(SearchTargetEnum target, Long id);
+    public Map<SearchTargetEnum, Integer> rebuild();
+}
@@ -0,0 +1,172 @@
+package com.dearbella.server.service.search;
+
+import com.dearbella.server.domain.Category;
+import com.dearbella.server.domain.Doctor;
+import com.dearbella.server.domain.Hospital;
+import com.dearbella.server.domain.Review;
+import com.dearbella.server.enums.search.SearchTargetEnum;
+import com.dearbella.server.repository.DoctorRepository;
+import com.dearbella.server.repository.HospitalRepository;
+import com.dearbella.server.repository.ReviewRepository;
+import com.dearbella.server.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+@Slf4j
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+    private final HospitalRepository hospitalRepository;
+    private final DoctorRepository doctorRepository;
+    private final ReviewRepository reviewRepository;
+
+    private volatile Map<SearchTargetEnum, SearchIndex> indexes = emptyIndexes();
+
+    /**
+     * rebuild 중에 들어온 변경은 새 색인에 다시 적용한다
+     * */
+    private final List<Map.Entry<SearchTargetEnum, Consumer<SearchIndex>>> pending = new ArrayList<>();
+    private boolean rebuilding = false;
+
+    @Override
+    public List<Long> search(final SearchTargetEnum target, final String query, final Long page, final Long size) {
+        final int limit = size == null ? Integer.MAX_VALUE : size.intValue();
+        final long offset = page == null || size == null ? 0 : page * size;
+
+        return indexes.get(target).search(query, (int) Math.min(offset, Integer.MAX_VALUE), limit);
+    }
+
+    @Override
+    public void indexHospital(final Hospital hospital) {
+        final Long id = hospital.getHospitalId();
+        final String name = hospital.getHospitalName();
+        final String description = hospital.getDescription();
+        final String location = hospital.getHospitalLocation();
+
+        if(Boolean.TRUE.equals(hospital.getDeleted())) {
+            remove(SearchTargetEnum.HOSPITAL, id);
+            return;
+        }
+
+        TransactionUtil.afterCommit(() -> apply(SearchTargetEnum.HOSPITAL, index -> index.put(id, name, description, location)));
+    }
+
+    @Override
+    public void indexDoctor(final Doctor doctor) {
+        final Long id = doctor.getDoctorId();
+        final String[] others = doctorFields(doctor);
+        final String name = doctor.getDoctorName();
+
+        if(Boolean.TRUE.equals(doctor.getDeleted())) {
+            remove(SearchTargetEnum.DOCTOR, id);
+            return;
+        }
+
+        TransactionUtil.afterCommit(() -> apply(SearchTargetEnum.DOCTOR, index -> index.put(id, name, others)));
+    }
+
+    @Override
+    public void indexReview(final Review review) {
+        final Long id = review.getReviewId();
+        final String title = review.getTitle();
+        final String content = review.getContent();
+        final String hospitalName = review.getHospitalName();
+        final String doctorName = review.getDoctorName();
+
+        if(Boolean.TRUE.equals(review.getDeleted())) {
+            remove(SearchTargetEnum.REVIEW, id);
+            return;
+        }
+
+        TransactionUtil.afterCommit(() -> apply(SearchTargetEnum.REVIEW, index -> index.put(id, title, content, hospitalName, doctorName)));
+    }
+
+    @Override
+    public void remove(final SearchTargetEnum target, final Long id) {
+        TransactionUtil.afterCommit(() -> apply(target, index -> index.remove(id)));
+    }
+
+    /**
+     * DB 에서 전부 읽어 새 색인을 만든 뒤 교체
+     * 서버가 뜰 때 한 번 실행되고 관리자 API 로도 실행할 수 있다
+     * */
+    @Override
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public Map<SearchTargetEnum, Integer> rebuild() {
+        synchronized (pending) {
+            rebuilding = true;
+            pending.clear();
+        }
+
+        Map<SearchTargetEnum, SearchIndex> fresh = emptyIndexes();
+
+        try {
+            for(Hospital hospital: hospitalRepository.findByDeletedFalse())
+                fresh.get(SearchTargetEnum.HOSPITAL).put(hospital.getHospitalId(), hospital.getHospitalName(),
+                        hospital.getDescription(), hospital.getHospitalLocation());
+
+            for(Doctor doctor: doctorRepository.findWithCategoriesByDeletedFalse())
+                fresh.get(SearchTargetEnum.DOCTOR).put(doctor.getDoctorId(), doctor.getDoctorName(), doctorFields(doctor));
+
+            for(Review review: reviewRepository.findByDeletedFalse())
+                fresh.get(SearchTargetEnum.REVIEW).put(review.getReviewId(), review.getTitle(),
+                        review.getContent(), review.getHospitalName(), review.getDoctorName());
+        } finally {
+            synchronized (pending) {
+                for(Map.Entry<SearchTargetEnum, Consumer<SearchIndex>> entry: pending)
+                    entry.getValue().accept(fresh.get(entry.getKey()));
+
+                pending.clear();
+                rebuilding = false;
+                indexes = fresh;
+            }
+        }
+
+        Map<SearchTargetEnum, Integer> sizes = new EnumMap<>(SearchTargetEnum.class);
+
+        for(SearchTargetEnum target: SearchTargetEnum.values())
+            sizes.put(target, fresh.get(target).size());
+
+        log.info("search index rebuilt {}", sizes);
+
+        return sizes;
+    }
+
+    private void apply(final SearchTargetEnum target, final Consumer<SearchIndex> operation) {
+        synchronized (pending) {
+            operation.accept(indexes.get(target));
+
+            if(rebuilding)
+                pending.add(new AbstractMap.SimpleEntry<>(target, operation));
+        }
+    }
+
+    private static String[] doctorFields(final Doctor doctor) {
+        List<String> fields = new ArrayList<>();
+
+        fields.add(doctor.getHospitalName());
+        fields.add(doctor.getDescription());
+
+        if(doctor.getCategories() != null) {
+            for(Category category: doctor.getCategories())
+                fields.add(category.getCategoryName());
+        }
+
+        return fields.toArray(new String[0]);
+    }
+
+    private static Map<SearchTargetEnum, SearchIndex> emptyIndexes() {
+        Map<SearchTargetEnum, SearchIndex> map = new EnumMap<>(SearchTargetEnum.class);
+
+        for(SearchTargetEnum target: SearchTargetEnum.values())
+            map.put(target, new SearchIndex());
+
+        return map;
+    }
+}
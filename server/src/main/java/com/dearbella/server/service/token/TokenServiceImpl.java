@@ -14,8 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 
-import static com.dearbella.server.config.MapperConfig.modelMapper;
-
 @Slf4j
 @RequiredArgsConstructor
 public class TokenServiceImpl implements TokenService {
@@ -43,6 +41,6 @@ public class TokenServiceImpl implements TokenService {
         token.setAccessTokenExpiredAt(LocalDate.now().plusDays(JwtUtil.ACCESS_TOKEN_EXPIRE_TIME));
         tokenRepository.save(token);
 
-        return modelMapper.map(token, TokenResponseDto.class);
+        return TokenResponseDto.of(token);
     }
 }
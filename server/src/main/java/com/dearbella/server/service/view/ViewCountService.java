@@ -0,0 +1,9 @@
+package com.dearbella.server.service.view;
+
+import com.dearbella.server.enums.view.ViewTargetEnum;
+
+public interface ViewCountService {
+    public void increase(ViewTargetEnum target, Long id);
+    public Long getPending(ViewTargetEnum target, Long id);
+    public int flush();
+}
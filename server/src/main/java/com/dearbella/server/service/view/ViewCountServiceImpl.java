@@ -0,0 +1,137 @@
+package com.dearbella.server.service.view;
+
+import com.dearbella.server.enums.view.ViewTargetEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수는 메모리에 모았다가 주기적으로 한 번에 UPDATE
+ * 요청마다 select + update 하던 것(lost update, row lock 경합)을 대체한다
+ * */
+@Slf4j
+public class ViewCountServiceImpl implements ViewCountService {
+    private final JdbcTemplate jdbcTemplate;
+    /**
+     * 대상 -> id -> 쌓인 조회수, 반영하고 비어 있는 id 는 flush 때 빠지므로 최근에 조회된 id 만 남는다
+     * */
+    private final Map<ViewTargetEnum, ConcurrentHashMap<Long, LongAdder>> counters = new EnumMap<>(ViewTargetEnum.class);
+
+    public ViewCountServiceImpl(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        for(ViewTargetEnum target: ViewTargetEnum.values())
+            counters.put(target, new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public void increase(final ViewTargetEnum target, final Long id) {
+        add(counters.get(target), id, 1L);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     * */
+    @Override
+    public Long getPending(final ViewTargetEnum target, final Long id) {
+        final LongAdder adder = counters.get(target).get(id);
+
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * sumThenReset 으로 떼어 낸 만큼만 쓰기 때문에 flush 중에 들어온 조회수는 다음 flush 로 넘어간다
+     * 실패하면 떼어 낸 만큼 되돌리고, 성공하면 그 사이 조회가 없던 id 만 지운다
+     * */
+    @Override
+    @Scheduled(fixedDelayString = "${view.flush-interval:5000}")
+    public synchronized int flush() {
+        int updated = 0;
+
+        for(ViewTargetEnum target: ViewTargetEnum.values()) {
+            final ConcurrentHashMap<Long, LongAdder> pending = counters.get(target);
+            List<Object[]> args = new ArrayList<>();
+            Map<Long, LongAdder> adders = new HashMap<>();
+
+            for(Map.Entry<Long, LongAdder> entry: pending.entrySet()) {
+                final long delta = entry.getValue().sumThenReset();
+
+                if(delta != 0)
+                    args.add(new Object[]{delta, entry.getKey()});
+
+                adders.put(entry.getKey(), entry.getValue());
+            }
+
+            if(!args.isEmpty()) {
+                try {
+                    jdbcTemplate.batchUpdate(
+                            "UPDATE " + target.getTable() + " SET view_num = view_num + ? WHERE " + target.getIdColumn() + " = ?",
+                            args
+                    );
+                } catch (RuntimeException e) {
+                    // 되돌려 두면 다음 flush 에 다시 시도된다
+                    log.error("view count flush failed {}", target, e);
+
+                    for(Object[] arg: args)
+                        adders.get((Long) arg[1]).add((Long) arg[0]);
+
+                    continue;
+                }
+            }
+
+            for(Map.Entry<Long, LongAdder> entry: adders.entrySet()) {
+                if(entry.getValue().sum() == 0)
+                    remove(pending, entry.getKey(), entry.getValue());
+            }
+
+            updated += args.size();
+        }
+
+        return updated;
+    }
+
+    /**
+     * flush 가 그 사이 adder 를 지웠으면 거기 들어간 조회수를 맵에 있는 adder 로 옮긴다
+     * */
+    private void add(final ConcurrentHashMap<Long, LongAdder> pending, final Long id, long delta) {
+        LongAdder adder = pending.computeIfAbsent(id, key -> new LongAdder());
+        adder.add(delta);
+
+        while(pending.get(id) != adder) {
+            delta = adder.sumThenReset();
+
+            if(delta == 0)
+                return;
+
+            adder = pending.computeIfAbsent(id, key -> new LongAdder());
+            adder.add(delta);
+        }
+    }
+
+    /**
+     * 지우는 사이 increase 가 들어왔으면 그 조회수는 다시 맵에 넣는다
+     * */
+    private void remove(final ConcurrentHashMap<Long, LongAdder> pending, final Long id, final LongAdder adder) {
+        if(!pending.remove(id, adder))
+            return;
+
+        final long left = adder.sumThenReset();
+
+        if(left != 0)
+            add(pending, id, left);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,98 @@
+package com.dearbella.server.util;
+
+import com.dearbella.server.dto.response.cursor.CursorResponseDto;
+import com.dearbella.server.exception.cursor.CursorNotValidException;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset 페이징 커서, 마지막 행의 정렬 키를 이어 붙여 base64url 로 감싼다
+ * 클라이언트는 내용을 해석하지 않고 받은 그대로 돌려준다
+ * */
+public class CursorUtil {
+    private static final String SEPARATOR = "|";
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    /**
+     * 한 번에 가져올 개수, 없으면 20 이고 100 을 넘지 않는다
+     * */
+    public static int size(final Long size) {
+        if(size == null || size < 1)
+            return DEFAULT_SIZE;
+
+        return (int) Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * 다음 페이지가 있는지 보려고 limit 보다 한 건 더 가져온다
+     * */
+    public static PageRequest fetch(final int limit) {
+        return PageRequest.of(0, limit + 1);
+    }
+
+    /**
+     * fetch(limit) 로 가져온 rows 를 limit 건으로 자르고, 넘친 행이 있으면 이 페이지 마지막 행으로 다음 커서를 만든다
+     * */
+    public static <T> CursorResponseDto<T> page(final List<T> rows, final int limit, final Function<T, String> cursorOf) {
+        if(rows.size() <= limit)
+            return new CursorResponseDto<>(rows, null);
+
+        final List<T> page = rows.subList(0, limit);
+
+        return new CursorResponseDto<>(page, cursorOf.apply(page.get(limit - 1)));
+    }
+
+    public static String encode(final Object... keys) {
+        StringBuilder builder = new StringBuilder();
+
+        for(int i = 0; i < keys.length; i++) {
+            if(i > 0)
+                builder.append(SEPARATOR);
+
+            builder.append(keys[i]);
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 키 개수가 다르거나 base64 가 아니면 CursorNotValidException
+     * */
+    public static String[] decode(final String cursor, final int size) {
+        final String[] keys;
+
+        try {
+            keys = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\" + SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new CursorNotValidException(cursor);
+        }
+
+        if(keys.length != size)
+            throw new CursorNotValidException(cursor);
+
+        return keys;
+    }
+
+    public static Long decodeLong(final String cursor, final String key) {
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new CursorNotValidException(cursor);
+        }
+    }
+
+    public static LocalDateTime decodeDateTime(final String cursor, final String key) {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new CursorNotValidException(cursor);
+        }
+    }
+}
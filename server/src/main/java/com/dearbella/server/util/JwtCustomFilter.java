@@ -1,8 +1,6 @@
 package com.dearbella.server.util;
 
-import com.dearbella.server.domain.Member;
-import com.dearbella.server.exception.member.MemberIdNotFoundException;
-import com.dearbella.server.repository.MemberRepository;
+import com.dearbella.server.service.auth.AuthCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,12 +17,11 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtCustomFilter extends OncePerRequestFilter {
-    private final MemberRepository memberRepository;
+    private final AuthCacheService authCacheService;
 
     @Override
     protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) throws ServletException, IOException {
@@ -47,11 +44,10 @@ public class JwtCustomFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Token 꺼내기
-        String token = authorizationHeader.split(" ")[1];
+        // Token 검증, MemberContextFilter 가 요청 앞에서 한 번 검증해 둔 결과를 쓴다
+        final Long id = MemberContext.findMemberId(request);
 
-        // Token 검증
-        if (!JwtUtil.validateToken(token)) {
+        if (id == null) {
             response.setStatus(HttpServletResponse.SC_FORBIDDEN);
             response.setContentType("text/plain;charset=UTF-8"); // content-type을 text/plain으로 설정
             response.getWriter().write("JWT Token is not valid");
@@ -59,33 +55,10 @@ public class JwtCustomFilter extends OncePerRequestFilter {
             return;
         }
 
-        Long id = JwtUtil.getMemberId();
+        //member 검증, 캐시에 없을 때만 member 를 조회한다
+        final String role = authCacheService.getRole(id);
 
-        final Optional<Member> memberOptional = memberRepository.findById(id);
-
-        //member 검증
-        final Member member = memberOptional.orElseThrow(
-                () -> new MemberIdNotFoundException(id.toString())
-        );
-
-        // Token 만료 체크
-        if (JwtUtil.isExpired(token)) {
-            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-            response.setContentType("text/plain;charset=UTF-8"); // content-type을 text/plain으로 설정
-            response.getWriter().write("JWT Token is expired");
-
-            return;
-        }
-
-        String role;
-
-        if(member.contain("ROLE_ADMIN")) {
-            role = "ROLE_ADMIN";
-        }
-        else if(member.contain("ROLE_USER")) {
-            role = "ROLE_USER";
-        }
-        else {
+        if (role == null) {
             response.setStatus(HttpServletResponse.SC_NOT_ACCEPTABLE);
             response.setContentType("text/plain;charset=UTF-8"); // content-type을 text/plain으로 설정
             response.getWriter().write("Member do not have permission");
@@ -94,7 +67,7 @@ public class JwtCustomFilter extends OncePerRequestFilter {
         }
 
         // 권한 부여
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(member, null, List.of(new SimpleGrantedAuthority(role)));
+        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(id, null, List.of(new SimpleGrantedAuthority(role)));
 
         // UserDetail을 통해 인증된 사용자 정보를 SecurityContext에 저장
         authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
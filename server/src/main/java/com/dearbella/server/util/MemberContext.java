@@ -0,0 +1,47 @@
+package com.dearbella.server.util;
+
+import com.dearbella.server.exception.token.TokenNotFoundException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * 요청마다 한 번 검증한 member id 를 request attribute 에 담아 두고 꺼내 쓴다
+ * MemberContextFilter 가 채우고 서비스는 JwtUtil 대신 여기서 읽는다
+ * */
+public class MemberContext {
+    private static final String MEMBER_ID = MemberContext.class.getName() + ".MEMBER_ID";
+
+    public static void setMemberId(final HttpServletRequest request, final Long memberId) {
+        request.setAttribute(MEMBER_ID, memberId);
+    }
+
+    public static Long findMemberId(final HttpServletRequest request) {
+        return (Long) request.getAttribute(MEMBER_ID);
+    }
+
+    /**
+     * 로그인하지 않았거나 요청 밖이면 null
+     * */
+    public static Long findMemberId() {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        if(attributes == null)
+            return null;
+
+        return (Long) attributes.getAttribute(MEMBER_ID, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * 로그인한 member id, 없으면 TokenNotFoundException
+     * */
+    public static Long getMemberId() {
+        final Long memberId = findMemberId();
+
+        if(memberId == null)
+            throw new TokenNotFoundException();
+
+        return memberId;
+    }
+}
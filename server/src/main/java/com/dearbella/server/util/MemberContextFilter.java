@@ -0,0 +1,31 @@
+package com.dearbella.server.util;
+
+import com.dearbella.server.service.auth.AuthCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * security 가 무시하는 /free/** 를 포함한 모든 요청에서 토큰을 한 번만 검증해 MemberContext 에 넣는다
+ * 토큰이 없거나 유효하지 않으면 비워 두고, 거절은 JwtCustomFilter 가 한다
+ * */
+@RequiredArgsConstructor
+public class MemberContextFilter extends OncePerRequestFilter {
+    private final AuthCacheService authCacheService;
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) throws ServletException, IOException {
+        final String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer "))
+            MemberContext.setMemberId(request, authCacheService.getMemberId(authorizationHeader.substring(7)));
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,17 @@
+package com.dearbella.server.util;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+public class PageUtil {
+    /**
+     * Page 면 실제 전체 페이지 수
+     * count 없이 가져온 Slice 면 다음 페이지가 있는지만 보고 page + 2 또는 page + 1 을 돌려준다
+     * */
+    public static Long totalPages(final Slice<?> slice) {
+        if(slice instanceof Page)
+            return (long) ((Page<?>) slice).getTotalPages();
+
+        return (long) slice.getNumber() + (slice.hasNext() ? 2 : 1);
+    }
+}
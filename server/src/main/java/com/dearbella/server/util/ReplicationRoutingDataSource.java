@@ -0,0 +1,203 @@
+package com.dearbella.server.util;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * readOnly 트랜잭션은 지연이 maxLag 이하인 replica 로 돌아가며 보내고, 나머지는 모두 primary 로 보낸다
+ * 커넥션을 얻는 시점에 readOnly 여부가 정해져 있어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 쓴다
+ * MeterRegistry 가 DataSource 를 먼저 찾으므로 메트릭은 생성자가 아니라 MeterBinder 로 등록한다
+ * */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder, Closeable {
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final long maxLagSeconds;
+    private final String lagQuery;
+    /**
+     * replica 이름 -> 마지막으로 확인한 지연(초), 확인하지 못했으면 -1
+     * */
+    private final Map<String, AtomicLong> lags = new HashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLong fallback = new AtomicLong();
+    private volatile List<String> healthy = List.of();
+
+    public ReplicationRoutingDataSource(final DataSource primary, final Map<String, DataSource> replicas, final Duration maxLag,
+                                        final String lagQuery) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.maxLagSeconds = maxLag.getSeconds();
+        this.lagQuery = lagQuery;
+
+        final Map<Object, Object> targets = new HashMap<>(replicas);
+
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        for(String name: replicas.keySet())
+            lags.put(name, new AtomicLong(-1));
+    }
+
+    /**
+     * replica 지연 / 상태, fallback 횟수, pool 별 hikaricp.* 메트릭
+     * */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        for(Map.Entry<String, AtomicLong> lag: lags.entrySet()) {
+            final String name = lag.getKey();
+
+            Gauge.builder("datasource.replica.lag", lag.getValue(), AtomicLong::get)
+                    .description("Replication lag in seconds, -1 when unknown")
+                    .baseUnit("seconds")
+                    .tag("pool", name)
+                    .register(registry);
+            Gauge.builder("datasource.replica.healthy", this, router -> router.healthy.contains(name) ? 1 : 0)
+                    .tag("pool", name)
+                    .register(registry);
+        }
+
+        FunctionCounter.builder("datasource.replica.fallback", fallback, AtomicLong::get)
+                .description("Read-only transactions sent to the primary because no replica was within the lag limit")
+                .register(registry);
+
+        bindPool(primary, registry);
+
+        for(DataSource replica: replicas.values())
+            bindPool(replica, registry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checkLag();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if(!TransactionSynchronizationManager.isCurrentTransactionReadOnly())
+            return PRIMARY;
+
+        final List<String> candidates = healthy;
+
+        if(candidates.isEmpty()) {
+            fallback.incrementAndGet();
+
+            return PRIMARY;
+        }
+
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    /**
+     * 지연이 maxLag 를 넘거나 확인할 수 없는 replica 는 다음 확인 때까지 빠진다
+     * */
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:5000}")
+    public void checkLag() {
+        final List<String> available = new ArrayList<>();
+
+        for(Map.Entry<String, DataSource> replica: replicas.entrySet()) {
+            final long lag = readLag(replica.getKey(), replica.getValue());
+
+            lags.get(replica.getKey()).set(lag);
+
+            if(lag >= 0 && lag <= maxLagSeconds)
+                available.add(replica.getKey());
+            else if(healthy.contains(replica.getKey()))
+                log.warn("replica {} removed from routing, lag {}s", replica.getKey(), lag);
+        }
+
+        healthy = List.copyOf(available);
+    }
+
+    public List<String> getHealthyReplicas() {
+        return healthy;
+    }
+
+    /**
+     * SHOW REPLICA STATUS 의 Seconds_Behind_Source (8.0.22 이전은 SHOW SLAVE STATUS 의 Seconds_Behind_Master)
+     * 복제가 멈췄으면 NULL 이 오므로 -1 로 본다
+     * */
+    private long readLag(final String name, final DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if(!resultSet.next())
+                return -1;
+
+            final ResultSetMetaData metaData = resultSet.getMetaData();
+
+            for(int i = 1; i <= metaData.getColumnCount(); i++) {
+                if(metaData.getColumnLabel(i).toLowerCase().startsWith("seconds_behind_")) {
+                    final long lag = resultSet.getLong(i);
+
+                    return resultSet.wasNull() ? -1 : lag;
+                }
+            }
+
+            return -1;
+        } catch (SQLException e) {
+            log.warn("replica {} lag check failed: {}", name, e.getMessage());
+
+            return -1;
+        }
+    }
+
+    private void bindPool(final DataSource dataSource, final MeterRegistry registry) {
+        try {
+            if(!dataSource.isWrapperFor(HikariDataSource.class))
+                return;
+
+            final HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+
+            if(hikari.getMetricRegistry() == null && hikari.getMetricsTrackerFactory() == null)
+                hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        } catch (SQLException e) {
+            log.warn("failed to bind pool metrics", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        for(DataSource dataSource: replicas.values())
+            closeQuietly(dataSource);
+
+        closeQuietly(primary);
+    }
+
+    private void closeQuietly(final DataSource dataSource) {
+        if(dataSource instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) dataSource).close();
+            } catch (Exception e) {
+                log.warn("failed to close datasource", e);
+            }
+        }
+    }
+}
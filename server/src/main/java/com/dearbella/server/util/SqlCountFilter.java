@@ -0,0 +1,49 @@
+package com.dearbella.server.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 요청 하나가 실행한 SQL 수를 http.server.requests.sql 로 남기고, warnThreshold 를 넘으면 warn 로그를 찍는다
+ * OSIV 의 지연 로딩까지 세도록 가장 바깥에서 감싼다
+ * */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlCountFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+    private final long warnThreshold;
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.start();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            final long count = SqlStatementCounter.stop();
+            final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            // 매핑되지 않은 경로는 하나로 묶어 태그가 늘어나지 않게 한다
+            final String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+            DistributionSummary.builder("http.server.requests.sql")
+                    .description("SQL statements per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(count);
+
+            if(count > warnThreshold)
+                log.warn("{} {} ran {} SQL statements", request.getMethod(), uri, count);
+        }
+    }
+}
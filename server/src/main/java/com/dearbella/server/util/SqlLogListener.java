@@ -0,0 +1,46 @@
+package com.dearbella.server.util;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.logging.DefaultJsonQueryLogEntryCreator;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * slowThreshold 이상 걸린 statement 는 모두, 나머지는 sampleRate 비율로만 "sql" logger 에 JSON 한 줄로 남긴다
+ * 실행 시간과 bind 값이 같이 찍히고, 출력은 logback 의 비동기 appender 가 맡는다
+ * */
+@Slf4j(topic = "sql")
+public class SqlLogListener implements QueryExecutionListener {
+    private final DefaultJsonQueryLogEntryCreator entryCreator = new DefaultJsonQueryLogEntryCreator();
+    private final long slowThresholdMillis;
+    private final double sampleRate;
+
+    public SqlLogListener(final long slowThresholdMillis, final double sampleRate) {
+        this.slowThresholdMillis = slowThresholdMillis;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        if(isSlow(execInfo))
+            log.warn(entryCreator.getLogEntry(execInfo, queryInfoList, false, true, false));
+        else if(isSampled())
+            log.info(entryCreator.getLogEntry(execInfo, queryInfoList, false, true, false));
+    }
+
+    boolean isSlow(final ExecutionInfo execInfo) {
+        return execInfo.getElapsedTime() >= slowThresholdMillis;
+    }
+
+    boolean isSampled() {
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
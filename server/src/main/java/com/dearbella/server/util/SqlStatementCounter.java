@@ -0,0 +1,36 @@
+package com.dearbella.server.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 statement 를 준비할 때마다 현재 스레드의 카운터를 올린다
+ * SqlCountFilter 가 요청 앞뒤로 start / stop 하고, 요청 밖(스케줄러 등)에서는 세지 않는다
+ * */
+public class SqlStatementCounter implements StatementInspector {
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    public static void start() {
+        COUNT.set(new long[1]);
+    }
+
+    /**
+     * 이번 요청에서 센 statement 수, start 하지 않았으면 0
+     * */
+    public static long stop() {
+        final long[] count = COUNT.get();
+
+        COUNT.remove();
+
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(final String sql) {
+        final long[] count = COUNT.get();
+
+        if(count != null)
+            count[0]++;
+
+        return sql;
+    }
+}
@@ -0,0 +1,24 @@
+package com.dearbella.server.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 실행, 트랜잭션 밖이면 바로 실행
+     * 롤백되면 실행하지 않는다
+     * */
+    public static void afterCommit(final Runnable runnable) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
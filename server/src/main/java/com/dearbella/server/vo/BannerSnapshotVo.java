@@ -0,0 +1,28 @@
+package com.dearbella.server.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 미리 직렬화해 둔 배너 목록과 그 ETag
+ * */
+@AllArgsConstructor
+@Getter
+public class BannerSnapshotVo {
+    /**
+     * List<BannerResponseDto> 의 JSON, 배너가 없으면 null
+     * */
+    private final byte[] body;
+    private final String etag;
+    private final long builtAt;
+
+    public boolean isEmpty() {
+        return body == null;
+    }
+
+    public boolean isExpired(final Duration ttl) {
+        return System.currentTimeMillis() - builtAt >= ttl.toMillis();
+    }
+}
@@ -0,0 +1,32 @@
+package com.dearbella.server.vo;
+
+import com.dearbella.server.domain.Category;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 의사 목록 한 줄, 카탈로그에 그대로 들어가므로 setter 를 두지 않는다
+ * categoryMask 는 category_num 번째 비트가 켜져 있으면 그 분야
+ * */
+@AllArgsConstructor
+@Builder
+@Getter
+public class DoctorCatalogVo {
+    private final Long doctorId;
+    private final String doctorName;
+    private final String doctorImage;
+    private final String hospitalName;
+    private final String description;
+    private final List<Category> parts;
+    private final long categoryMask;
+    private final Float totalRate;
+    private final Long viewNum;
+    private final Long reviewNum;
+
+    public boolean hasCategory(final long categoryBit) {
+        return (categoryMask & categoryBit) != 0;
+    }
+}
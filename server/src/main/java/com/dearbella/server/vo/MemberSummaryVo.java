@@ -0,0 +1,20 @@
+package com.dearbella.server.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 목록에 작성자를 붙일 때 쓰는 member 요약, 캐시에 그대로 들어가므로 setter 를 두지 않는다
+ * */
+@AllArgsConstructor
+@Builder
+@Getter
+@ToString
+public class MemberSummaryVo {
+    private Long memberId;
+    private String nickname;
+    private String profileImg;
+    private String loginEmail;
+}
@@ -0,0 +1,24 @@
+package com.dearbella.server.vo;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * (doctor, hospital) 별 리뷰 수와 평점 합, 리뷰를 한 번에 지울 때 평점을 되돌리는 데 쓴다
+ * */
+@Getter
+@ToString
+public class ReviewRatingVo {
+    private final Long doctorId;
+    private final Long hospitalId;
+    private final Long count;
+    private final Double rateSum;
+
+    public ReviewRatingVo(final Long doctorId, final Long hospitalId, final Long count, final Double rateSum) {
+        this.doctorId = doctorId;
+        this.hospitalId = hospitalId;
+        this.count = count;
+        // 평점이 모두 null 이면 sum 도 null
+        this.rateSum = rateSum == null ? 0 : rateSum;
+    }
+}
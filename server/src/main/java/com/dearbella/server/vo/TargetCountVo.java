@@ -0,0 +1,16 @@
+package com.dearbella.server.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 대상 id 별 개수, 카운터 컬럼을 한 번에 보정할 때 쓴다
+ * */
+@AllArgsConstructor
+@Getter
+@ToString
+public class TargetCountVo {
+    private Long targetId;
+    private Long count;
+}
@@ -0,0 +1,17 @@
+package com.dearbella.server.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+/**
+ * 한 요청에서 같은 디렉터리로 올라가는 파일 묶음, 여러 묶음을 한 번에 올릴 때 쓴다
+ * */
+@AllArgsConstructor(staticName = "of")
+@Getter
+public class UploadGroupVo {
+    private List<MultipartFile> multipartFiles;
+    private String dirName;
+}
@@ -0,0 +1,37 @@
+package com.dearbella.server.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * server 프로필의 batch insert 설정이 spring.* 아래에 실제로 들어가 있는지 본다
+ * */
+class ServerProfileTest {
+    @Test
+    void batchSettingsAreUnderSpringRoot() throws IOException {
+        final PropertySource<?> server = new YamlPropertySourceLoader()
+                .load("server", new ClassPathResource("application-server.yml")).get(0);
+
+        assertThat(server.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size")).isEqualTo(50);
+        assertThat(server.getProperty("spring.jpa.properties.hibernate.order_inserts")).isEqualTo(true);
+        assertThat(server.getProperty("spring.jpa.properties.hibernate.order_updates")).isEqualTo(true);
+        assertThat(server.getProperty("spring.datasource.url").toString()).contains("rewriteBatchedStatements=true");
+    }
+
+    /**
+     * 없으면 ON DUPLICATE KEY UPDATE 가 중복일 때도 1 을 돌려줘서 like_num 이 두 번 오른다
+     * */
+    @Test
+    void duplicateInsertsReportZeroAffectedRows() throws IOException {
+        final PropertySource<?> server = new YamlPropertySourceLoader()
+                .load("server", new ClassPathResource("application-server.yml")).get(0);
+
+        assertThat(server.getProperty("spring.datasource.url").toString()).contains("useAffectedRows=true");
+    }
+}
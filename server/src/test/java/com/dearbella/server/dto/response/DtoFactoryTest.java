@@ -0,0 +1,73 @@
+package com.dearbella.server.dto.response;
+
+import com.dearbella.server.domain.*;
+import com.dearbella.server.dto.response.admin.AdminResponseDto;
+import com.dearbella.server.dto.response.banner.BannerDetailResponseDto;
+import com.dearbella.server.dto.response.banner.BannerResponseDto;
+import com.dearbella.server.dto.response.login.LoginResponseDto;
+import com.dearbella.server.dto.response.review.ReviewDetailResponseDto;
+import com.dearbella.server.dto.response.review.ReviewResponseDto;
+import com.dearbella.server.dto.response.token.TokenResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.dearbella.server.config.MapperConfig.modelMapper;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * of() 가 기존 ModelMapper(STRICT) 결과와 같은 값을 채우는지 확인
+ * */
+class DtoFactoryTest {
+    private final List<Image> images = List.of(Image.builder().imageId(1L).imageUrl("image-1").memberId(1L).build());
+
+    @Test
+    void reviewDtosMatchModelMapper() {
+        final Review review = Review.builder()
+                .reviewId(1L).title("Nose").content("content").deleted(false).updatedAt(LocalDateTime.now())
+                .memberId(2L).hospitalId(3L).hospitalName("hospital").doctorId(4L).doctorName("doctor")
+                .rate(4.5F).viewNum(10L).likeNum(3L).befores(images).afters(images)
+                .build();
+
+        assertThat(ReviewResponseDto.of(review)).usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(review, ReviewResponseDto.class));
+        assertThat(ReviewDetailResponseDto.of(review)).usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(review, ReviewDetailResponseDto.class));
+    }
+
+    @Test
+    void bannerDtosMatchModelMapper() {
+        final Banner banner = Banner.builder()
+                .bannerId(1L).bannerLocation(true).bannerLink("link").sequence(1L).hospitalName("hospital")
+                .mainImage("main").hospitalLocation("Seoul").description("description")
+                .bannerImages(images).bannerDetailImages(images).bannerInfra(List.of()).adminId(1L)
+                .build();
+
+        assertThat(BannerResponseDto.of(banner)).usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(banner, BannerResponseDto.class));
+        assertThat(BannerDetailResponseDto.of(banner)).usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(banner, BannerDetailResponseDto.class));
+    }
+
+    @Test
+    void memberDtosMatchModelMapper() {
+        final Member member = Member.builder().memberId(1L).nickname("member").loginEmail("member@dearbella.com")
+                .profileImg("profile").phone("010").ban(false).build();
+        final Token token = Token.builder().memberId(1L).accessToken("access").refreshToken("refresh")
+                .accessTokenExpiredAt(LocalDate.now()).refreshTokenExpiredAt(LocalDate.now()).build();
+        final Admin admin = Admin.builder().memberId(1L).adminId("admin").adminPassword("password")
+                .hospitalName("hospital").hospitalId(2L).build();
+
+        LoginResponseDto login = modelMapper.map(member, LoginResponseDto.class);
+        login.setAccessToken(token.getAccessToken());
+        login.setRefreshToken(token.getRefreshToken());
+
+        assertThat(LoginResponseDto.of(member, token)).usingRecursiveComparison().isEqualTo(login);
+        assertThat(TokenResponseDto.of(token)).usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(token, TokenResponseDto.class));
+        assertThat(AdminResponseDto.of(admin)).usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(admin, AdminResponseDto.class));
+    }
+}
@@ -0,0 +1,135 @@
+package com.dearbella.server.loadtest;
+
+import org.hibernate.stat.Statistics;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 엔드포인트 하나에 동시 요청을 보내고 지연 분위수, 처리량, 요청당 SQL 수를 잰다
+ * 요청 수를 다 채우거나 시간 예산을 넘기면 멈춘다
+ * */
+public class LoadDriver {
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Statistics statistics;
+    private final int concurrency;
+    private final int requests;
+    private final Duration budget;
+
+    public LoadDriver(final Statistics statistics, final int concurrency, final int requests, final Duration budget) {
+        this.statistics = statistics;
+        this.concurrency = concurrency;
+        this.requests = requests;
+        this.budget = budget;
+    }
+
+    public Result run(final String name, final int rows, final String url) throws InterruptedException {
+        // 워밍업, 캐시와 JIT 를 채운다
+        for(int i = 0; i < Math.min(3, requests); i++)
+            send(url);
+
+        final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger remaining = new AtomicInteger(requests);
+        final AtomicInteger errors = new AtomicInteger();
+        final AtomicLong bytes = new AtomicLong();
+        final long deadline = System.nanoTime() + budget.toNanos();
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+        final long statementsBefore = statistics.getPrepareStatementCount();
+        final long start = System.nanoTime();
+
+        for(int i = 0; i < concurrency; i++) {
+            executor.execute(() -> {
+                while(remaining.getAndDecrement() > 0 && System.nanoTime() < deadline) {
+                    final long begin = System.nanoTime();
+                    final HttpResponse<byte[]> response = send(url);
+
+                    latencies.add(System.nanoTime() - begin);
+
+                    if(response == null || response.statusCode() >= 400)
+                        errors.incrementAndGet();
+                    else
+                        bytes.addAndGet(response.body().length);
+                }
+            });
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(budget.toMillis() + 60_000, TimeUnit.MILLISECONDS);
+
+        final long elapsed = System.nanoTime() - start;
+        final long statements = statistics.getPrepareStatementCount() - statementsBefore;
+        final List<Long> sorted = new ArrayList<>(latencies);
+
+        Collections.sort(sorted);
+
+        return new Result(
+                name,
+                rows,
+                sorted.size(),
+                errors.get(),
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.99),
+                sorted.size() / (elapsed / 1_000_000_000.0),
+                sorted.isEmpty() ? 0 : (double) statements / sorted.size(),
+                sorted.isEmpty() ? 0 : bytes.get() / sorted.size()
+        );
+    }
+
+    private HttpResponse<byte[]> send(final String url) {
+        try {
+            return client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static double percentile(final List<Long> sorted, final double p) {
+        if(sorted.isEmpty())
+            return 0;
+
+        final int index = (int) Math.ceil(p * sorted.size()) - 1;
+
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    public static class Result {
+        public final String endpoint;
+        public final int rows;
+        public final int requests;
+        public final int errors;
+        public final double p50Millis;
+        public final double p99Millis;
+        public final double throughput;
+        public final double statementsPerRequest;
+        public final long bytesPerResponse;
+
+        public Result(final String endpoint, final int rows, final int requests, final int errors, final double p50Millis,
+                      final double p99Millis, final double throughput, final double statementsPerRequest, final long bytesPerResponse) {
+            this.endpoint = endpoint;
+            this.rows = rows;
+            this.requests = requests;
+            this.errors = errors;
+            this.p50Millis = p50Millis;
+            this.p99Millis = p99Millis;
+            this.throughput = throughput;
+            this.statementsPerRequest = statementsPerRequest;
+            this.bytesPerResponse = bytesPerResponse;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-34s %8d %6d %5d %10.2f %10.2f %10.1f %10.1f %12d",
+                    endpoint, rows, requests, errors, p50Millis, p99Millis, throughput, statementsPerRequest, bytesPerResponse);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.dearbella.server.loadtest;
+
+import com.dearbella.server.service.search.SearchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ./gradlew loadTest -Dloadtest.rows=1000,10000,100000
+ * 행 수를 키워 가며 공개 목록 API 의 p50/p99, 처리량, 요청당 SQL 수를 잰다
+ * 결과는 build/reports/loadtest/results.json
+ * */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "PROFILE=loadtest")
+@ActiveProfiles("loadtest")
+class LoadTest {
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Test
+    void publicListEndpointsScaleWithRows() throws Exception {
+        final LoadTestDataGenerator generator = new LoadTestDataGenerator(entityManagerFactory);
+        final LoadDriver driver = new LoadDriver(
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics(),
+                Integer.getInteger("loadtest.concurrency", 8),
+                Integer.getInteger("loadtest.requests", 200),
+                Duration.ofSeconds(Long.getLong("loadtest.budget-seconds", 30L))
+        );
+        final List<LoadDriver.Result> results = new ArrayList<>();
+
+        System.out.printf("%-34s %8s %6s %5s %10s %10s %10s %10s %12s%n",
+                "endpoint", "rows", "reqs", "err", "p50(ms)", "p99(ms)", "req/s", "sql/req", "bytes/resp");
+
+        for(String level: System.getProperty("loadtest.rows", "1000,10000,100000").split(",")) {
+            final int rows = Integer.parseInt(level.trim());
+
+            generator.generateUpTo(rows);
+            searchService.rebuild();
+
+            for(Map.Entry<String, String> endpoint: endpoints().entrySet()) {
+                final LoadDriver.Result result = driver.run(endpoint.getKey(), rows, "http://localhost:" + port + endpoint.getValue());
+
+                System.out.println(result);
+                results.add(result);
+            }
+        }
+
+        final File report = new File("build/reports/loadtest/results.json");
+        write(report, results);
+
+        assertThat(results).allSatisfy(result -> assertThat(result.errors).isZero());
+    }
+
+    private Map<String, String> endpoints() {
+        Map<String, String> endpoints = new LinkedHashMap<>();
+
+        endpoints.put("hospital/all", "/free/hospital/all?category=0&sort=0");
+        endpoints.put("hospital/all?size=20", "/free/hospital/all?category=0&sort=0&page=0&size=20");
+        endpoints.put("doctor/all", "/free/doctor/all?category=1&sort=0");
+        endpoints.put("post/all", "/free/post/all?tagId=1");
+        endpoints.put("post/feed?size=20", "/free/post/feed?tagId=1&size=20");
+        endpoints.put("review/search/query", "/free/review/search/query?query=Nose&page=0&size=20");
+        endpoints.put("comment/all", "/free/comment/all?id=1");
+
+        return endpoints;
+    }
+
+    private void write(final File report, final List<LoadDriver.Result> results) throws IOException {
+        report.getParentFile().mkdirs();
+
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(report, results);
+    }
+}
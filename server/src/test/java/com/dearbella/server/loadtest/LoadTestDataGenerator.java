@@ -0,0 +1,205 @@
+package com.dearbella.server.loadtest;
+
+import com.dearbella.server.domain.*;
+import com.dearbella.server.enums.doctor.CategoryEnum;
+import com.dearbella.server.enums.post.TagEnum;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * 병원, 원장, 리뷰, 게시글, 댓글, 좋아요를 같은 개수만큼 만든다
+ * 여러 번 부르면 이어서 만들기 때문에 1k -> 10k -> 100k 처럼 키워 가며 잴 수 있다
+ * */
+public class LoadTestDataGenerator {
+    private static final int CHUNK = 1000;
+    /**
+     * 댓글은 앞쪽 게시글 100개에 나눠 단다, /free/comment/all 은 게시글 하나의 댓글을 읽는다
+     * */
+    public static final int COMMENTED_POSTS = 100;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Random random = new Random(42);
+
+    private List<Category> categories;
+    private List<Tag> tags;
+    private List<Image> images;
+    private List<Long> memberIds;
+    private int generated = 0;
+
+    public LoadTestDataGenerator(final EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public int getGenerated() {
+        return generated;
+    }
+
+    /**
+     * 각 엔티티가 rows 개가 될 때까지 채운다
+     * */
+    public void generateUpTo(final int rows) {
+        if(categories == null)
+            seed();
+
+        while(generated < rows) {
+            final int from = generated;
+            final int to = Math.min(rows, from + CHUNK);
+
+            inTransaction(em -> {
+                for(int i = from; i < to; i++)
+                    persistRow(em, i);
+            });
+
+            generated = to;
+        }
+    }
+
+    private void seed() {
+        inTransaction(em -> {
+            categories = new ArrayList<>();
+            tags = new ArrayList<>();
+            images = new ArrayList<>();
+            memberIds = new ArrayList<>();
+
+            for(CategoryEnum value: CategoryEnum.values()) {
+                final Category category = Category.builder().categoryNum(value.getValue()).categoryName(value.name()).build();
+
+                em.persist(category);
+                categories.add(category);
+            }
+
+            for(TagEnum value: TagEnum.values()) {
+                final Tag tag = Tag.builder().tagId(value.getValue()).tagName(value.name()).build();
+
+                em.persist(tag);
+                tags.add(tag);
+            }
+
+            final Authority user = Authority.builder().authorityName("ROLE_USER").build();
+            em.persist(user);
+
+            for(int i = 0; i < 20; i++) {
+                final Image image = Image.builder().imageUrl("https://dearbella.local/image-" + i + ".png").memberId(1L).build();
+
+                em.persist(image);
+                images.add(image);
+            }
+
+            for(long id = 1; id <= 1000; id++) {
+                em.persist(
+                        Member.builder()
+                                .memberId(id)
+                                .nickname("member-" + id)
+                                .loginEmail("member-" + id + "@dearbella.local")
+                                .profileImg("https://dearbella.local/profile-" + id + ".png")
+                                .authorities(List.of(user))
+                                .ban(false)
+                                .build()
+                );
+                memberIds.add(id);
+            }
+        });
+    }
+
+    private void persistRow(final EntityManager em, final int i) {
+        final Image image = em.getReference(Image.class, images.get(i % images.size()).getImageId());
+        final Category category = em.getReference(Category.class, categories.get(1 + i % (categories.size() - 1)).getCategoryNum());
+        final Tag tag = em.getReference(Tag.class, tags.get(1 + i % (tags.size() - 1)).getTagId());
+        final Long memberId = memberIds.get(i % memberIds.size());
+        final String hospitalName = "hospital-" + i;
+        final float rate = 1 + random.nextInt(5);
+
+        // hospital_banner 는 image_id 가 unique 라서 병원마다 따로 만든다
+        final Image banner = Image.builder().imageUrl("https://dearbella.local/banner-" + i + ".png").memberId(1L).build();
+        em.persist(banner);
+
+        final Hospital hospital = Hospital.builder()
+                .hospitalName(hospitalName)
+                .hospitalLocation("Seoul")
+                .description("description " + i)
+                .banners(List.of(banner))
+                .totalRate(rate)
+                .rateSum((double) rate)
+                .reviewNum(1L)
+                .viewNum((long) random.nextInt(10000))
+                .deleted(false)
+                .build();
+        em.persist(hospital);
+
+        final Doctor doctor = Doctor.builder()
+                .doctorName("doctor-" + i)
+                .hospitalName(hospitalName)
+                .categories(List.of(category))
+                .totalRate(rate)
+                .rateSum((double) rate)
+                .reviewNum(1L)
+                .viewNum((long) random.nextInt(10000))
+                .deleted(false)
+                .build();
+        em.persist(doctor);
+
+        final Review review = Review.builder()
+                .title(category.getCategoryName() + " review " + i)
+                .content("content " + i)
+                .memberId(memberId)
+                .hospitalId(hospital.getHospitalId())
+                .hospitalName(hospitalName)
+                .doctorId(doctor.getDoctorId())
+                .doctorName(doctor.getDoctorName())
+                .rate(rate)
+                .viewNum((long) random.nextInt(10000))
+                .likeNum(1L)
+                .befores(List.of(image))
+                .afters(List.of(image))
+                .deleted(false)
+                .build();
+        em.persist(review);
+
+        final Post post = Post.builder()
+                .tag(tag)
+                .title("post " + i)
+                .content("content " + i)
+                .memberId(memberId)
+                .postImages(new ArrayList<>())
+                .viewNum((long) random.nextInt(10000))
+                .likeNum(1L)
+                .commentNum(1L)
+                .deleted(false)
+                .build();
+        em.persist(post);
+
+        final Comment comment = Comment.builder()
+                .id(1L + i % COMMENTED_POSTS)
+                .memberId(memberId)
+                .content("comment " + i)
+                .description("커뮤니티 댓글")
+                .likeNum(1L)
+                .deleted(false)
+                .build();
+        em.persist(comment);
+
+        em.persist(PostLike.builder().postId(post.getPostId()).memberId(memberId).build());
+        em.persist(ReviewLike.builder().reviewId(review.getReviewId()).memberId(memberId).build());
+        em.persist(CommentLike.builder().commentId(comment.getCommentId()).memberId(memberId).build());
+    }
+
+    private void inTransaction(final Consumer<EntityManager> work) {
+        final EntityManager em = entityManagerFactory.createEntityManager();
+
+        try {
+            em.getTransaction().begin();
+            work.accept(em);
+            em.getTransaction().commit();
+        } finally {
+            if(em.getTransaction().isActive())
+                em.getTransaction().rollback();
+
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.dearbella.server.repository;
+
+import com.dearbella.server.domain.Doctor;
+import com.dearbella.server.domain.Review;
+import com.dearbella.server.service.counter.CounterServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "PROFILE=test")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DoctorRepositoryTest {
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void addRatingKeepsSumCountAndAverageTogether() {
+        final Long doctorId = em.persist(
+                Doctor.builder().doctorName("doctor").viewNum(0L).reviewNum(0L).rateSum(0D).totalRate(0F).deleted(false).build()
+        ).getDoctorId();
+
+        doctorRepository.addRating(doctorId, 1L, 5D);
+        doctorRepository.addRating(doctorId, 1L, 2D);
+        doctorRepository.addRating(doctorId, 1L, 4D);
+        doctorRepository.addRating(doctorId, -1L, -2D);
+        em.clear();
+
+        Doctor doctor = em.find(Doctor.class, doctorId);
+
+        assertThat(doctor.getReviewNum()).isEqualTo(2L);
+        assertThat(doctor.getRateSum()).isEqualTo(9D);
+        assertThat(doctor.getTotalRate()).isEqualTo(4.5F);
+
+        doctorRepository.addRating(doctorId, -1L, -5D);
+        doctorRepository.addRating(doctorId, -1L, -4D);
+        em.clear();
+
+        doctor = em.find(Doctor.class, doctorId);
+
+        assertThat(doctor.getReviewNum()).isZero();
+        assertThat(doctor.getTotalRate()).isZero();
+    }
+
+    @Test
+    void reconcileRecomputesRating() {
+        final Long doctorId = em.persist(
+                Doctor.builder().doctorName("doctor").viewNum(0L).reviewNum(7L).rateSum(1D).totalRate(1F).deleted(false).build()
+        ).getDoctorId();
+
+        em.persist(Review.builder().doctorId(doctorId).rate(3F).deleted(false).viewNum(0L).likeNum(0L).build());
+        em.persist(Review.builder().doctorId(doctorId).rate(4F).deleted(false).viewNum(0L).likeNum(0L).build());
+        em.persist(Review.builder().doctorId(doctorId).rate(1F).deleted(true).viewNum(0L).likeNum(0L).build());
+        em.flush();
+
+        new CounterServiceImpl(jdbcTemplate).reconcile();
+        em.clear();
+
+        final Doctor doctor = em.find(Doctor.class, doctorId);
+
+        assertThat(doctor.getReviewNum()).isEqualTo(2L);
+        assertThat(doctor.getRateSum()).isEqualTo(7D);
+        assertThat(doctor.getTotalRate()).isEqualTo(3.5F);
+    }
+}
@@ -0,0 +1,115 @@
+package com.dearbella.server.repository;
+
+import com.dearbella.server.domain.*;
+import com.dearbella.server.dto.projection.HospitalListProjection;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "PROFILE=test")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class HospitalRepositoryTest {
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Test
+    void hospitalListRunsOneStatementRegardlessOfSize() {
+        final Category nose = em.persist(Category.builder().categoryNum(1L).categoryName("Nose").build());
+
+        seed(10, nose);
+        final long small = countStatements(1L);
+
+        seed(200, nose);
+        final long large = countStatements(1L);
+
+        assertThat(small).isEqualTo(1L);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void hospitalListFillsCountsWishAndBanner() {
+        final Category nose = em.persist(Category.builder().categoryNum(1L).categoryName("Nose").build());
+        seed(3, nose);
+
+        final Hospital first = hospitalRepository.findAll().get(0);
+        em.persist(HospitalMember.builder().hospitalId(first.getHospitalId()).memberId(7L).build());
+        hospitalRepository.addRating(first.getHospitalId(), 1L, 5D);
+        em.flush();
+        em.clear();
+
+        final List<HospitalListProjection> rows = hospitalRepository.findHospitalList(1L, 0L, 7L, PageRequest.of(0, 2));
+
+        assertThat(rows).hasSize(2);
+
+        final HospitalListProjection row = hospitalRepository.findHospitalList(0L, 0L, 7L, Pageable.unpaged()).stream()
+                .filter(r -> r.getHospitalId().equals(first.getHospitalId()))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(row.getWished()).isEqualTo(1L);
+        assertThat(row.getReviewNum()).isEqualTo(1L);
+        assertThat(row.getHospitalImage()).isEqualTo("banner-0");
+    }
+
+    private long countStatements(Long category) {
+        em.flush();
+        em.clear();
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        hospitalRepository.findHospitalList(category, 0L, 7L, Pageable.unpaged());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void seed(int count, Category category) {
+        for(int i = 0; i < count; i++) {
+            final String name = "hospital-" + System.nanoTime() + "-" + i;
+            final Image banner = em.persist(Image.builder().imageUrl("banner-" + i).memberId(1L).build());
+
+            em.persist(
+                    Hospital.builder()
+                            .hospitalName(name)
+                            .banners(List.of(banner))
+                            .totalRate((float) i)
+                            .viewNum((long) i)
+                            .reviewNum(0L)
+                            .deleted(false)
+                            .build()
+            );
+
+            em.persist(
+                    Doctor.builder()
+                            .doctorName("doctor-" + i)
+                            .hospitalName(name)
+                            .categories(List.of(category))
+                            .totalRate(0F)
+                            .viewNum(0L)
+                            .deleted(false)
+                            .build()
+            );
+
+            em.persist(Review.builder().hospitalId(-1L).deleted(false).rate(1F).viewNum(0L).build());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.dearbella.server.repository;
+
+import com.dearbella.server.domain.Image;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "PROFILE=test")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ImageRepositoryTest {
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Test
+    void thirtyImagesAreOneBatchInsert() {
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<String> urls = new ArrayList<>();
+
+        for(int i = 0; i < 30; i++)
+            urls.add("https://dearbella.local/hospital/image-" + i + ".png");
+
+        statistics.clear();
+
+        final List<Image> images = imageRepository.saveAll(Image.of(urls, 1L));
+        em.flush();
+
+        // image_seq 한 번 + batch insert 한 번
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(30L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+        assertThat(images).extracting(Image::getImageId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+}
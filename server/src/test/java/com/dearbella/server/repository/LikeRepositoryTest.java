@@ -0,0 +1,60 @@
+package com.dearbella.server.repository;
+
+import com.dearbella.server.domain.HospitalMember;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "PROFILE=test")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class LikeRepositoryTest {
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private HospitalMemberRepository hospitalMemberRepository;
+
+    @Test
+    void secondInsertIsIgnoredAndDeleteIsPerMember() {
+        assertThat(postLikeRepository.insertIfAbsent(1L, 1L)).isEqualTo(1);
+        assertThat(postLikeRepository.insertIfAbsent(1L, 1L)).isZero();
+        assertThat(postLikeRepository.insertIfAbsent(1L, 2L)).isEqualTo(1);
+        assertThat(commentLikeRepository.insertIfAbsent(1L, 1L)).isEqualTo(1);
+        assertThat(commentLikeRepository.insertIfAbsent(1L, 1L)).isZero();
+
+        assertThat(postLikeRepository.deleteByPostIdAndMemberId(1L, 1L)).isEqualTo(1);
+        assertThat(postLikeRepository.deleteByPostIdAndMemberId(1L, 1L)).isZero();
+        assertThat(postLikeRepository.findByPostId(1L)).hasSize(1);
+    }
+
+    @Test
+    void wishesAreUniquePerMember() {
+        assertThat(hospitalMemberRepository.insertIfAbsent(1L, 1L)).isEqualTo(1);
+        assertThat(hospitalMemberRepository.insertIfAbsent(1L, 1L)).isZero();
+        assertThat(hospitalMemberRepository.insertIfAbsent(1L, 2L)).isEqualTo(1);
+        assertThat(hospitalMemberRepository.findByHospitalIdAndMemberId(1L, 1L).get().getCreatedAt()).isNotNull();
+
+        assertThat(hospitalMemberRepository.deleteByHospitalIdAndMemberId(1L, 1L)).isEqualTo(1);
+        assertThat(hospitalMemberRepository.existsByHospitalIdAndMemberId(1L, 2L)).isTrue();
+
+        // 이전처럼 save 로 넣어도 unique key 에 걸린다
+        assertThatThrownBy(() -> {
+            hospitalMemberRepository.save(HospitalMember.builder().hospitalId(1L).memberId(2L).build());
+            em.flush();
+        }).isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package com.dearbella.server.repository;
+
+import com.dearbella.server.domain.Post;
+import com.dearbella.server.domain.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "PROFILE=test")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostRepositoryTest {
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Test
+    void feedWalksEveryPostOnceInCreatedOrder() {
+        final Tag tag = em.persist(Tag.builder().tagId(1L).tagName("FREE").build());
+        final LocalDateTime now = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+        // 같은 시각에 쓰인 글이 섞여 있어도 post_id 로 순서가 이어져야 한다
+        for(int i = 0; i < 25; i++) {
+            final Post post = em.persist(Post.builder().tag(tag).title("post-" + i).memberId(1L).viewNum(0L).deleted(i == 3).build());
+            post.setCreatedAt(now.plusMinutes(i / 4));
+        }
+
+        em.flush();
+        em.clear();
+
+        List<Post> walked = new ArrayList<>();
+        List<Post> page = postRepository.findFeed(1L, PageRequest.of(0, 10));
+
+        while(!page.isEmpty()) {
+            walked.addAll(page);
+
+            final Post last = page.get(page.size() - 1);
+            page = postRepository.findFeedAfter(1L, last.getCreatedAt(), last.getPostId(), PageRequest.of(0, 10));
+        }
+
+        final List<Post> expected = postRepository.findAll().stream()
+                .filter(post -> !post.getDeleted())
+                .sorted((a, b) -> a.getCreatedAt().equals(b.getCreatedAt())
+                        ? b.getPostId().compareTo(a.getPostId())
+                        : b.getCreatedAt().compareTo(a.getCreatedAt()))
+                .collect(Collectors.toList());
+
+        assertThat(walked).extracting(Post::getPostId)
+                .hasSize(24)
+                .doesNotHaveDuplicates()
+                .containsExactlyElementsOf(expected.stream().map(Post::getPostId).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,99 @@
+package com.dearbella.server.repository;
+
+import com.dearbella.server.domain.Doctor;
+import com.dearbella.server.domain.DoctorMember;
+import com.dearbella.server.domain.Hospital;
+import com.dearbella.server.domain.HospitalMember;
+import com.dearbella.server.dto.projection.MyDoctorProjection;
+import com.dearbella.server.dto.projection.MyHospitalProjection;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "PROFILE=test")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class WishRepositoryTest {
+    private static final long MEMBER = 1L;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private HospitalMemberRepository hospitalMemberRepository;
+
+    @Autowired
+    private DoctorMemberRepository doctorMemberRepository;
+
+    @Test
+    void hospitalWishesSkipDeletedAndPageByWishId() {
+        final Long first = hospital("first", false);
+        final Long deleted = hospital("deleted", true);
+        final Long second = hospital("second", false);
+
+        em.persist(HospitalMember.builder().hospitalId(first).memberId(MEMBER).build());
+        em.persist(HospitalMember.builder().hospitalId(deleted).memberId(MEMBER).build());
+        em.persist(HospitalMember.builder().hospitalId(second).memberId(MEMBER).build());
+        em.persist(HospitalMember.builder().hospitalId(first).memberId(2L).build());
+        final Statistics statistics = flush();
+
+        final List<MyHospitalProjection> page = hospitalMemberRepository.findWishes(MEMBER, Long.MAX_VALUE, PageRequest.of(0, 1));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(page).extracting(MyHospitalProjection::getHospitalName).containsExactly("second");
+        assertThat(page.get(0).getReviewNum()).isEqualTo(3L);
+        assertThat(hospitalMemberRepository.findWishes(MEMBER, page.get(0).getWishId(), PageRequest.of(0, 10)))
+                .extracting(MyHospitalProjection::getHospitalId).containsExactly(first);
+    }
+
+    @Test
+    void doctorWishesSkipDeletedDoctors() {
+        final Long kept = doctor("kept", false);
+        final Long deleted = doctor("deleted", true);
+
+        em.persist(DoctorMember.builder().doctorId(kept).memberId(MEMBER).build());
+        em.persist(DoctorMember.builder().doctorId(deleted).memberId(MEMBER).build());
+        flush();
+
+        assertThat(doctorMemberRepository.findWishes(MEMBER, Long.MAX_VALUE, PageRequest.of(0, 10)))
+                .extracting(MyDoctorProjection::getDoctorName).containsExactly("kept");
+    }
+
+    private Long hospital(final String name, final Boolean deleted) {
+        return em.persist(
+                Hospital.builder().hospitalName(name).hospitalLocation("Seoul").totalRate(4.0F).reviewNum(3L).rateSum(12D)
+                        .viewNum(0L).deleted(deleted).build()
+        ).getHospitalId();
+    }
+
+    private Long doctor(final String name, final Boolean deleted) {
+        return em.persist(
+                Doctor.builder().doctorName(name).hospitalName("hospital").totalRate(0F).reviewNum(0L).rateSum(0D)
+                        .viewNum(0L).deleted(deleted).build()
+        ).getDoctorId();
+    }
+
+    private Statistics flush() {
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        return statistics;
+    }
+}
@@ -0,0 +1,77 @@
+package com.dearbella.server.service.auth;
+
+import com.dearbella.server.domain.Authority;
+import com.dearbella.server.domain.Member;
+import com.dearbella.server.repository.MemberRepository;
+import com.dearbella.server.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class AuthCacheServiceTest {
+    private MemberRepository memberRepository;
+    private AuthCacheService authCacheService;
+    private String secretKey;
+
+    @BeforeEach
+    void setUp() {
+        secretKey = JwtUtil.JWT_SECRET_KEY;
+        JwtUtil.JWT_SECRET_KEY = "ZGVhcmJlbGxhLWF1dGgtY2FjaGUtdGVzdC1zZWNyZXQta2V5LTAxMjM0NTY3ODk=";
+        memberRepository = mock(MemberRepository.class);
+        authCacheService = new AuthCacheServiceImpl(memberRepository, Duration.ofMinutes(10), 100);
+
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(
+                Member.builder()
+                        .memberId(1L)
+                        .authorities(List.of(Authority.builder().authorityName("ROLE_USER").build()))
+                        .build()
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        JwtUtil.JWT_SECRET_KEY = secretKey;
+    }
+
+    @Test
+    void hotMemberSkipsVerificationAndLookup() {
+        final String token = JwtUtil.createJwt(1L);
+
+        for(int i = 0; i < 5; i++) {
+            assertThat(authCacheService.getMemberId(token)).isEqualTo(1L);
+            assertThat(authCacheService.getRole(1L)).isEqualTo("ROLE_USER");
+        }
+
+        verify(memberRepository, times(1)).findById(1L);
+        assertThat(authCacheService.stats().get("token").get("hitCount")).isEqualTo(4L);
+        assertThat(authCacheService.stats().get("role").get("hitCount")).isEqualTo(4L);
+    }
+
+    @Test
+    void evictReloadsMember() {
+        final String token = JwtUtil.createJwt(1L);
+
+        authCacheService.getMemberId(token);
+        authCacheService.getRole(1L);
+        authCacheService.evict(1L);
+
+        assertThat(authCacheService.stats().get("token").get("size")).isEqualTo(0L);
+
+        authCacheService.getRole(1L);
+
+        verify(memberRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void invalidTokenIsNotCached() {
+        assertThat(authCacheService.getMemberId("not.a.token")).isNull();
+        assertThat(authCacheService.stats().get("token").get("size")).isEqualTo(0L);
+    }
+}
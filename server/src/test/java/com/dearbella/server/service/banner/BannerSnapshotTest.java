@@ -0,0 +1,78 @@
+package com.dearbella.server.service.banner;
+
+import com.dearbella.server.controller.FreeController;
+import com.dearbella.server.domain.Banner;
+import com.dearbella.server.exception.banner.BannerNotExistException;
+import com.dearbella.server.repository.*;
+import com.dearbella.server.service.comment.CommentService;
+import com.dearbella.server.service.doctor.DoctorService;
+import com.dearbella.server.service.hospital.HospitalService;
+import com.dearbella.server.service.ip.IpService;
+import com.dearbella.server.service.post.PostService;
+import com.dearbella.server.service.review.ReviewService;
+import com.dearbella.server.vo.BannerSnapshotVo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class BannerSnapshotTest {
+    private BannerRepository bannerRepository;
+    private BannerService bannerService;
+
+    @BeforeEach
+    void setUp() {
+        bannerRepository = mock(BannerRepository.class);
+        bannerService = new BannerServiceImpl(bannerRepository, mock(InfraRepository.class), mock(ImageRepository.class),
+                mock(ReviewRepository.class), mock(HospitalRepository.class), new ObjectMapper(), Duration.ofMinutes(5));
+
+        when(bannerRepository.findBannerByBannerLocation(eq(true), any(Sort.class))).thenReturn(List.of(
+                Banner.builder().bannerId(1L).bannerLink("link").hospitalName("hospital").mainImage("main").build()
+        ));
+        when(bannerRepository.findBannerByBannerLocation(eq(false), any(Sort.class))).thenReturn(List.of());
+    }
+
+    @Test
+    void snapshotIsBuiltOnceAndKeepsItsEtag() {
+        final BannerSnapshotVo first = bannerService.getSnapshot(true);
+        final BannerSnapshotVo second = bannerService.getSnapshot(true);
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.getBody())).contains("\"bannerId\":1", "\"mainImage\":\"main\"");
+        verify(bannerRepository, times(1)).findBannerByBannerLocation(eq(true), any(Sort.class));
+
+        assertThatThrownBy(() -> bannerService.getSnapshot(false)).isInstanceOf(BannerNotExistException.class);
+    }
+
+    @Test
+    void matchingEtagReturnsNotModified() throws Exception {
+        final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new FreeController(
+                mock(CommentService.class), bannerService, mock(ReviewService.class), mock(HospitalService.class),
+                mock(DoctorService.class), mock(IpService.class), mock(PostService.class)
+        )).build();
+
+        final String etag = mockMvc.perform(get("/free/banner").param("location", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/free/banner").param("location", "1").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(bannerRepository, times(1)).findBannerByBannerLocation(eq(true), any(Sort.class));
+    }
+}
@@ -0,0 +1,201 @@
+package com.dearbella.server.service.comment;
+
+import com.dearbella.server.domain.Authority;
+import com.dearbella.server.domain.Comment;
+import com.dearbella.server.domain.CommentLike;
+import com.dearbella.server.domain.Member;
+import com.dearbella.server.domain.NotificationOutbox;
+import com.dearbella.server.domain.Post;
+import com.dearbella.server.domain.Tag;
+import com.dearbella.server.dto.request.comment.CommentAddRequestDto;
+import com.dearbella.server.dto.response.comment.CommentThreadResponseDto;
+import com.dearbella.server.dto.response.cursor.CursorResponseDto;
+import com.dearbella.server.enums.notification.NotificationChannelEnum;
+import com.dearbella.server.repository.*;
+import com.dearbella.server.service.member.MemberSummaryServiceImpl;
+import com.dearbella.server.service.notification.FakeNotificationTransport;
+import com.dearbella.server.service.notification.NotificationServiceImpl;
+import com.dearbella.server.util.MemberContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = "PROFILE=test")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CommentThreadTest {
+    private static final long POST = 1L;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private CommentLikeRepository commentLikeRepository;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private DoctorResponseRepository doctorResponseRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private NotificationOutboxRepository notificationOutboxRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private CommentService commentService;
+    private Statistics statistics;
+    private final List<Long> roots = new ArrayList<>();
+    private final List<Long> replies = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        commentService = new CommentServiceImpl(commentRepository, memberRepository, commentLikeRepository, doctorResponseRepository, postRepository
+                , new MemberSummaryServiceImpl(memberRepository, Duration.ofMinutes(5), 100)
+                , new NotificationServiceImpl(notificationOutboxRepository, Map.of(NotificationChannelEnum.FCM, new FakeNotificationTransport()), transactionManager, 100, 3, Duration.ZERO, Duration.ZERO, Duration.ZERO)
+                , 3);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        final Authority user = em.persist(Authority.builder().authorityName("ROLE_USER").build());
+
+        for(long id = 1; id <= 3; id++)
+            em.persist(Member.builder().memberId(id).nickname("member-" + id).ban(false).authorities(List.of(user)).build());
+
+        for(int i = 0; i < 3; i++)
+            roots.add(persist(null, 1L + i % 3));
+
+        for(int i = 0; i < 10; i++)
+            replies.add(persist(roots.get(0), 1L + i % 3));
+
+        persist(roots.get(1), 2L);
+        em.persist(Comment.builder().id(POST).parentComment(roots.get(0)).memberId(1L).content("deleted").likeNum(0L).deleted(true).build());
+        em.persist(CommentLike.builder().commentId(replies.get(1)).memberId(1L).build());
+
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        MemberContext.setMemberId(request, 1L);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void threadIsBuiltFromFiveQueries() {
+        final CursorResponseDto<CommentThreadResponseDto> thread = commentService.getThread(POST, null, 2L);
+
+        // 최상위, 답글(window), 답글 수, 작성자, 내 좋아요
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5L);
+        assertThat(thread.getItems()).extracting(CommentThreadResponseDto::getCommentId).containsExactly(roots.get(0), roots.get(1));
+        assertThat(thread.getNextCursor()).isNotNull();
+
+        final CommentThreadResponseDto first = thread.getItems().get(0);
+
+        assertThat(first.getReplyNum()).isEqualTo(10L);
+        assertThat(first.getReplies()).extracting(CommentThreadResponseDto::getCommentId).containsExactlyElementsOf(replies.subList(0, 3));
+        assertThat(first.getReplies()).extracting(CommentThreadResponseDto::getLiked).containsExactly(false, true, false);
+        assertThat(first.getReplies().get(0).getContent()).isEqualTo("comment");
+        assertThat(first.getReplyCursor()).isNotNull();
+
+        final CommentThreadResponseDto second = thread.getItems().get(1);
+
+        assertThat(second.getReplyNum()).isEqualTo(1L);
+        assertThat(second.getReplies()).hasSize(1);
+        assertThat(second.getReplyCursor()).isNull();
+
+        final CursorResponseDto<CommentThreadResponseDto> last = commentService.getThread(POST, thread.getNextCursor(), 2L);
+
+        assertThat(last.getItems()).extracting(CommentThreadResponseDto::getCommentId).containsExactly(roots.get(2));
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void remainingRepliesArePagedByCursor() {
+        final String cursor = commentService.getThread(POST, null, 1L).getItems().get(0).getReplyCursor();
+        final CursorResponseDto<CommentThreadResponseDto> page = commentService.getReplies(roots.get(0), cursor, 5L);
+
+        assertThat(page.getItems()).extracting(CommentThreadResponseDto::getCommentId).containsExactlyElementsOf(replies.subList(3, 8));
+
+        final CursorResponseDto<CommentThreadResponseDto> rest = commentService.getReplies(roots.get(0), page.getNextCursor(), 5L);
+
+        assertThat(rest.getItems()).extracting(CommentThreadResponseDto::getCommentId).containsExactlyElementsOf(replies.subList(8, 10));
+        assertThat(rest.getNextCursor()).isNull();
+    }
+
+    @Test
+    void zeroFanOutPagesEveryReplyFromTheStart() {
+        commentService = new CommentServiceImpl(commentRepository, memberRepository, commentLikeRepository, doctorResponseRepository, postRepository
+                , new MemberSummaryServiceImpl(memberRepository, Duration.ofMinutes(5), 100)
+                , new NotificationServiceImpl(notificationOutboxRepository, Map.of(NotificationChannelEnum.FCM, new FakeNotificationTransport()), transactionManager, 100, 3, Duration.ZERO, Duration.ZERO, Duration.ZERO)
+                , 0);
+
+        final CursorResponseDto<CommentThreadResponseDto> thread = commentService.getThread(POST, null, 3L);
+        final CommentThreadResponseDto first = thread.getItems().get(0);
+
+        assertThat(first.getReplies()).isEmpty();
+        assertThat(first.getReplyCursor()).isNotNull();
+        assertThat(thread.getItems().get(2).getReplyCursor()).isNull();
+
+        final CursorResponseDto<CommentThreadResponseDto> page = commentService.getReplies(roots.get(0), first.getReplyCursor(), 5L);
+
+        assertThat(page.getItems()).extracting(CommentThreadResponseDto::getCommentId).containsExactlyElementsOf(replies.subList(0, 5));
+    }
+
+    @Test
+    void deletingTwiceDecrementsCommentNumOnce() {
+        final Tag tag = em.persist(Tag.builder().tagId(1L).tagName("FREE").build());
+        final Post post = em.persist(Post.builder().tag(tag).title("post").memberId(1L).viewNum(0L).commentNum(3L).deleted(false).build());
+        final Long commentId = em.persist(
+                Comment.builder().id(post.getPostId()).memberId(1L).content("comment").likeNum(0L).deleted(false).build()
+        ).getCommentId();
+
+        em.flush();
+        em.clear();
+
+        commentService.deleteComment(commentId);
+        commentService.deleteComment(commentId);
+
+        assertThat(commentRepository.softDelete(commentId)).isZero();
+
+        em.clear();
+
+        assertThat(em.find(Post.class, post.getPostId()).getCommentNum()).isEqualTo(2L);
+    }
+
+    @Test
+    void commentAndItsNotificationAreWrittenTogether() {
+        commentService.addComment(CommentAddRequestDto.builder().postId(POST).content("new").build());
+
+        assertThat(notificationOutboxRepository.findAll())
+                .extracting(NotificationOutbox::getTarget, NotificationOutbox::getBody)
+                .containsExactly(tuple("post-" + POST, "member-1"));
+    }
+
+    private Long persist(final Long parentId, final Long memberId) {
+        return em.persist(
+                Comment.builder().id(POST).parentComment(parentId).memberId(memberId).content("comment").likeNum(0L).deleted(false).build()
+        ).getCommentId();
+    }
+}
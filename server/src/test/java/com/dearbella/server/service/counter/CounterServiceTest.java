@@ -0,0 +1,70 @@
+package com.dearbella.server.service.counter;
+
+import com.dearbella.server.domain.*;
+import com.dearbella.server.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "PROFILE=test")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CounterServiceTest {
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Test
+    void incrementIsNotOverwrittenByEntityUpdate() {
+        final Post post = em.persist(Post.builder().title("t").viewNum(0L).likeNum(0L).commentNum(0L).deleted(false).build());
+        em.flush();
+
+        postRepository.addLikeNum(post.getPostId(), 1L);
+
+        post.setTitle("changed");
+        em.flush();
+        em.clear();
+
+        assertThat(em.find(Post.class, post.getPostId()).getLikeNum()).isEqualTo(1L);
+    }
+
+    @Test
+    void reconcileFixesDriftedCounters() {
+        final Post post = em.persist(Post.builder().title("t").viewNum(0L).likeNum(5L).commentNum(0L).deleted(false).build());
+        final Hospital hospital = em.persist(Hospital.builder().hospitalName("h").viewNum(0L).reviewNum(0L).totalRate(0F).deleted(false).build());
+
+        em.persist(PostLike.builder().postId(post.getPostId()).memberId(1L).build());
+        em.persist(Comment.builder().id(post.getPostId()).memberId(1L).deleted(false).likeNum(0L).build());
+        em.persist(Comment.builder().id(post.getPostId()).memberId(1L).deleted(true).likeNum(0L).build());
+        em.persist(Review.builder().hospitalId(hospital.getHospitalId()).deleted(false).viewNum(0L).likeNum(0L).build());
+        em.persist(Review.builder().hospitalId(hospital.getHospitalId()).deleted(true).viewNum(0L).likeNum(0L).build());
+        em.flush();
+
+        final Map<String, Integer> drifted = new CounterServiceImpl(jdbcTemplate).reconcile();
+        em.clear();
+
+        assertThat(drifted.get("post.like_num")).isEqualTo(1);
+        assertThat(drifted.get("post.comment_num")).isEqualTo(1);
+        assertThat(drifted.get("hospital.review_num")).isEqualTo(1);
+
+        final Post reconciled = em.find(Post.class, post.getPostId());
+
+        assertThat(reconciled.getLikeNum()).isEqualTo(1L);
+        assertThat(reconciled.getCommentNum()).isEqualTo(1L);
+        assertThat(em.find(Hospital.class, hospital.getHospitalId()).getReviewNum()).isEqualTo(1L);
+        assertThat(new CounterServiceImpl(jdbcTemplate).reconcile().values()).containsOnly(0);
+    }
+}
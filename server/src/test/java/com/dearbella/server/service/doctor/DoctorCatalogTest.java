@@ -0,0 +1,158 @@
+package com.dearbella.server.service.doctor;
+
+import com.dearbella.server.domain.Category;
+import com.dearbella.server.domain.Doctor;
+import com.dearbella.server.enums.view.ViewTargetEnum;
+import com.dearbella.server.exception.doctor.CategoryNotFoundException;
+import com.dearbella.server.repository.DoctorRepository;
+import com.dearbella.server.service.view.ViewCountService;
+import com.dearbella.server.vo.DoctorCatalogVo;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "PROFILE=test")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DoctorCatalogTest {
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    private final ViewCountService viewCountService = mock(ViewCountService.class);
+    private DoctorCatalog doctorCatalog;
+    private Statistics statistics;
+    private Long nose;
+    private Long eye;
+    private Long both;
+
+    @BeforeEach
+    void setUp() {
+        doctorCatalog = new DoctorCatalog(doctorRepository, viewCountService, Duration.ofMinutes(1));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        final Category noseCategory = em.persist(Category.builder().categoryNum(1L).categoryName("Nose").build());
+        final Category eyeCategory = em.persist(Category.builder().categoryNum(2L).categoryName("Eye").build());
+
+        nose = persist(List.of(noseCategory), 4.0F, 10L, false);
+        eye = persist(List.of(eyeCategory), 4.5F, 30L, false);
+        both = persist(List.of(noseCategory, eyeCategory), 3.0F, 20L, false);
+        persist(List.of(noseCategory), 5.0F, 100L, true);
+
+        when(viewCountService.getPending(eq(ViewTargetEnum.DOCTOR), any())).thenReturn(0L);
+
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void categoryAndSortAreAnsweredFromMemory() {
+        assertThat(ids(doctorCatalog.find(0L, 0L))).containsExactly(eye, nose, both);
+
+        final long loaded = statistics.getPrepareStatementCount();
+
+        assertThat(ids(doctorCatalog.find(1L, 0L))).containsExactly(nose, both);
+        assertThat(ids(doctorCatalog.find(2L, 1L))).containsExactly(eye, both);
+        assertThat(doctorCatalog.find(3L, 0L)).isEmpty();
+        assertThat(doctorCatalog.find(1L, 0L).get(1).getParts()).extracting(Category::getCategoryNum).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(loaded);
+
+        // 아직 반영 안된 조회수까지 더해서 정렬
+        when(viewCountService.getPending(ViewTargetEnum.DOCTOR, nose)).thenReturn(50L);
+
+        assertThat(ids(doctorCatalog.find(1L, 1L))).containsExactly(nose, both);
+        assertThatThrownBy(() -> doctorCatalog.find(404L, 0L)).isInstanceOf(CategoryNotFoundException.class);
+    }
+
+    @Test
+    void invalidateReloadsOnNextRead() {
+        assertThat(ids(doctorCatalog.find(0L, 0L))).containsExactly(eye, nose, both);
+
+        final Doctor doctor = em.find(Doctor.class, both);
+
+        doctor.setDeleted(true);
+        em.flush();
+        doctorCatalog.invalidate();
+
+        assertThat(ids(doctorCatalog.find(0L, 0L))).containsExactly(eye, nose);
+    }
+
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        final DoctorRepository slowRepository = mock(DoctorRepository.class);
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger loads = new AtomicInteger();
+
+        doAnswer(invocation -> {
+            loads.incrementAndGet();
+            entered.countDown();
+            release.await();
+
+            return List.of();
+        }).when(slowRepository).findWithCategoriesByDeletedFalse();
+
+        final DoctorCatalog catalog = new DoctorCatalog(slowRepository, viewCountService, Duration.ofMinutes(1));
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<DoctorCatalogVo>>> futures = new ArrayList<>();
+
+        futures.add(executor.submit(() -> catalog.find(0L, 0L)));
+        entered.await();
+
+        // 첫 요청이 읽는 동안 들어온 요청은 기다렸다가 그 결과를 쓴다
+        for(int i = 0; i < 7; i++)
+            futures.add(executor.submit(() -> catalog.find(0L, 0L)));
+
+        Thread.sleep(100);
+        release.countDown();
+
+        for(Future<List<DoctorCatalogVo>> future: futures)
+            assertThat(future.get()).isEmpty();
+
+        executor.shutdown();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    private Long persist(final List<Category> categories, final Float totalRate, final Long viewNum, final Boolean deleted) {
+        return em.persist(
+                Doctor.builder().doctorName("doctor").hospitalName("hospital").categories(categories)
+                        .totalRate(totalRate).viewNum(viewNum).reviewNum(0L).rateSum(0D).deleted(deleted).build()
+        ).getDoctorId();
+    }
+
+    private static List<Long> ids(final List<DoctorCatalogVo> doctors) {
+        return doctors.stream().map(DoctorCatalogVo::getDoctorId).collect(Collectors.toList());
+    }
+}
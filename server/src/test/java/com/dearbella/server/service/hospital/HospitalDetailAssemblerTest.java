@@ -0,0 +1,149 @@
+package com.dearbella.server.service.hospital;
+
+import com.dearbella.server.domain.*;
+import com.dearbella.server.dto.response.doctor.DoctorResponseDto;
+import com.dearbella.server.dto.response.hospital.HospitalDetailResponseDto;
+import com.dearbella.server.repository.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "PROFILE=test")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class HospitalDetailAssemblerTest {
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private HospitalMemberRepository hospitalMemberRepository;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private DoctorMemberRepository doctorMemberRepository;
+
+    private HospitalDetailAssembler assembler;
+
+    @BeforeEach
+    void setUp() {
+        assembler = new HospitalDetailAssembler(
+                hospitalRepository,
+                hospitalMemberRepository,
+                doctorRepository,
+                reviewRepository,
+                doctorMemberRepository
+        );
+    }
+
+    @Test
+    void detailRunsFixedStatementsRegardlessOfDoctorsAndReviews() {
+        final Category nose = em.persist(Category.builder().categoryNum(1L).categoryName("Nose").build());
+
+        final long small = countStatements(seed("small", 2, 3, nose));
+        final long large = countStatements(seed("large", 30, 90, nose));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void detailFillsDoctorCountsAndWishes() {
+        final Category nose = em.persist(Category.builder().categoryNum(1L).categoryName("Nose").build());
+        final Long hospitalId = seed("detail", 2, 4, nose);
+        final List<Doctor> doctors = doctorRepository.findByHospitalName("detail");
+
+        em.persist(DoctorMember.builder().doctorId(doctors.get(0).getDoctorId()).memberId(7L).build());
+        em.persist(HospitalMember.builder().hospitalId(hospitalId).memberId(7L).build());
+        em.flush();
+        em.clear();
+
+        final HospitalDetailResponseDto detail = assembler.assemble(hospitalId, 7L);
+
+        assertThat(detail.getIsMine()).isTrue();
+        assertThat(detail.getReviewNum()).isEqualTo(4L);
+        assertThat(detail.getReviews()).hasSize(4);
+        assertThat(detail.getBanners()).hasSize(1);
+        assertThat(detail.getDoctors()).hasSize(2);
+
+        for(DoctorResponseDto doctor: detail.getDoctors()) {
+            assertThat(doctor.getReviewNum()).isEqualTo(2L);
+            assertThat(doctor.getParts()).hasSize(1);
+            assertThat(doctor.getIsMine()).isEqualTo(doctor.getDoctorId().equals(doctors.get(0).getDoctorId()));
+        }
+    }
+
+    private long countStatements(Long hospitalId) {
+        em.flush();
+        em.clear();
+
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assembler.assemble(hospitalId, 7L);
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long seed(String name, int doctorCount, int reviewCount, Category category) {
+        final Image banner = em.persist(Image.builder().imageUrl("banner").memberId(1L).build());
+        final Hospital hospital = em.persist(
+                Hospital.builder()
+                        .hospitalName(name)
+                        .banners(List.of(banner))
+                        .totalRate(0F)
+                        .viewNum(0L)
+                        .reviewNum((long) reviewCount)
+                        .deleted(false)
+                        .build()
+        );
+
+        for(int i = 0; i < doctorCount; i++) {
+            final Doctor doctor = em.persist(
+                    Doctor.builder()
+                            .doctorName("doctor-" + i)
+                            .hospitalName(name)
+                            .categories(List.of(category))
+                            .totalRate(0F)
+                            .viewNum(0L)
+                            .reviewNum((long) (reviewCount / doctorCount))
+                            .deleted(false)
+                            .build()
+            );
+
+            for(int j = 0; j < reviewCount / doctorCount; j++) {
+                em.persist(
+                        Review.builder()
+                                .hospitalId(hospital.getHospitalId())
+                                .doctorId(doctor.getDoctorId())
+                                .deleted(false)
+                                .rate(5F)
+                                .viewNum(0L)
+                                .build()
+                );
+            }
+        }
+
+        return hospital.getHospitalId();
+    }
+}
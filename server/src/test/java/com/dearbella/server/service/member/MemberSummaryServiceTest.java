@@ -0,0 +1,85 @@
+package com.dearbella.server.service.member;
+
+import com.dearbella.server.domain.Authority;
+import com.dearbella.server.domain.Member;
+import com.dearbella.server.repository.MemberRepository;
+import com.dearbella.server.vo.MemberSummaryVo;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "PROFILE=test")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MemberSummaryServiceTest {
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private MemberSummaryService memberSummaryService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        memberSummaryService = new MemberSummaryServiceImpl(memberRepository, Duration.ofMinutes(5), 100);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        final Authority user = em.persist(Authority.builder().authorityName("ROLE_USER").build());
+
+        for(long id = 1; id <= 20; id++)
+            em.persist(Member.builder().memberId(id).nickname("member-" + id).profileImg("img-" + id).ban(false).authorities(List.of(user)).build());
+
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void pageOfAuthorsIsOneQueryAndThenCached() {
+        final Map<Long, MemberSummaryVo> first = memberSummaryService.findAll(List.of(1L, 2L, 3L, 1L, 20L, 404L));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(first).containsOnlyKeys(1L, 2L, 3L, 20L);
+        assertThat(first.get(20L).getNickname()).isEqualTo("member-20");
+
+        memberSummaryService.findAll(List.of(1L, 2L, 3L));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+
+        // 캐시에 없는 것만 다시 읽는다
+        memberSummaryService.findAll(List.of(1L, 4L, 5L));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void evictReloadsChangedProfile() {
+        memberSummaryService.findAll(List.of(1L));
+
+        memberRepository.findById(1L).orElseThrow().setNickname("renamed");
+        em.flush();
+        em.clear();
+
+        assertThat(memberSummaryService.findById(1L).getNickname()).isEqualTo("member-1");
+
+        memberSummaryService.evict(1L);
+
+        assertThat(memberSummaryService.findById(1L).getNickname()).isEqualTo("renamed");
+    }
+}
@@ -0,0 +1,149 @@
+package com.dearbella.server.service.member;
+
+import com.dearbella.server.domain.*;
+import com.dearbella.server.enums.member.WithdrawalStepEnum;
+import com.dearbella.server.repository.*;
+import com.dearbella.server.vo.ReviewRatingVo;
+import com.dearbella.server.vo.TargetCountVo;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "PROFILE=test")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class WithdrawalServiceTest {
+    private static final long MEMBER = 1L;
+    private static final long OTHER = 2L;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired private MemberWithdrawalRepository memberWithdrawalRepository;
+    @Autowired private PostLikeRepository postLikeRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private ReviewLikeRepository reviewLikeRepository;
+    @Autowired private ReviewRepository reviewRepository;
+    @Autowired private CommentLikeRepository commentLikeRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private DoctorMemberRepository doctorMemberRepository;
+    @Autowired private HospitalMemberRepository hospitalMemberRepository;
+    @Autowired private MemberIpRepository memberIpRepository;
+
+    private WithdrawalService withdrawalService;
+    private Statistics statistics;
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        withdrawalService = new WithdrawalServiceImpl(memberWithdrawalRepository, postLikeRepository, postRepository, reviewLikeRepository
+                , reviewRepository, commentLikeRepository, commentRepository, doctorMemberRepository, hospitalMemberRepository
+                , memberIpRepository, 10, 2);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for(int i = 0; i < 5; i++) {
+            final Post post = em.persist(Post.builder().title("post " + i).memberId(MEMBER).likeNum(2L).commentNum(2L).deleted(false).build());
+
+            postIds.add(post.getPostId());
+            em.persist(PostLike.builder().postId(post.getPostId()).memberId(MEMBER).build());
+            em.persist(PostLike.builder().postId(post.getPostId()).memberId(OTHER).build());
+            em.persist(Comment.builder().id(post.getPostId()).memberId(MEMBER).deleted(false).build());
+            em.persist(Comment.builder().id(post.getPostId()).memberId(MEMBER).deleted(false).build());
+        }
+
+        for(long doctorId = 1; doctorId <= 3; doctorId++)
+            em.persist(DoctorMember.builder().doctorId(doctorId).memberId(MEMBER).build());
+
+        em.persist(Review.builder().memberId(MEMBER).doctorId(1L).hospitalId(1L).rate(4F).deleted(false).build());
+        em.persist(Review.builder().memberId(MEMBER).doctorId(1L).hospitalId(1L).rate(2F).deleted(false).build());
+        em.persist(Review.builder().memberId(MEMBER).doctorId(2L).hospitalId(1L).rate(null).deleted(false).build());
+        em.persist(MemberIp.builder().memberId(MEMBER).ip("127.0.0.1").build());
+
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void softDeleteIsOneStatementPerTable() {
+        final List<TargetCountVo> comments = commentRepository.countActiveByMemberId(MEMBER);
+        final List<ReviewRatingVo> ratings = reviewRepository.sumRatingByMemberId(MEMBER);
+
+        assertThat(comments).hasSize(5).allMatch(count -> count.getCount() == 2L);
+        assertThat(ratings).hasSize(2);
+        assertThat(ratings).anyMatch(rating -> rating.getDoctorId() == 1L && rating.getCount() == 2L && rating.getRateSum() == 6.0);
+        assertThat(ratings).anyMatch(rating -> rating.getDoctorId() == 2L && rating.getCount() == 1L && rating.getRateSum() == 0.0);
+
+        statistics.clear();
+
+        assertThat(commentRepository.softDeleteByMemberId(MEMBER)).isEqualTo(10);
+        assertThat(reviewRepository.softDeleteByMemberId(MEMBER)).isEqualTo(3);
+        assertThat(postRepository.softDeleteByMemberId(MEMBER)).isEqualTo(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void cascadeRunsInChunksUntilDone() {
+        final Long withdrawalId = withdrawalService.enqueue(MEMBER).getWithdrawalId();
+        int runs = 0;
+
+        while(WithdrawalStepEnum.findByValue(memberWithdrawalRepository.findById(withdrawalId).orElseThrow().getStep()) != WithdrawalStepEnum.DONE) {
+            withdrawalService.process();
+            em.flush();
+            em.clear();
+
+            runs++;
+        }
+
+        final MemberWithdrawal withdrawal = withdrawalService.findByMemberId(MEMBER);
+
+        // post like 5(2 + 2 + 1), doctor wish 3(2 + 1), 나머지 단계는 한 번씩
+        assertThat(runs).isEqualTo(3 + 2 + 1 + 1 + 1 + 1);
+        assertThat(withdrawal.getProcessed()).isEqualTo(5L + 3L + 1L);
+        assertThat(withdrawal.getFinishedAt()).isNotNull();
+        assertThat(postLikeRepository.findAll()).hasSize(5).allMatch(like -> like.getMemberId() == OTHER);
+        assertThat(doctorMemberRepository.findAll()).isEmpty();
+        assertThat(memberIpRepository.findAll()).isEmpty();
+
+        for(Long postId: postIds)
+            assertThat(postRepository.findById(postId).orElseThrow().getLikeNum()).isEqualTo(1L);
+
+        assertThat(withdrawalService.findPending(0L)).isEmpty();
+    }
+
+    @Test
+    void likeCountsDropWithOneUpdatePerChunk() {
+        withdrawalService = new WithdrawalServiceImpl(memberWithdrawalRepository, postLikeRepository, postRepository, reviewLikeRepository
+                , reviewRepository, commentLikeRepository, commentRepository, doctorMemberRepository, hospitalMemberRepository
+                , memberIpRepository, 10, 5);
+        withdrawalService.enqueue(MEMBER);
+        em.flush();
+        statistics.clear();
+
+        assertThat(withdrawalService.process()).isEqualTo(5);
+        em.flush();
+
+        // 대기 작업 select, 좋아요 select, like_num update, like delete, 작업 update, 좋아요 수와 상관없다
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5L);
+
+        em.clear();
+
+        for(Long postId: postIds)
+            assertThat(postRepository.findById(postId).orElseThrow().getLikeNum()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,176 @@
+package com.dearbella.server.service.notification;
+
+import com.dearbella.server.domain.NotificationOutbox;
+import com.dearbella.server.enums.notification.NotificationChannelEnum;
+import com.dearbella.server.enums.notification.NotificationStatusEnum;
+import com.dearbella.server.repository.NotificationOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "PROFILE=test")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class NotificationServiceTest {
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private FakeNotificationTransport fake;
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        fake = new FakeNotificationTransport();
+        notificationService = new NotificationServiceImpl(
+                notificationOutboxRepository,
+                Map.of(NotificationChannelEnum.FCM, fake, NotificationChannelEnum.MAIL, fake),
+                transactionManager, 100, 3, Duration.ZERO, Duration.ZERO, Duration.ofMinutes(5)
+        );
+    }
+
+    @Test
+    void enqueuedNotificationsAreSentInOneDispatch() {
+        for(int i = 0; i < 5; i++)
+            notificationService.enqueueTopic("post", "member" + i, "post-" + i);
+
+        notificationService.enqueueMail("member@dearbella.com");
+
+        assertThat(fake.getSent()).isEmpty();
+        assertThat(notificationService.dispatch()).isEqualTo(6);
+        assertThat(fake.getSent()).hasSize(6);
+        assertThat(notificationService.dispatch()).isZero();
+    }
+
+    @Test
+    void failingNotificationIsRetriedThenDeadLettered() {
+        final NotificationOutbox bad = notificationService.enqueueTopic("review", "member", "review-1");
+        notificationService.enqueueTopic("review", "member", "review-2");
+
+        fake.setFailWhen(notification -> notification.getTarget().equals("review-1"));
+
+        assertThat(notificationService.dispatch()).isEqualTo(1);
+        assertThat(notificationService.dispatch()).isZero();
+        assertThat(notificationService.dispatch()).isZero();
+
+        final NotificationOutbox dead = notificationOutboxRepository.findById(bad.getOutboxId()).get();
+
+        assertThat(dead.getStatus()).isEqualTo(NotificationStatusEnum.DEAD.getValue());
+        assertThat(dead.getAttempts()).isEqualTo(3);
+        assertThat(dead.getLastError()).isEqualTo("fake failure");
+        assertThat(notificationService.findDead(0L)).hasSize(1);
+
+        fake.setFailWhen(notification -> false);
+
+        assertThat(notificationService.retryDead()).isEqualTo(1);
+    }
+
+    @Test
+    void failedNotificationWaitsForBackoff() {
+        notificationService = new NotificationServiceImpl(
+                notificationOutboxRepository,
+                Map.of(NotificationChannelEnum.FCM, fake, NotificationChannelEnum.MAIL, fake),
+                transactionManager, 100, 3, Duration.ofMinutes(1), Duration.ofMinutes(10), Duration.ofMinutes(5)
+        );
+
+        notificationService.enqueueTopic("post", "member", "post-1");
+        fake.setFailWhen(notification -> true);
+
+        notificationService.dispatch();
+        fake.setFailWhen(notification -> false);
+
+        // 1분 뒤에나 다시 보낸다
+        assertThat(notificationService.dispatch()).isZero();
+        assertThat(fake.getSent()).isEmpty();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void sendsOutsideTransactionAndReclaimsAfterLease() {
+        Map<String, Boolean> inTransaction = new ConcurrentHashMap<>();
+        NotificationTransport transport = notifications -> {
+            for(NotificationOutbox notification: notifications)
+                inTransaction.put(notification.getTarget(), TransactionSynchronizationManager.isActualTransactionActive());
+
+            return fake.send(notifications);
+        };
+
+        notificationService = new NotificationServiceImpl(
+                notificationOutboxRepository,
+                Map.of(NotificationChannelEnum.FCM, transport, NotificationChannelEnum.MAIL, transport),
+                transactionManager, 100, 3, Duration.ZERO, Duration.ZERO, Duration.ZERO
+        );
+
+        try {
+            final NotificationOutbox sent = notificationService.enqueueTopic("post", "member", "post-1");
+
+            assertThat(notificationService.dispatch()).isEqualTo(1);
+            assertThat(inTransaction).containsEntry("post-1", false);
+            assertThat(notificationOutboxRepository.findById(sent.getOutboxId()).get().getStatus())
+                    .isEqualTo(NotificationStatusEnum.SENT.getValue());
+
+            // 잡아 두고 결과를 못 쓴 채 서버가 죽은 row
+            final NotificationOutbox stuck = notificationService.enqueueTopic("post", "member", "post-2");
+
+            stuck.setStatus(NotificationStatusEnum.IN_FLIGHT.getValue());
+            stuck.setAttempts(1);
+            notificationOutboxRepository.save(stuck);
+
+            assertThat(notificationService.dispatch()).isEqualTo(1);
+            assertThat(notificationOutboxRepository.findById(stuck.getOutboxId()).get().getAttempts()).isEqualTo(2);
+        } finally {
+            notificationOutboxRepository.deleteAll();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void resultIsDroppedWhenRowWasReclaimedDuringSend() {
+        // 보내는 사이 lease 가 지나 다른 dispatcher 가 같은 row 를 다시 잡는다
+        NotificationTransport transport = notifications -> {
+            for(NotificationOutbox notification: notifications)
+                jdbcTemplate.update("UPDATE notification_outbox SET attempts = attempts + 1 WHERE outbox_id = ?", notification.getOutboxId());
+
+            return fake.send(notifications);
+        };
+
+        notificationService = new NotificationServiceImpl(
+                notificationOutboxRepository,
+                Map.of(NotificationChannelEnum.FCM, transport, NotificationChannelEnum.MAIL, transport),
+                transactionManager, 100, 3, Duration.ZERO, Duration.ZERO, Duration.ofMinutes(5)
+        );
+
+        try {
+            final NotificationOutbox reclaimed = notificationService.enqueueTopic("post", "member", "post-1");
+
+            assertThat(notificationService.dispatch()).isZero();
+
+            final NotificationOutbox row = notificationOutboxRepository.findById(reclaimed.getOutboxId()).get();
+
+            assertThat(row.getStatus()).isEqualTo(NotificationStatusEnum.IN_FLIGHT.getValue());
+            assertThat(row.getAttempts()).isEqualTo(2);
+            assertThat(row.getSentAt()).isNull();
+        } finally {
+            notificationOutboxRepository.deleteAll();
+        }
+    }
+}
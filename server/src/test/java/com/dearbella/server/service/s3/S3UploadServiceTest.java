@@ -0,0 +1,190 @@
+package com.dearbella.server.service.s3;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.*;
+import com.dearbella.server.vo.UploadGroupVo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class S3UploadServiceTest {
+    private final LocalS3 s3 = new LocalS3();
+    private S3UploadServiceImpl s3UploadService;
+
+    @AfterEach
+    void tearDown() {
+        if(s3UploadService != null)
+            s3UploadService.shutdown();
+    }
+
+    @Test
+    void tenImageReviewUploadsConcurrentlyInInputOrder() throws IOException {
+        s3UploadService = new S3UploadServiceImpl(s3, "bucket", 8, 16 * 1024 * 1024, new SimpleMeterRegistry());
+
+        List<MultipartFile> files = new ArrayList<>();
+
+        for(int i = 0; i < 10; i++)
+            files.add(new MockMultipartFile("befores", "image" + i + ".jpeg", "image/jpeg", new byte[64 * 1024]));
+
+        final List<String> urls = s3UploadService.uploadAll(files, "dearbella/review/before");
+
+        assertThat(s3.maxInFlight.get()).isGreaterThan(1);
+        assertThat(s3.objects).hasSize(10);
+        assertThat(s3.listCalls.get()).isZero();
+
+        for(int i = 0; i < 10; i++)
+            assertThat(urls.get(i)).isEqualTo("https://bucket.local/dearbella/review/before/image" + i + ".jpeg");
+    }
+
+    @Test
+    void groupsAreUploadedAsOneBatch() throws IOException {
+        s3UploadService = new S3UploadServiceImpl(s3, "bucket", 8, 16 * 1024 * 1024, new SimpleMeterRegistry());
+
+        // 묶음마다 한 장씩이라 묶음끼리 겹쳐야만 동시에 두 장이 올라간다
+        final List<List<String>> urls = s3UploadService.uploadAll(List.of(
+                UploadGroupVo.of(List.of(image("before.jpeg")), "dearbella/hospital/before"),
+                UploadGroupVo.of(null, "dearbella/hospital/after"),
+                UploadGroupVo.of(List.of(image("banner.png")), "dearbella/hospital/banner")
+        ));
+
+        assertThat(s3.maxInFlight.get()).isGreaterThan(1);
+        assertThat(urls).containsExactly(
+                List.of("https://bucket.local/dearbella/hospital/before/before.jpeg"),
+                List.of(),
+                List.of("https://bucket.local/dearbella/hospital/banner/banner.png")
+        );
+    }
+
+    @Test
+    void largeFileUsesMultipartUpload() throws IOException {
+        s3UploadService = new S3UploadServiceImpl(s3, "bucket", 4, 1024, new SimpleMeterRegistry());
+
+        final List<String> urls = s3UploadService.uploadAll(
+                List.of(new MockMultipartFile("images", "large.png", "image/png", new byte[6 * 1024 * 1024])),
+                "dearbella/post"
+        );
+
+        assertThat(urls).containsExactly("https://bucket.local/dearbella/post/large.png");
+        assertThat(s3.parts.get()).isGreaterThan(1);
+        assertThat(s3.objects.get("dearbella/post/large.png")).isEqualTo(6L * 1024 * 1024);
+    }
+
+    private MultipartFile image(final String name) {
+        return new MockMultipartFile("images", name, "image/png", new byte[1024]);
+    }
+
+    /**
+     * 받은 바이트 수와 동시에 진행 중인 putObject 수만 기록하는 S3 대역
+     * putObject 는 다른 putObject 하나가 들어올 때까지 기다리므로, 동시에 올리지 않으면 maxInFlight 가 1 로 남는다
+     * */
+    private static class LocalS3 extends AbstractAmazonS3 {
+        private final CountDownLatch overlap = new CountDownLatch(2);
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final Map<String, Long> objects = new ConcurrentHashMap<>();
+        private final Map<String, Long> multipart = new ConcurrentHashMap<>();
+        private final AtomicInteger parts = new AtomicInteger();
+        private final AtomicInteger listCalls = new AtomicInteger();
+
+        @Override
+        public PutObjectResult putObject(final PutObjectRequest request) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            overlap.countDown();
+
+            try {
+                overlap.await(5, TimeUnit.SECONDS);
+                objects.put(request.getKey(), drain(request.getInputStream()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+
+            return new PutObjectResult();
+        }
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(final InitiateMultipartUploadRequest request) {
+            InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+            result.setBucketName(request.getBucketName());
+            result.setKey(request.getKey());
+            result.setUploadId("upload-" + request.getKey());
+
+            multipart.put(request.getKey(), 0L);
+
+            return result;
+        }
+
+        @Override
+        public UploadPartResult uploadPart(final UploadPartRequest request) {
+            multipart.merge(request.getKey(), drain(request.getInputStream()), Long::sum);
+            parts.incrementAndGet();
+
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+
+            return result;
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(final CompleteMultipartUploadRequest request) {
+            objects.put(request.getKey(), multipart.remove(request.getKey()));
+
+            return new CompleteMultipartUploadResult();
+        }
+
+        @Override
+        public void abortMultipartUpload(final AbortMultipartUploadRequest request) {
+            multipart.remove(request.getKey());
+        }
+
+        @Override
+        public ListObjectsV2Result listObjectsV2(final String bucketName) {
+            listCalls.incrementAndGet();
+
+            return new ListObjectsV2Result();
+        }
+
+        @Override
+        public URL getUrl(final String bucketName, final String key) {
+            try {
+                return new URL("https://" + bucketName + ".local/" + key);
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        private long drain(final InputStream inputStream) {
+            try {
+                long size = 0;
+                final byte[] buffer = new byte[8192];
+                int read;
+
+                while((read = inputStream.read(buffer)) != -1)
+                    size += read;
+
+                return size;
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.dearbella.server.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchIndexTest {
+    @Test
+    void matchesKoreanSubstringsAndRanksPrimaryFieldFirst() {
+        SearchIndex index = new SearchIndex();
+
+        index.put(1L, "디어벨라 성형외과", "강남역 코 성형 전문");
+        index.put(2L, "강남 피부과", "디어벨라 협력 병원");
+        index.put(3L, "서울 치과", "임플란트");
+
+        assertThat(index.search("디어벨라", 0, 10)).containsExactly(1L, 2L);
+        assertThat(index.search("성형", 0, 10)).containsExactly(1L);
+        assertThat(index.search("강남 성형", 0, 10)).containsExactly(1L);
+        assertThat(index.search("코", 0, 10)).containsExactly(1L);
+        assertThat(index.search("없는병원", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void putReplacesAndRemoveDrops() {
+        SearchIndex index = new SearchIndex();
+
+        index.put(1L, "dear bella", null);
+        index.put(1L, "other name", null);
+
+        assertThat(index.search("bella", 0, 10)).isEmpty();
+        assertThat(index.search("other", 0, 10)).containsExactly(1L);
+
+        index.remove(1L);
+
+        assertThat(index.search("other", 0, 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void pagesThroughRankedResults() {
+        SearchIndex index = new SearchIndex();
+
+        for(long id = 1; id <= 25; id++)
+            index.put(id, "병원 " + id);
+
+        assertThat(index.search("병원", 0, 10)).hasSize(10).startsWith(25L);
+        assertThat(index.search("병원", 20, 10)).hasSize(5).endsWith(1L);
+    }
+}
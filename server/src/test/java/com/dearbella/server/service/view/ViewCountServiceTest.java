@@ -0,0 +1,97 @@
+package com.dearbella.server.service.view;
+
+import com.dearbella.server.domain.Doctor;
+import com.dearbella.server.enums.view.ViewTargetEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "PROFILE=test")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ViewCountServiceTest {
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentViewsAreFlushedWithoutLoss() throws Exception {
+        final Doctor doctor = em.persist(Doctor.builder().doctorName("doctor").viewNum(10L).totalRate(0F).deleted(false).build());
+        em.flush();
+
+        final ViewCountService viewCountService = new ViewCountServiceImpl(jdbcTemplate);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for(int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                for(int j = 0; j < 1000; j++)
+                    viewCountService.increase(ViewTargetEnum.DOCTOR, doctor.getDoctorId());
+            }));
+        }
+
+        for(Future<?> future: futures)
+            future.get();
+
+        executor.shutdown();
+
+        assertThat(viewCountService.getPending(ViewTargetEnum.DOCTOR, doctor.getDoctorId())).isEqualTo(8000L);
+        assertThat(viewCountService.flush()).isEqualTo(1);
+        assertThat(viewCountService.getPending(ViewTargetEnum.DOCTOR, doctor.getDoctorId())).isZero();
+        assertThat(viewCountService.flush()).isZero();
+
+        final Long viewNum = jdbcTemplate.queryForObject(
+                "SELECT view_num FROM doctor WHERE doctor_id = ?", Long.class, doctor.getDoctorId()
+        );
+
+        assertThat(viewNum).isEqualTo(8010L);
+    }
+
+    @Test
+    void viewsArrivingDuringFlushAreNotLost() throws Exception {
+        final Doctor doctor = em.persist(Doctor.builder().doctorName("doctor").viewNum(0L).totalRate(0F).deleted(false).build());
+        em.flush();
+
+        final ViewCountService viewCountService = new ViewCountServiceImpl(jdbcTemplate);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for(int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                for(int j = 0; j < 20000; j++)
+                    viewCountService.increase(ViewTargetEnum.DOCTOR, doctor.getDoctorId());
+            }));
+        }
+
+        // 워커가 도는 동안 flush 가 adder 를 비우고 지우기를 반복한다
+        while(!futures.stream().allMatch(Future::isDone))
+            viewCountService.flush();
+
+        for(Future<?> future: futures)
+            future.get();
+
+        executor.shutdown();
+        viewCountService.flush();
+
+        final Long viewNum = jdbcTemplate.queryForObject(
+                "SELECT view_num FROM doctor WHERE doctor_id = ?", Long.class, doctor.getDoctorId()
+        );
+
+        assertThat(viewNum).isEqualTo(160000L);
+        assertThat(viewCountService.getPending(ViewTargetEnum.DOCTOR, doctor.getDoctorId())).isZero();
+    }
+}
@@ -0,0 +1,53 @@
+package com.dearbella.server.util;
+
+import com.dearbella.server.exception.token.TokenNotFoundException;
+import com.dearbella.server.service.auth.AuthCacheService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class MemberContextFilterTest {
+    private final AuthCacheService authCacheService = mock(AuthCacheService.class);
+    private final MemberContextFilter filter = new MemberContextFilter(authCacheService);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void resolvesMemberOncePerRequest() throws Exception {
+        when(authCacheService.getMemberId("token")).thenReturn(7L);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/free/hospital");
+        request.addHeader("Authorization", "Bearer token");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        for(int i = 0; i < 3; i++)
+            assertThat(MemberContext.getMemberId()).isEqualTo(7L);
+
+        verify(authCacheService, times(1)).getMemberId("token");
+    }
+
+    @Test
+    void anonymousRequestHasNoMember() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/free/hospital");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assertThat(MemberContext.findMemberId()).isNull();
+        assertThatThrownBy(MemberContext::getMemberId).isInstanceOf(TokenNotFoundException.class);
+        verifyNoInteractions(authCacheService);
+    }
+}
@@ -0,0 +1,101 @@
+package com.dearbella.server.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReplicationRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(h2("routing_primary"));
+        replica = new JdbcTemplate(h2("routing_replica"));
+
+        primary.execute("create table node (name varchar(16))");
+        primary.execute("insert into node values ('primary')");
+        replica.execute("create table node (name varchar(16))");
+        replica.execute("insert into node values ('replica')");
+        // 복제 상태 대신 지연 값을 직접 바꿀 수 있는 테이블
+        replica.execute("create table replica_status (seconds_behind_source int)");
+        replica.execute("insert into replica_status values (0)");
+
+        routing = new ReplicationRoutingDataSource(primary.getDataSource(), Map.of("replica-1", replica.getDataSource()),
+                Duration.ofSeconds(5), "select seconds_behind_source from replica_status");
+        routing.afterPropertiesSet();
+        routing.bindTo(meterRegistry);
+
+        final LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.execute("drop all objects");
+        replica.execute("drop all objects");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        assertThat(node(readOnly)).isEqualTo("replica");
+        assertThat(node(readWrite)).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        replica.update("update replica_status set seconds_behind_source = 30");
+        routing.checkLag();
+
+        assertThat(routing.getHealthyReplicas()).isEmpty();
+        assertThat(node(readOnly)).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.replica.fallback").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("datasource.replica.lag").tag("pool", "replica-1").gauge().value()).isEqualTo(30.0);
+
+        // 복제가 멈추면 NULL
+        replica.update("update replica_status set seconds_behind_source = null");
+        routing.checkLag();
+
+        assertThat(meterRegistry.get("datasource.replica.lag").tag("pool", "replica-1").gauge().value()).isEqualTo(-1.0);
+
+        replica.update("update replica_status set seconds_behind_source = 1");
+        routing.checkLag();
+
+        assertThat(node(readOnly)).isEqualTo("replica");
+    }
+
+    private String node(final TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private static DataSource h2(final String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
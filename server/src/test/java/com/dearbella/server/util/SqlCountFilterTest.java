@@ -0,0 +1,52 @@
+package com.dearbella.server.util;
+
+import com.dearbella.server.repository.MemberRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "PROFILE=test",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.dearbella.server.util.SqlStatementCounter"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SqlCountFilterTest {
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void recordsStatementsOfOneRequestByUriPattern() throws Exception {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final SqlCountFilter filter = new SqlCountFilter(meterRegistry, 2);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/free/post/detail/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/free/post/detail/{id}");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            for(long id = 1; id <= 3; id++)
+                memberRepository.findById(id);
+        });
+
+        final DistributionSummary summary = meterRegistry.get("http.server.requests.sql")
+                .tag("method", "GET")
+                .tag("uri", "/free/post/detail/{id}")
+                .summary();
+
+        assertThat(summary.count()).isEqualTo(1L);
+        assertThat(summary.totalAmount()).isEqualTo(3.0);
+
+        // 요청 밖의 statement 는 세지 않는다
+        memberRepository.findById(4L);
+        assertThat(SqlStatementCounter.stop()).isZero();
+    }
+}
@@ -0,0 +1,44 @@
+package com.dearbella.server.util;
+
+import com.dearbella.server.config.SqlLogConfig;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {"PROFILE=test", "sql-log.enabled=true"})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SqlLogConfig.class)
+class SqlLogListenerTest {
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void enabledWrapsDataSource() {
+        assertThat(dataSource).isInstanceOf(ProxyDataSource.class);
+    }
+
+    @Test
+    void onlySlowStatementsWithoutSampling() {
+        final SqlLogListener listener = new SqlLogListener(200, 0);
+        final ExecutionInfo fast = new ExecutionInfo();
+        final ExecutionInfo slow = new ExecutionInfo();
+
+        fast.setElapsedTime(5);
+        slow.setElapsedTime(250);
+
+        assertThat(listener.isSlow(fast)).isFalse();
+        assertThat(listener.isSlow(slow)).isTrue();
+        assertThat(listener.isSampled()).isFalse();
+        assertThat(new SqlLogListener(200, 1.0).isSampled()).isTrue();
+    }
+}